@@ -0,0 +1,190 @@
+package net.jockx.fluentpage.benchmarks;
+
+import net.jockx.fluentpage.MessageSupplier;
+import net.jockx.fluentpage.Page;
+import net.jockx.fluentpage.testing.FakeWebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testng.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passing {@link net.jockx.fluentpage.Assertion} calls on data sets of the size scraped from result pages.
+ * Row by row comparisons with {@code -prof gc} show the allocations of eagerly built messages, which
+ * a {@link MessageSupplier} avoids, and {@code assertEqualsIteratorTestNg} those of TestNG, which formats a message
+ * for every element compared.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionBenchmark {
+
+    public static class ResultsPage extends Page<ResultsPage> {
+    }
+
+    private static final int FRAGMENTS = 40;
+
+    @Param({"100", "5000"})
+    private int size;
+
+    private ResultsPage page;
+    private List<String> actual;
+    private List<String> expected;
+    private Object[] actualArray;
+    private Object[] shuffledArray;
+    private String text;
+    private String fragment;
+    private String[] fragments;
+    private final RowMessage rowMessage = new RowMessage();
+
+    @Setup
+    public void setUp() {
+        Page.initialize(new FakeWebDriver());
+        page = Page.get(ResultsPage.class);
+        actual = new ArrayList<>(size);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            actual.add("result " + i);
+            content.append("<li class=\"result\">result ").append(i).append("</li>\n");
+        }
+        expected = new ArrayList<>(actual);
+        actualArray = actual.toArray();
+        List<String> shuffled = new ArrayList<>(actual);
+        Collections.shuffle(shuffled, new Random(42));
+        shuffledArray = shuffled.toArray();
+        text = content.toString();
+        fragment = "result " + (size - 1) + "<";
+        fragments = new String[FRAGMENTS];
+        for (int i = 0; i < FRAGMENTS; i++) {
+            fragments[i] = "result " + (size - 1 - i * size / FRAGMENTS) + "<";
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Benchmark
+    public ResultsPage assertEqualsCollection() {
+        return page.assertion.assertEquals(actual, expected, "Results differ");
+    }
+
+    @Benchmark
+    public ResultsPage assertEqualsIterator() {
+        return page.assertion.assertEquals(new ResultPages(actual), new ResultPages(expected), "Results differ");
+    }
+
+    @Benchmark
+    public ResultsPage assertEqualsIteratorTestNg() {
+        Assert.assertEquals(new ResultPages(actual), new ResultPages(expected), "Results differ");
+        return page;
+    }
+
+    @Benchmark
+    public ResultsPage assertEqualsNoOrder() {
+        return page.assertion.assertEqualsNoOrder(actualArray, shuffledArray, "Results differ");
+    }
+
+    @Benchmark
+    public ResultsPage assertContains() {
+        return page.assertion.assertContains(text, fragment, "Last result missing");
+    }
+
+    @Benchmark
+    public ResultsPage assertContainsEach() {
+        for (String each : fragments) {
+            page.assertion.assertContains(text, each, "Result missing");
+        }
+        return page;
+    }
+
+    @Benchmark
+    public ResultsPage assertContainsAll() {
+        return page.assertion.assertContainsAll(text, "Results missing", fragments);
+    }
+
+    @Benchmark
+    public ResultsPage assertRowsEagerMessage() {
+        for (int row = 0; row < size; row++) {
+            page.assertion.assertEquals(actual.get(row), expected.get(row), "Result " + row + " differs");
+        }
+        return page;
+    }
+
+    @Benchmark
+    public ResultsPage assertRowsSuppliedMessage() {
+        for (int row = 0; row < size; row++) {
+            rowMessage.row = row;
+            page.assertion.assertEquals(actual.get(row), expected.get(row), rowMessage);
+        }
+        return page;
+    }
+
+    /**
+     * Message of the row being compared, reused for every row
+     */
+    private static final class RowMessage implements MessageSupplier {
+        private int row;
+
+        @Override
+        public String get() {
+            return "Result " + row + " differs";
+        }
+    }
+
+    /**
+     * Results read page by page, the way paginated result pages are scraped
+     */
+    private static final class ResultPages implements Iterator<String> {
+        private static final int PAGE_SIZE = 20;
+
+        private final List<String> results;
+        private List<String> current = Collections.emptyList();
+        private int next;
+        private int offset;
+
+        private ResultPages(List<String> results) {
+            this.results = results;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return offset < current.size() || next < results.size();
+        }
+
+        @Override
+        public String next() {
+            if (offset == current.size()) {
+                current = results.subList(next, Math.min(next + PAGE_SIZE, results.size()));
+                next += current.size();
+                offset = 0;
+            }
+            return current.get(offset++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package net.jockx.fluentpage.benchmarks;
+
+import net.jockx.fluentpage.Page;
+import net.jockx.fluentpage.testing.FakeWebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fluent {@link net.jockx.fluentpage.Logger} overloads at INFO, on a page logging at INFO
+ * and on one logging at WARN only (see logback.xml). Enabled events go to a NOP appender.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+
+    public static class VerbosePage extends Page<VerbosePage> {
+    }
+
+    public static class QuietPage extends Page<QuietPage> {
+    }
+
+    private VerbosePage verbose;
+    private QuietPage quiet;
+    private String user = "user";
+    private Integer count = 1000;
+
+    @Setup
+    public void setUp() {
+        Page.initialize(new FakeWebDriver());
+        verbose = Page.get(VerbosePage.class);
+        quiet = Page.get(QuietPage.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Benchmark
+    public VerbosePage infoEnabled() {
+        return verbose.logger.info("Logged in as {}", user);
+    }
+
+    @Benchmark
+    public VerbosePage infoEnabledTwoArguments() {
+        return verbose.logger.info("Logged in as {} after {} ms", user, count);
+    }
+
+    @Benchmark
+    public VerbosePage infoEnabledVarargs() {
+        return verbose.logger.info("Logged in as {} after {} ms on {}", user, count, verbose);
+    }
+
+    @Benchmark
+    public QuietPage infoDisabled() {
+        return quiet.logger.info("Logged in as {}", user);
+    }
+
+    @Benchmark
+    public QuietPage infoDisabledTwoArguments() {
+        return quiet.logger.info("Logged in as {} after {} ms", user, count);
+    }
+
+    @Benchmark
+    public QuietPage infoDisabledVarargs() {
+        return quiet.logger.info("Logged in as {} after {} ms on {}", user, count, quiet);
+    }
+}
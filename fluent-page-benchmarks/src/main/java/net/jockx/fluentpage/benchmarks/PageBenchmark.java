@@ -0,0 +1,88 @@
+package net.jockx.fluentpage.benchmarks;
+
+import net.jockx.fluentpage.Page;
+import net.jockx.fluentpage.testing.FakeElement;
+import net.jockx.fluentpage.testing.FakeWebDriver;
+import net.thucydides.core.annotations.findby.FindBy;
+import net.thucydides.core.pages.WebElementFacade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Static {@link Page} access: cached lookups, page creation on a cache miss and {@link Page#waitForPage(Class)},
+ * and element assertions against an in-memory driver
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageBenchmark {
+
+    public static class SearchPage extends Page<SearchPage> {
+        @FindBy(id = "query")
+        WebElementFacade query;
+        @FindBy(css = "button.search")
+        WebElementFacade search;
+        @FindBy(css = ".result")
+        List<WebElement> results;
+    }
+
+    @Setup
+    public void setUp() {
+        FakeWebDriver driver = new FakeWebDriver().withDocument(FakeElement.document(
+                FakeElement.tag("input").id("query"),
+                FakeElement.tag("button").cls("search").text("Search"),
+                FakeElement.tag("ul").children(
+                        FakeElement.tag("li").cls("result").text("first"),
+                        FakeElement.tag("li").cls("result").text("second"))));
+        Page.initialize(driver);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Benchmark
+    public SearchPage get() {
+        return Page.get(SearchPage.class);
+    }
+
+    @Benchmark
+    public SearchPage getUncached() {
+        Page.getCache().invalidate(SearchPage.class);
+        return Page.get(SearchPage.class);
+    }
+
+    @Benchmark
+    public SearchPage waitForPage() {
+        return Page.waitForPage(SearchPage.class);
+    }
+
+    @Benchmark
+    public SearchPage assertVisible() {
+        SearchPage page = Page.get(SearchPage.class);
+        return page.assertion.assertVisible(page.search, "Search button is not visible");
+    }
+
+    @Benchmark
+    public SearchPage assertAllVisible() {
+        SearchPage page = Page.get(SearchPage.class);
+        return page.assertion.assertAllVisible("Search form is not visible", page.query, page.search);
+    }
+}
@@ -0,0 +1,14 @@
+package net.jockx.fluentpage.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Duration of page action marked with {@code Page.action(String)}
+ */
+@Name("net.jockx.fluentpage.Action")
+@Label("Page Action")
+@Description("Page action marked with Page.action")
+public final class ActionEvent extends StepEvent {
+}
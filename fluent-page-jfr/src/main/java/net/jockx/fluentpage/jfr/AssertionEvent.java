@@ -0,0 +1,17 @@
+package net.jockx.fluentpage.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Duration and outcome of an {@link net.jockx.fluentpage.Assertion} call
+ */
+@Name("net.jockx.fluentpage.Assertion")
+@Label("Assertion")
+@Description("Assertion call on a page, passed or failed")
+public final class AssertionEvent extends StepEvent {
+
+    @Label("Passed")
+    boolean passed;
+}
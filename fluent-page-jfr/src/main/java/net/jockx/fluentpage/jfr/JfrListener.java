@@ -0,0 +1,115 @@
+package net.jockx.fluentpage.jfr;
+
+import net.jockx.fluentpage.PageListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link PageListener} turning chain steps into Flight Recorder events. Step events are begun when a step starts
+ * and committed when it ends, so they line up with JVM events of the same thread; logger calls are only counted
+ * and reported by {@link LoggerThroughputEvent}.
+ */
+final class JfrListener implements PageListener {
+
+    private static final String[] LEVELS = {"trace", "debug", "info", "warn", "error"};
+
+    private final ThreadLocal<Deque<StepEvent>> started = ThreadLocal.withInitial(ArrayDeque::new);
+    private final LongAdder[] logged = new LongAdder[LEVELS.length];
+    private final LongAdder loggingNanos = new LongAdder();
+
+    JfrListener() {
+        for (int i = 0; i < logged.length; i++) {
+            logged[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void stepStarted(Kind kind, Class<?> page, String name) {
+        if (kind == Kind.LOG) {
+            return;
+        }
+        StepEvent event = create(kind);
+        event.kind = kind;
+        event.page = page;
+        event.step = name;
+        event.begin();
+        started.get().push(event);
+    }
+
+    @Override
+    public void stepEnded(Kind kind, Class<?> page, String name, long startNanos, long endNanos, Throwable failure) {
+        if (kind == Kind.LOG) {
+            count(name, endNanos - startNanos);
+            return;
+        }
+        StepEvent event = pop(kind, page, name);
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            if (event instanceof AssertionEvent) {
+                ((AssertionEvent) event).passed = failure == null;
+            }
+            event.failure = failure == null ? null : failure.toString();
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits counts of logger calls since the previous invocation
+     */
+    void emitThroughput() {
+        LoggerThroughputEvent event = new LoggerThroughputEvent();
+        event.trace = logged[0].sumThenReset();
+        event.debug = logged[1].sumThenReset();
+        event.info = logged[2].sumThenReset();
+        event.warn = logged[3].sumThenReset();
+        event.error = logged[4].sumThenReset();
+        event.timeSpent = loggingNanos.sumThenReset();
+        event.commit();
+    }
+
+    /**
+     * @return event begun for given step, or {@code null} if the step started before this listener was added
+     */
+    private StepEvent pop(Kind kind, Class<?> page, String name) {
+        Deque<StepEvent> events = started.get();
+        for (StepEvent event : events) {
+            if (event.kind == kind && event.page == page && event.step.equals(name)) {
+                // steps never ended, for example when their page could not be created, are dropped
+                while (events.pop() != event) {
+                }
+                return event;
+            }
+        }
+        return null;
+    }
+
+    private void count(String level, long nanos) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i].equals(level)) {
+                logged[i].increment();
+                loggingNanos.add(nanos);
+                return;
+            }
+        }
+    }
+
+    private static StepEvent create(Kind kind) {
+        switch (kind) {
+            case PAGE:
+                return new PageCreationEvent();
+            case NAVIGATION:
+                return new NavigationEvent();
+            case WAIT:
+                return new WaitEvent();
+            case ASSERTION:
+                return new AssertionEvent();
+            default:
+                return new ActionEvent();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package net.jockx.fluentpage.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import net.jockx.fluentpage.Page;
+import net.jockx.fluentpage.PageListenerProvider;
+
+/**
+ * Registers {@link JfrListener} while a Flight Recorder recording is running and removes it once none is,
+ * so chain steps are not even timed outside of recordings. Found by {@link java.util.ServiceLoader}, adding
+ * this module to the test classpath is all it takes:
+ * <pre>
+ * java -XX:StartFlightRecording=filename=tests.jfr ...
+ * </pre>
+ */
+public final class JfrListenerProvider implements PageListenerProvider {
+
+    private final JfrListener listener = new JfrListener();
+    private boolean registered;
+
+    @Override
+    public void install() {
+        FlightRecorder.addPeriodicEvent(LoggerThroughputEvent.class, listener::emitThroughput);
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                update();
+            }
+        });
+        update();
+    }
+
+    private synchronized void update() {
+        boolean recording = isRecording();
+        if (recording && !registered) {
+            Page.addListener(listener);
+        } else if (!recording && registered) {
+            Page.removeListener(listener);
+        }
+        registered = recording;
+    }
+
+    private static boolean isRecording() {
+        if (!FlightRecorder.isInitialized()) {
+            return false;
+        }
+        for (Recording recording : FlightRecorder.getFlightRecorder().getRecordings()) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
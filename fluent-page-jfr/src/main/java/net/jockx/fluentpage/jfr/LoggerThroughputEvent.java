@@ -0,0 +1,39 @@
+package net.jockx.fluentpage.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.Timespan;
+
+/**
+ * Number of {@link net.jockx.fluentpage.Logger} calls per level and time spent in them since the previous event
+ */
+@Name("net.jockx.fluentpage.LoggerThroughput")
+@Label("Logger Throughput")
+@Description("Page logger calls since the previous event")
+@Category("fluent-page")
+@Period("1 s")
+public final class LoggerThroughputEvent extends Event {
+
+    @Label("Trace")
+    long trace;
+
+    @Label("Debug")
+    long debug;
+
+    @Label("Info")
+    long info;
+
+    @Label("Warn")
+    long warn;
+
+    @Label("Error")
+    long error;
+
+    @Label("Time Spent")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeSpent;
+}
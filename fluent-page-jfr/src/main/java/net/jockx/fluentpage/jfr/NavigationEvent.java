@@ -0,0 +1,15 @@
+package net.jockx.fluentpage.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Duration of {@link net.jockx.fluentpage.Page#navigateTo()} called by
+ * {@link net.jockx.fluentpage.Page#navigateToPage(Class)}
+ */
+@Name("net.jockx.fluentpage.Navigation")
+@Label("Page Navigation")
+@Description("Navigation to a page by Page.navigateToPage")
+public final class NavigationEvent extends StepEvent {
+}
@@ -0,0 +1,14 @@
+package net.jockx.fluentpage.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Duration of creation of a page instance by {@link net.jockx.fluentpage.Page#get(Class)}
+ */
+@Name("net.jockx.fluentpage.PageCreation")
+@Label("Page Creation")
+@Description("Creation of a page instance by Page.get")
+public final class PageCreationEvent extends StepEvent {
+}
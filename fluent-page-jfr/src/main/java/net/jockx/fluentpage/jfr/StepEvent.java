@@ -0,0 +1,24 @@
+package net.jockx.fluentpage.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import net.jockx.fluentpage.PageListener;
+
+/**
+ * Chain step of a page, started and ended on the thread running it
+ */
+@Category("fluent-page")
+abstract class StepEvent extends Event {
+
+    transient PageListener.Kind kind;
+
+    @Label("Page")
+    Class<?> page;
+
+    @Label("Step")
+    String step;
+
+    @Label("Failure")
+    String failure;
+}
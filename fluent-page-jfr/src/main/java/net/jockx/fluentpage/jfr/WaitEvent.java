@@ -0,0 +1,15 @@
+package net.jockx.fluentpage.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Duration of {@link net.jockx.fluentpage.Page#waitToLoad()} called by
+ * {@link net.jockx.fluentpage.Page#waitForPage(Class)}
+ */
+@Name("net.jockx.fluentpage.Wait")
+@Label("Page Load Wait")
+@Description("Wait for a page to load in Page.waitForPage")
+public final class WaitEvent extends StepEvent {
+}
@@ -0,0 +1,226 @@
+package net.jockx.fluentpage.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a {@code net.jockx.fluentpage.PageBuilder} for every concrete {@code net.jockx.fluentpage.Page}
+ * subclass being compiled. The builder creates the page with {@code new} and assigns its element fields directly,
+ * so {@code Page.get(Class)} does not need reflection to construct it.
+ * <p>Add this artifact to the compile classpath of the module containing PageObjects; it is discovered
+ * by javac automatically.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class PageBuilderProcessor extends AbstractProcessor {
+
+    static final String PAGE = "net.jockx.fluentpage.Page";
+    static final String SUFFIX = "_PageBuilder";
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final List<String> FIND_BY = Arrays.asList(
+            "net.thucydides.core.annotations.findby.FindBy",
+            "org.openqa.selenium.support.FindBy",
+            "org.openqa.selenium.support.FindBys");
+
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        TypeElement page = elements.getTypeElement(PAGE);
+        TypeElement webElement = elements.getTypeElement(WEB_ELEMENT);
+        if (page == null || webElement == null) {
+            return false;
+        }
+        for (TypeElement type : ElementFilter.typesIn(round.getRootElements())) {
+            process(type, page, webElement);
+        }
+        return false;
+    }
+
+    private void process(TypeElement type, TypeElement page, TypeElement webElement) {
+        if (isBuildable(type, page)) {
+            generate(type, page, webElement);
+        }
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            process(nested, page, webElement);
+        }
+    }
+
+    private boolean isBuildable(TypeElement type, TypeElement page) {
+        if (type.getKind() != ElementKind.CLASS || type.equals(page)
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !type.getTypeParameters().isEmpty()
+                || !types.isSubtype(types.erasure(type.asType()), types.erasure(page.asType()))) {
+            return false;
+        }
+        for (Element enclosing = type; enclosing.getKind() != ElementKind.PACKAGE;
+             enclosing = enclosing.getEnclosingElement()) {
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)
+                    || enclosing.getEnclosingElement().getKind() != ElementKind.PACKAGE
+                    && !enclosing.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty()) {
+                return !constructor.getModifiers().contains(Modifier.PRIVATE);
+            }
+        }
+        return constructors.isEmpty();
+    }
+
+    private void generate(TypeElement type, TypeElement page, TypeElement webElement) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + SUFFIX;
+        String pageName = type.getQualifiedName().toString();
+        List<VariableElement> fields = elementFields(type, page, webElement);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("// Generated by ").append(getClass().getName()).append(", do not edit\n\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements net.jockx.fluentpage.PageBuilder<").append(pageName).append("> {\n\n");
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            source.append("    private static final java.lang.reflect.Field FIELD_").append(i)
+                    .append(" = net.jockx.fluentpage.PageBuilders.field(")
+                    .append(((TypeElement) field.getEnclosingElement()).getQualifiedName()).append(".class, \"")
+                    .append(field.getSimpleName()).append("\");\n");
+        }
+        if (!fields.isEmpty()) {
+            source.append('\n');
+        }
+        source.append("    @Override\n")
+                .append("    public ").append(pageName).append(" newPage() {\n")
+                .append("        return new ").append(pageName).append("();\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    @SuppressWarnings(\"unchecked\")\n")
+                .append("    public void initElements(").append(pageName)
+                .append(" page, org.openqa.selenium.support.pagefactory.FieldDecorator decorator) {\n");
+        if (!fields.isEmpty()) {
+            source.append("        ClassLoader loader = ").append(pageName).append(".class.getClassLoader();\n")
+                    .append("        Object element;\n");
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            TypeElement declaring = (TypeElement) field.getEnclosingElement();
+            source.append("        element = decorator.decorate(loader, FIELD_").append(i).append(");\n")
+                    .append("        if (element != null) {\n");
+            if (isAccessible(field, packageName)) {
+                String target = declaring.equals(type) ? "page" : "((" + declaring.getQualifiedName() + ") page)";
+                source.append("            ").append(target).append('.').append(field.getSimpleName())
+                        .append(" = (").append(types.erasure(field.asType())).append(") element;\n");
+            } else {
+                source.append("            net.jockx.fluentpage.PageBuilders.set(FIELD_").append(i)
+                        .append(", page, element);\n");
+            }
+            source.append("        }\n");
+        }
+        source.append("    }\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to generate " + qualifiedName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Selects the same fields Thucydides' SmartFieldDecorator decorates: every {@code WebElement}
+     * and every {@code List} of them annotated with one of the FindBy annotations. Static and final fields are
+     * skipped, the same way {@code PageMetadata} skips them for pages without a generated builder.
+     */
+    private List<VariableElement> elementFields(TypeElement type, TypeElement page, TypeElement webElement) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeMirror elementType = types.erasure(webElement.asType());
+        TypeMirror listType = types.erasure(elements.getTypeElement(List.class.getName()).asType());
+        for (TypeElement declaring = type; declaring != null && !declaring.equals(page);
+             declaring = superclassOf(declaring)) {
+            for (VariableElement field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL)) {
+                    continue;
+                }
+                TypeMirror fieldType = field.asType();
+                if (types.isAssignable(types.erasure(fieldType), elementType)
+                        || types.isAssignable(types.erasure(fieldType), listType)
+                        && isListOf(fieldType, elementType) && hasFindBy(field)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+    }
+
+    private boolean isListOf(TypeMirror fieldType, TypeMirror elementType) {
+        if (fieldType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        List<? extends TypeMirror> arguments = ((DeclaredType) fieldType).getTypeArguments();
+        return arguments.size() == 1 && arguments.get(0).getKind() == TypeKind.DECLARED
+                && types.isAssignable(types.erasure(arguments.get(0)), elementType);
+    }
+
+    private boolean hasFindBy(VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            Element annotationType = annotation.getAnnotationType().asElement();
+            if (FIND_BY.contains(((TypeElement) annotationType).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(VariableElement field, String packageName) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        TypeElement declaring = (TypeElement) field.getEnclosingElement();
+        PackageElement declaringPackage = elements.getPackageOf(declaring);
+        return modifiers.contains(Modifier.PUBLIC) && declaring.getModifiers().contains(Modifier.PUBLIC)
+                || declaringPackage.getQualifiedName().contentEquals(packageName);
+    }
+}
@@ -0,0 +1,177 @@
+package net.jockx.fluentpage.processor;
+
+import net.jockx.fluentpage.Page;
+import net.jockx.fluentpage.PageBuilder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PageBuilderProcessorTest {
+
+    private static final String SEARCH_PAGE = "package pages;\n"
+            + "\n"
+            + "import net.thucydides.core.annotations.findby.FindBy;\n"
+            + "import net.thucydides.core.pages.WebElementFacade;\n"
+            + "import org.openqa.selenium.WebElement;\n"
+            + "\n"
+            + "import java.util.List;\n"
+            + "\n"
+            + "public class SearchPage extends BasePage<SearchPage> {\n"
+            + "    public static WebElement shared;\n"
+            + "    public final String creator = new Throwable().getStackTrace()[1].getClassName();\n"
+            + "    @FindBy(css = \"#query\")\n"
+            + "    public WebElementFacade query;\n"
+            + "    private WebElement submit;\n"
+            + "    @FindBy(css = \".suggestion\")\n"
+            + "    public List<WebElement> suggestions;\n"
+            + "    public List<WebElement> unannotated;\n"
+            + "\n"
+            + "    public WebElement getSubmit() {\n"
+            + "        return submit;\n"
+            + "    }\n"
+            + "\n"
+            + "    public static class Dialog extends net.jockx.fluentpage.Page<Dialog> {\n"
+            + "    }\n"
+            + "\n"
+            + "    class Inner extends net.jockx.fluentpage.Page<Inner> {\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String BASE_PAGE = "package pages;\n"
+            + "\n"
+            + "public abstract class BasePage<T extends BasePage<T>> extends net.jockx.fluentpage.Page<T> {\n"
+            + "    org.openqa.selenium.WebElement header;\n"
+            + "\n"
+            + "    public org.openqa.selenium.WebElement getHeader() {\n"
+            + "        return header;\n"
+            + "    }\n"
+            + "}\n";
+
+    private File output;
+    private File generated;
+
+    @BeforeClass
+    public void compilePages() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new SkipException("No Java compiler available");
+        }
+        File directory = Files.createTempDirectory("fluent-page-processor").toFile();
+        output = new File(directory, "classes");
+        generated = new File(directory, "generated");
+        File sources = new File(directory, "pages");
+        assertTrue(output.mkdir() && generated.mkdir() && sources.mkdir());
+        List<File> files = new ArrayList<>();
+        files.add(write(new File(sources, "SearchPage.java"), SEARCH_PAGE));
+        files.add(write(new File(sources, "BasePage.java"), BASE_PAGE));
+
+        String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        try (StandardJavaFileManager fileManager =
+                     compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(files);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, Arrays.asList(
+                    "-d", output.getPath(), "-s", generated.getPath(), "-cp", classPath), null, units);
+            task.setProcessors(Collections.singletonList(new PageBuilderProcessor()));
+            assertTrue(task.call());
+        }
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Test
+    public void generatesBuildersForConcretePages() {
+        assertTrue(new File(generated, "pages/SearchPage_PageBuilder.java").isFile());
+        assertTrue(new File(generated, "pages/SearchPage_Dialog_PageBuilder.java").isFile());
+        assertFalse(new File(generated, "pages/BasePage_PageBuilder.java").exists());
+        assertFalse(new File(generated, "pages/SearchPage_Inner_PageBuilder.java").exists());
+    }
+
+    @Test
+    public void assignsElementFieldsSelectedLikeThucydides() throws IOException {
+        String source = new String(Files.readAllBytes(new File(generated, "pages/SearchPage_PageBuilder.java")
+                .toPath()), StandardCharsets.UTF_8);
+        assertTrue(source.contains("page.query = (net.thucydides.core.pages.WebElementFacade) element;"));
+        assertTrue(source.contains("page.suggestions = (java.util.List) element;"));
+        assertTrue(source.contains("((pages.BasePage) page).header = (org.openqa.selenium.WebElement) element;"));
+        assertTrue(source.contains("PageBuilders.field(pages.SearchPage.class, \"submit\")"));
+        assertFalse(source.contains("\"unannotated\""));
+        assertFalse(source.contains("\"shared\""));
+        assertFalse(source.contains("\"creator\""));
+    }
+
+    @Test
+    public void createsPagesWithGeneratedBuilder() throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toURI().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> builder = loader.loadClass("pages.SearchPage_PageBuilder");
+            assertTrue(PageBuilder.class.isAssignableFrom(builder));
+            Class<? extends Page> type = loader.loadClass("pages.SearchPage").asSubclass(Page.class);
+
+            Page.initialize(driver());
+            Page page = Page.get(type);
+            assertEquals(type.getField("creator").get(page), builder.getName());
+            assertNotNull(type.getField("query").get(page));
+            assertNotNull(type.getField("suggestions").get(page));
+            assertNotNull(type.getMethod("getSubmit").invoke(page));
+            assertNotNull(type.getMethod("getHeader").invoke(page));
+            assertNull(type.getField("unannotated").get(page));
+        }
+    }
+
+    private static File write(File file, String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * @return {@link WebDriver} answering every command with an empty result, creating pages does not send any
+     */
+    private static WebDriver driver() {
+        return (WebDriver) Proxy.newProxyInstance(PageBuilderProcessorTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        switch (method.getName()) {
+                            case "toString":
+                                return "EmptyDriver";
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            default:
+                                return method.getReturnType() == boolean.class ? false : null;
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,174 @@
+package net.jockx.fluentpage.testing;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Default {@link ScriptHandler} of {@link FakeWebDriver}. Answers {@code document.readyState} queries,
+ * the element states script of {@code net.jockx.fluentpage.ElementBatch}, the readiness script of
+ * {@code net.jockx.fluentpage.Readiness} and the table script of {@code net.jockx.fluentpage.Table},
+ * returning {@code null} for every other script.
+ * <p>The document of a fake driver does not change by itself, so readiness conditions are evaluated once,
+ * without waiting. JavaScript conditions can't be evaluated and count as met.</p>
+ */
+final class BuiltInScripts implements ScriptHandler {
+
+    static final String ELEMENT_STATES = "/* fluent-page element states */";
+    static final String READINESS = "/* fluent-page readiness */";
+    static final String TABLE = "/* fluent-page table */";
+    private static final int PRESENT = 1;
+    private static final int VISIBLE = 2;
+    private static final int ENABLED = 4;
+
+    @Override
+    public Object execute(FakeWebDriver driver, String script, Object... arguments) {
+        if (script.startsWith(ELEMENT_STATES)) {
+            return elementStates(driver.document(), (List<?>) arguments[0]);
+        }
+        if (script.startsWith(READINESS)) {
+            return unmetConditions(driver.document(), (List<?>) arguments[0]);
+        }
+        if (script.startsWith(TABLE)) {
+            return table(driver.elementOf((WebElement) arguments[0]));
+        }
+        return script.contains("document.readyState") ? "complete" : null;
+    }
+
+    private static List<Long> elementStates(FakeElement document, List<?> locators) {
+        List<Long> states = new ArrayList<>(locators.size());
+        for (Object locator : locators) {
+            List<?> strategy = (List<?>) locator;
+            states.add(state(find(document, (String) strategy.get(0), (String) strategy.get(1))));
+        }
+        return states;
+    }
+
+    private static List<Long> unmetConditions(FakeElement document, List<?> conditions) {
+        List<Long> unmet = new ArrayList<>();
+        for (int i = 0; i < conditions.size(); i++) {
+            List<?> condition = (List<?>) conditions.get(i);
+            String strategy = (String) condition.get(0);
+            if ("readyState".equals(strategy) || "script".equals(strategy)) {
+                continue;
+            }
+            long state = state(find(document, strategy, (String) condition.get(1)));
+            if (((state & ((Number) condition.get(2)).longValue()) != 0) != (Boolean) condition.get(3)) {
+                unmet.add((long) i);
+            }
+        }
+        return unmet;
+    }
+
+    private static List<Object> table(FakeElement table) {
+        List<FakeElement> rows = new ArrayList<>();
+        collectRows(table, rows);
+        FakeElement header = null;
+        for (FakeElement row : rows) {
+            if ("thead".equals(row.getParent().getTagName())) {
+                header = row;
+            }
+        }
+        if (header == null && !rows.isEmpty() && headerOnly(rows.get(0))) {
+            header = rows.get(0);
+        }
+        List<String> headers = new ArrayList<>();
+        int width = 0;
+        if (header != null) {
+            for (FakeElement cell : header.getChildren()) {
+                headers.add(text(cell));
+            }
+            width = headers.size();
+        }
+        List<FakeElement> body = new ArrayList<>();
+        for (FakeElement row : rows) {
+            String section = row.getParent().getTagName();
+            if (row != header && !"thead".equals(section) && !"tfoot".equals(section)) {
+                body.add(row);
+                width = Math.max(width, row.getChildren().size());
+            }
+        }
+        List<List<String>> columns = new ArrayList<>();
+        for (int c = 0; c < width; c++) {
+            List<String> column = new ArrayList<>(body.size());
+            for (FakeElement row : body) {
+                column.add(c < row.getChildren().size() ? text(row.getChildren().get(c)) : "");
+            }
+            columns.add(column);
+        }
+        return Arrays.<Object>asList(headers, columns, (long) body.size());
+    }
+
+    /**
+     * Collects rows of the table and its sections, leaving nested tables out
+     */
+    private static void collectRows(FakeElement parent, List<FakeElement> rows) {
+        for (FakeElement child : parent.getChildren()) {
+            if ("tr".equals(child.getTagName())) {
+                rows.add(child);
+            } else if (!"table".equals(child.getTagName())) {
+                collectRows(child, rows);
+            }
+        }
+    }
+
+    private static boolean headerOnly(FakeElement row) {
+        for (FakeElement cell : row.getChildren()) {
+            if (!"th".equals(cell.getTagName())) {
+                return false;
+            }
+        }
+        return !row.getChildren().isEmpty();
+    }
+
+    private static String text(FakeElement cell) {
+        return cell.getText().replaceAll("\\s+", " ").trim();
+    }
+
+    private static long state(FakeElement element) {
+        if (element == null) {
+            return 0;
+        }
+        return PRESENT | (element.isDisplayed() ? VISIBLE : 0) | (element.isEnabled() ? ENABLED : 0);
+    }
+
+    private static FakeElement find(FakeElement document, String strategy, String value) {
+        List<FakeElement> found;
+        switch (strategy) {
+            case "id":
+                found = Selectors.css(document, "[id='" + value + "']");
+                break;
+            case "name":
+                found = Selectors.css(document, "[name='" + value + "']");
+                break;
+            case "idOrName":
+                found = Selectors.css(document, "[id='" + value + "']");
+                if (found.isEmpty()) {
+                    found = Selectors.css(document, "[name='" + value + "']");
+                }
+                break;
+            case "class":
+                found = Selectors.css(document, "." + value);
+                break;
+            case "tag":
+            case "css":
+                found = Selectors.css(document, value);
+                break;
+            case "xpath":
+                found = Selectors.xpath(document, document, value);
+                break;
+            default:
+                found = new ArrayList<>();
+                for (FakeElement link : Selectors.css(document, "a")) {
+                    String text = link.getText().trim();
+                    if ("link".equals(strategy) ? text.equals(value) : text.contains(value)) {
+                        found.add(link);
+                    }
+                }
+                break;
+        }
+        return found.isEmpty() ? null : found.get(0);
+    }
+}
@@ -0,0 +1,270 @@
+package net.jockx.fluentpage.testing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Node of the static DOM served by {@link FakeWebDriver}. Built fluently:
+ * <pre>
+ * FakeElement.tag("form").id("login").children(
+ *     FakeElement.tag("input").attr("name", "user"),
+ *     FakeElement.tag("button").cls("submit").text("Log in").disabled());
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public class FakeElement {
+
+    private static final List<String> VOID_ELEMENTS =
+            Arrays.asList("area", "base", "br", "col", "hr", "img", "input", "link", "meta", "param");
+
+    private final String tagName;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final List<FakeElement> children = new ArrayList<>();
+    private FakeElement parent;
+    private String text = "";
+    private boolean displayed = true;
+    private boolean enabled = true;
+    private boolean selected;
+
+    private FakeElement(String tagName) {
+        this.tagName = tagName.toLowerCase();
+    }
+
+    /**
+     * @param tagName element tag name
+     * @return new element without attributes and children
+     */
+    public static FakeElement tag(String tagName) {
+        return new FakeElement(tagName);
+    }
+
+    /**
+     * @param body children of the document body
+     * @return {@code html} element with an empty {@code head} and a {@code body} holding given children
+     */
+    public static FakeElement document(FakeElement... body) {
+        return tag("html").children(tag("head"), tag("body").children(body));
+    }
+
+    public FakeElement id(String id) {
+        return attr("id", id);
+    }
+
+    public FakeElement name(String name) {
+        return attr("name", name);
+    }
+
+    /**
+     * @param className class name appended to the {@code class} attribute
+     * @return this element
+     */
+    public FakeElement cls(String className) {
+        String current = attributes.get("class");
+        return attr("class", current == null || current.isEmpty() ? className : current + " " + className);
+    }
+
+    public FakeElement attr(String name, String value) {
+        attributes.put(name, value);
+        return this;
+    }
+
+    /**
+     * @param text text content preceding children of this element
+     * @return this element
+     */
+    public FakeElement text(String text) {
+        this.text = text;
+        return this;
+    }
+
+    public FakeElement hidden() {
+        this.displayed = false;
+        return this;
+    }
+
+    public FakeElement disabled() {
+        this.enabled = false;
+        return this;
+    }
+
+    public FakeElement selected() {
+        this.selected = true;
+        return this;
+    }
+
+    public FakeElement children(FakeElement... elements) {
+        for (FakeElement child : elements) {
+            if (child.parent != null) {
+                child.parent.children.remove(child);
+            }
+            child.parent = this;
+            children.add(child);
+        }
+        return this;
+    }
+
+    /**
+     * Detaches this element from its parent
+     *
+     * @return this element
+     */
+    public FakeElement remove() {
+        if (parent != null) {
+            parent.children.remove(this);
+            parent = null;
+        }
+        return this;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    public List<FakeElement> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    public FakeElement getParent() {
+        return parent;
+    }
+
+    /**
+     * @return own text of this element, without text of its children
+     */
+    public String getOwnText() {
+        return text;
+    }
+
+    /**
+     * @return rendered text of this element and its displayed descendants, like WebDriver's {@code getText()}
+     */
+    public String getText() {
+        if (!isDisplayed()) {
+            return "";
+        }
+        StringBuilder rendered = new StringBuilder(text);
+        for (FakeElement child : children) {
+            String childText = child.getText();
+            if (!childText.isEmpty()) {
+                if (rendered.length() > 0) {
+                    rendered.append(' ');
+                }
+                rendered.append(childText);
+            }
+        }
+        return rendered.toString();
+    }
+
+    /**
+     * @return {@code true} if neither this element nor any of its ancestors is hidden
+     */
+    public boolean isDisplayed() {
+        return displayed && (parent == null || parent.isDisplayed());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    void setText(String text) {
+        this.text = text;
+    }
+
+    void setSelected(boolean selected) {
+        this.selected = selected;
+    }
+
+    boolean hasClass(String className) {
+        String classes = attributes.get("class");
+        if (classes == null) {
+            return false;
+        }
+        for (String candidate : classes.trim().split("\\s+")) {
+            if (candidate.equals(className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return all descendants of this element in document order, excluding the element itself
+     */
+    List<FakeElement> descendants() {
+        List<FakeElement> found = new ArrayList<>();
+        collectDescendants(found);
+        return found;
+    }
+
+    private void collectDescendants(List<FakeElement> found) {
+        for (FakeElement child : children) {
+            found.add(child);
+            child.collectDescendants(found);
+        }
+    }
+
+    /**
+     * @return HTML markup of this element and its children
+     */
+    public String toHtml() {
+        StringBuilder html = new StringBuilder();
+        appendHtml(html);
+        return html.toString();
+    }
+
+    private void appendHtml(StringBuilder html) {
+        html.append('<').append(tagName);
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            html.append(' ').append(attribute.getKey()).append("=\"").append(escape(attribute.getValue())).append('"');
+        }
+        if (!displayed && !attributes.containsKey("style")) {
+            html.append(" style=\"display: none\"");
+        }
+        if (!enabled && !attributes.containsKey("disabled")) {
+            html.append(" disabled=\"disabled\"");
+        }
+        html.append('>');
+        if (VOID_ELEMENTS.contains(tagName)) {
+            return;
+        }
+        html.append(escape(text));
+        for (FakeElement child : children) {
+            child.appendHtml(html);
+        }
+        html.append("</").append(tagName).append('>');
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder(tagName);
+        String id = attributes.get("id");
+        if (id != null) {
+            description.append('#').append(id);
+        }
+        String classes = attributes.get("class");
+        if (classes != null) {
+            description.append('.').append(classes.trim().replaceAll("\\s+", "."));
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,196 @@
+package net.jockx.fluentpage.testing;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.FindsByClassName;
+import org.openqa.selenium.internal.FindsByCssSelector;
+import org.openqa.selenium.internal.FindsById;
+import org.openqa.selenium.internal.FindsByLinkText;
+import org.openqa.selenium.internal.FindsByName;
+import org.openqa.selenium.internal.FindsByTagName;
+import org.openqa.selenium.internal.FindsByXPath;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Element lookup shared by {@link FakeWebDriver} and its elements. Every {@link By} strategy is resolved
+ * against the fake DOM through the {@code FindsBy*} interfaces {@link By} delegates to, each lookup
+ * being recorded as a single command.
+ */
+abstract class FakeSearchContext implements SearchContext {
+
+    /**
+     * @return driver serving the searched DOM
+     */
+    abstract FakeWebDriver driver();
+
+    /**
+     * @return element searched within, or {@code null} once no document is loaded
+     */
+    abstract FakeElement searchRoot();
+
+    /**
+     * @return name of the command recorded for a single element lookup
+     */
+    abstract String findElementCommand();
+
+    /**
+     * @return name of the command recorded for a multiple elements lookup
+     */
+    abstract String findElementsCommand();
+
+    @Override
+    public WebElement findElement(By by) {
+        driver().record(findElementCommand());
+        List<WebElement> found = by.findElements(new Lookup());
+        if (found.isEmpty()) {
+            driver().waitImplicitly();
+            throw new NoSuchElementException("Unable to locate element " + by + " in " + searchRoot());
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        driver().record(findElementsCommand());
+        List<WebElement> found = by.findElements(new Lookup());
+        if (found.isEmpty()) {
+            driver().waitImplicitly();
+        }
+        return found;
+    }
+
+    private List<WebElement> findLinks(String text, boolean partial) {
+        FakeElement root = searchRoot();
+        List<FakeElement> links = new ArrayList<>();
+        if (root != null) {
+            for (FakeElement link : Selectors.css(root, "a")) {
+                String linkText = link.getText().trim();
+                if (partial ? linkText.contains(text) : linkText.equals(text)) {
+                    links.add(link);
+                }
+            }
+        }
+        return wrap(links);
+    }
+
+    private List<WebElement> wrap(List<FakeElement> elements) {
+        List<WebElement> wrapped = new ArrayList<>(elements.size());
+        for (FakeElement element : elements) {
+            wrapped.add(new FakeWebElement(driver(), element));
+        }
+        return wrapped;
+    }
+
+    private WebElement first(List<WebElement> found, String strategy, String using) {
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element by " + strategy + ": " + using);
+        }
+        return found.get(0);
+    }
+
+    /**
+     * Search context handed to {@link By}, resolving its {@code FindsBy*} calls without recording
+     * further commands. Locators composed of other locators, such as {@code ByChained}, are resolved
+     * against it too.
+     */
+    private final class Lookup implements SearchContext, FindsById, FindsByName, FindsByClassName,
+            FindsByTagName, FindsByCssSelector, FindsByXPath, FindsByLinkText {
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return by.findElements(this);
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return by.findElement(this);
+        }
+
+        @Override
+        public WebElement findElementById(String using) {
+            return first(findElementsById(using), "id", using);
+        }
+
+        @Override
+        public List<WebElement> findElementsById(String using) {
+            return findElementsByCssSelector("[id='" + using + "']");
+        }
+
+        @Override
+        public WebElement findElementByName(String using) {
+            return first(findElementsByName(using), "name", using);
+        }
+
+        @Override
+        public List<WebElement> findElementsByName(String using) {
+            return findElementsByCssSelector("[name='" + using + "']");
+        }
+
+        @Override
+        public WebElement findElementByClassName(String using) {
+            return first(findElementsByClassName(using), "class name", using);
+        }
+
+        @Override
+        public List<WebElement> findElementsByClassName(String using) {
+            return findElementsByCssSelector("." + using);
+        }
+
+        @Override
+        public WebElement findElementByTagName(String using) {
+            return first(findElementsByTagName(using), "tag name", using);
+        }
+
+        @Override
+        public List<WebElement> findElementsByTagName(String using) {
+            return findElementsByCssSelector(using);
+        }
+
+        @Override
+        public WebElement findElementByCssSelector(String using) {
+            return first(findElementsByCssSelector(using), "css selector", using);
+        }
+
+        @Override
+        public List<WebElement> findElementsByCssSelector(String using) {
+            FakeElement root = searchRoot();
+            return root == null ? new ArrayList<WebElement>() : wrap(Selectors.css(root, using));
+        }
+
+        @Override
+        public WebElement findElementByXPath(String using) {
+            return first(findElementsByXPath(using), "xpath", using);
+        }
+
+        @Override
+        public List<WebElement> findElementsByXPath(String using) {
+            FakeElement root = searchRoot();
+            return root == null ? new ArrayList<WebElement>()
+                    : wrap(Selectors.xpath(root, driver().document(), using));
+        }
+
+        @Override
+        public WebElement findElementByLinkText(String using) {
+            return first(findElementsByLinkText(using), "link text", using);
+        }
+
+        @Override
+        public List<WebElement> findElementsByLinkText(String using) {
+            return findLinks(using, false);
+        }
+
+        @Override
+        public WebElement findElementByPartialLinkText(String using) {
+            return first(findElementsByPartialLinkText(using), "partial link text", using);
+        }
+
+        @Override
+        public List<WebElement> findElementsByPartialLinkText(String using) {
+            return findLinks(using, true);
+        }
+    }
+}
@@ -0,0 +1,578 @@
+package net.jockx.fluentpage.testing;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ImeActivationFailedException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.Logs;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.SessionNotFoundException;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-memory {@link WebDriver} serving static {@link FakeElement} documents, for exercising PageObjects
+ * and measuring their driver usage without a browser:
+ * <pre>
+ * FakeWebDriver driver = new FakeWebDriver()
+ *     .withPage("http://shop/login", FakeElement.document(
+ *         FakeElement.tag("input").id("user"),
+ *         FakeElement.tag("div").cls("error").hidden()))
+ *     .withLatency(2, TimeUnit.MILLISECONDS);
+ * Page.initialize(driver);
+ * driver.get("http://shop/login");
+ * Page.waitForPage(LoginPage.class);
+ * long lookups = driver.getCommandCount(DriverCommand.FIND_ELEMENT);
+ * </pre>
+ * Every command a remote driver would send over the wire is counted under its {@link DriverCommand} name
+ * and delayed by the configured latency. A failed element lookup additionally waits for the implicit wait
+ * timeout set through {@link Options#timeouts()}, as a browser would.
+ * <p>A driver instance is meant to be used by one thread at a time; counters may be read from any thread.</p>
+ */
+@SuppressWarnings("unused")
+public class FakeWebDriver extends FakeSearchContext implements WebDriver, JavascriptExecutor {
+
+    public static final String BLANK = "about:blank";
+    private static final String WINDOW_HANDLE = "fake-window";
+
+    private final Map<String, FakeElement> pages = new HashMap<>();
+    private final List<String> history = new ArrayList<>();
+    private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> commands = new ConcurrentHashMap<>();
+    private final AtomicLong commandCount = new AtomicLong();
+    private ScriptHandler scriptHandler = new BuiltInScripts();
+    private volatile long latencyNanos;
+    private volatile long implicitWaitNanos;
+    private int position;
+    private FakeElement document;
+    private Dimension windowSize = new Dimension(1280, 1024);
+    private Point windowPosition = new Point(0, 0);
+    private boolean closed;
+
+    public FakeWebDriver() {
+        history.add(BLANK);
+        document = FakeElement.document();
+    }
+
+    /**
+     * @param url      url to serve the document at
+     * @param document root element of the document, usually created with {@link FakeElement#document(FakeElement...)}
+     * @return this driver
+     */
+    public FakeWebDriver withPage(String url, FakeElement document) {
+        if (document.getParent() != null) {
+            throw new IllegalArgumentException("Element " + document + " is not a document root");
+        }
+        pages.put(url, document);
+        if (url.equals(getUrl())) {
+            this.document = document;
+        }
+        return this;
+    }
+
+    /**
+     * Serves given document at the current url, replacing whatever was loaded, without recording a command
+     *
+     * @param document root element of the document
+     * @return this driver
+     */
+    public FakeWebDriver withDocument(FakeElement document) {
+        return withPage(getUrl(), document);
+    }
+
+    /**
+     * @param latency  time every command takes, simulating the round trip to a browser
+     * @param unit     unit of {@code latency}
+     * @return this driver
+     */
+    public FakeWebDriver withLatency(long latency, TimeUnit unit) {
+        this.latencyNanos = unit.toNanos(latency);
+        return this;
+    }
+
+    /**
+     * @param handler answers scripts executed by this driver. By default {@code document.readyState} is answered
+     *                with {@code "complete"}, element states batched by fluent-page are resolved from the document,
+     *                and every other script returns {@code null}
+     * @return this driver
+     */
+    public FakeWebDriver withScriptHandler(ScriptHandler handler) {
+        this.scriptHandler = handler;
+        return this;
+    }
+
+    /**
+     * @return root element of the currently loaded document
+     */
+    public FakeElement document() {
+        return document;
+    }
+
+    /**
+     * @param element element found by this driver
+     * @return node of the fake DOM behind {@code element}
+     */
+    public FakeElement elementOf(WebElement element) {
+        if (!(element instanceof FakeWebElement) || ((FakeWebElement) element).driver() != this) {
+            throw new IllegalArgumentException("Element " + element + " was not found by this driver");
+        }
+        return ((FakeWebElement) element).getElement();
+    }
+
+    /**
+     * @return number of commands issued since creation or last {@link #resetCommandCounts()}
+     */
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    /**
+     * @param command name of a command, one of the {@link DriverCommand} constants
+     * @return number of given commands issued since creation or last {@link #resetCommandCounts()}
+     */
+    public long getCommandCount(String command) {
+        AtomicLong count = commands.get(command);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @return number of commands issued since creation or last {@link #resetCommandCounts()}, by command name
+     */
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, AtomicLong> command : commands.entrySet()) {
+            counts.put(command.getKey(), command.getValue().get());
+        }
+        return counts;
+    }
+
+    public void resetCommandCounts() {
+        commands.clear();
+        commandCount.set(0);
+    }
+
+    /**
+     * Counts a command and simulates its latency
+     */
+    void record(String command) {
+        if (closed) {
+            throw new SessionNotFoundException("Session was closed before " + command);
+        }
+        AtomicLong count = commands.get(command);
+        if (count == null) {
+            AtomicLong created = new AtomicLong();
+            count = commands.putIfAbsent(command, created);
+            if (count == null) {
+                count = created;
+            }
+        }
+        count.incrementAndGet();
+        commandCount.incrementAndGet();
+        pause(latencyNanos);
+    }
+
+    void waitImplicitly() {
+        pause(implicitWaitNanos);
+    }
+
+    private static void pause(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    @Override
+    FakeWebDriver driver() {
+        return this;
+    }
+
+    @Override
+    FakeElement searchRoot() {
+        return document;
+    }
+
+    @Override
+    String findElementCommand() {
+        return DriverCommand.FIND_ELEMENT;
+    }
+
+    @Override
+    String findElementsCommand() {
+        return DriverCommand.FIND_ELEMENTS;
+    }
+
+    private String getUrl() {
+        return history.get(position);
+    }
+
+    private void load(String url) {
+        FakeElement page = pages.get(url);
+        document = page != null ? page : FakeElement.document();
+    }
+
+    @Override
+    public void get(String url) {
+        record(DriverCommand.GET);
+        history.subList(position + 1, history.size()).clear();
+        history.add(url);
+        position++;
+        load(url);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        record(DriverCommand.GET_CURRENT_URL);
+        return getUrl();
+    }
+
+    @Override
+    public String getTitle() {
+        record(DriverCommand.GET_TITLE);
+        List<FakeElement> titles = Selectors.css(document, "head > title");
+        return titles.isEmpty() ? "" : titles.get(0).getOwnText();
+    }
+
+    @Override
+    public String getPageSource() {
+        record(DriverCommand.GET_PAGE_SOURCE);
+        return document.toHtml();
+    }
+
+    @Override
+    public void close() {
+        record(DriverCommand.CLOSE);
+        closed = true;
+    }
+
+    @Override
+    public void quit() {
+        if (!closed) {
+            record(DriverCommand.QUIT);
+            closed = true;
+        }
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        record(DriverCommand.GET_WINDOW_HANDLES);
+        return new LinkedHashSet<>(Collections.singletonList(WINDOW_HANDLE));
+    }
+
+    @Override
+    public String getWindowHandle() {
+        record(DriverCommand.GET_CURRENT_WINDOW_HANDLE);
+        return WINDOW_HANDLE;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new FakeTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new FakeNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return new FakeOptions();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        record(DriverCommand.EXECUTE_SCRIPT);
+        return scriptHandler.execute(this, script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        record(DriverCommand.EXECUTE_ASYNC_SCRIPT);
+        return scriptHandler.execute(this, script, args);
+    }
+
+    @Override
+    public String toString() {
+        return "FakeWebDriver[" + getUrl() + ", " + commandCount.get() + " commands]";
+    }
+
+    private final class FakeNavigation implements Navigation {
+
+        @Override
+        public void back() {
+            record(DriverCommand.GO_BACK);
+            if (position > 0) {
+                load(history.get(--position));
+            }
+        }
+
+        @Override
+        public void forward() {
+            record(DriverCommand.GO_FORWARD);
+            if (position < history.size() - 1) {
+                load(history.get(++position));
+            }
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(url.toString());
+        }
+
+        @Override
+        public void refresh() {
+            record(DriverCommand.REFRESH);
+            load(getUrl());
+        }
+    }
+
+    private final class FakeTargetLocator implements TargetLocator {
+
+        @Override
+        public WebDriver frame(int index) {
+            record(DriverCommand.SWITCH_TO_FRAME);
+            throw new NoSuchFrameException("Frames are not supported by FakeWebDriver");
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            record(DriverCommand.SWITCH_TO_FRAME);
+            throw new NoSuchFrameException("Frames are not supported by FakeWebDriver");
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            record(DriverCommand.SWITCH_TO_FRAME);
+            throw new NoSuchFrameException("Frames are not supported by FakeWebDriver");
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            record(DriverCommand.SWITCH_TO_PARENT_FRAME);
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            record(DriverCommand.SWITCH_TO_WINDOW);
+            if (!WINDOW_HANDLE.equals(nameOrHandle)) {
+                throw new NoSuchWindowException("No window " + nameOrHandle);
+            }
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            record(DriverCommand.SWITCH_TO_FRAME);
+            return FakeWebDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            record(DriverCommand.GET_ACTIVE_ELEMENT);
+            List<FakeElement> body = Selectors.css(document, "body");
+            return new FakeWebElement(FakeWebDriver.this, body.isEmpty() ? document : body.get(0));
+        }
+
+        @Override
+        public Alert alert() {
+            record(DriverCommand.GET_ALERT_TEXT);
+            throw new NoAlertPresentException();
+        }
+    }
+
+    private final class FakeOptions implements Options {
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            record(DriverCommand.ADD_COOKIE);
+            cookies.put(cookie.getName(), cookie);
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            record(DriverCommand.DELETE_COOKIE);
+            cookies.remove(name);
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            deleteCookieNamed(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            record(DriverCommand.DELETE_ALL_COOKIES);
+            cookies.clear();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            record(DriverCommand.GET_ALL_COOKIES);
+            return new LinkedHashSet<>(cookies.values());
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            record(DriverCommand.GET_ALL_COOKIES);
+            return cookies.get(name);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return new FakeTimeouts();
+        }
+
+        @Override
+        public ImeHandler ime() {
+            return new FakeImeHandler();
+        }
+
+        @Override
+        public Window window() {
+            return new FakeWindow();
+        }
+
+        @Override
+        public Logs logs() {
+            return new FakeLogs();
+        }
+    }
+
+    /**
+     * Input methods of a browser without any engine installed
+     */
+    private final class FakeImeHandler implements ImeHandler {
+
+        @Override
+        public List<String> getAvailableEngines() {
+            record(DriverCommand.IME_GET_AVAILABLE_ENGINES);
+            return new ArrayList<>();
+        }
+
+        @Override
+        public String getActiveEngine() {
+            record(DriverCommand.IME_GET_ACTIVE_ENGINE);
+            return "";
+        }
+
+        @Override
+        public boolean isActivated() {
+            record(DriverCommand.IME_IS_ACTIVATED);
+            return false;
+        }
+
+        @Override
+        public void deactivate() {
+            record(DriverCommand.IME_DEACTIVATE);
+        }
+
+        @Override
+        public void activateEngine(String engine) {
+            record(DriverCommand.IME_ACTIVATE_ENGINE);
+            throw new ImeActivationFailedException("No input method engine " + engine);
+        }
+    }
+
+    /**
+     * Logs of a browser that did not log anything
+     */
+    private final class FakeLogs implements Logs {
+
+        @Override
+        public LogEntries get(String logType) {
+            record(DriverCommand.GET_LOG);
+            return new LogEntries(Collections.<LogEntry>emptyList());
+        }
+
+        @Override
+        public Set<String> getAvailableLogTypes() {
+            record(DriverCommand.GET_AVAILABLE_LOG_TYPES);
+            return new LinkedHashSet<>();
+        }
+    }
+
+    private final class FakeTimeouts implements Timeouts {
+
+        @Override
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            record(DriverCommand.IMPLICITLY_WAIT);
+            implicitWaitNanos = unit.toNanos(time);
+            return this;
+        }
+
+        @Override
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            record(DriverCommand.SET_SCRIPT_TIMEOUT);
+            return this;
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            record(DriverCommand.SET_TIMEOUT);
+            return this;
+        }
+    }
+
+    private final class FakeWindow implements Window {
+
+        @Override
+        public void setSize(Dimension targetSize) {
+            record(DriverCommand.SET_WINDOW_SIZE);
+            windowSize = targetSize;
+        }
+
+        @Override
+        public void setPosition(Point targetPosition) {
+            record(DriverCommand.SET_WINDOW_POSITION);
+            windowPosition = targetPosition;
+        }
+
+        @Override
+        public Dimension getSize() {
+            record(DriverCommand.GET_WINDOW_SIZE);
+            return windowSize;
+        }
+
+        @Override
+        public Point getPosition() {
+            record(DriverCommand.GET_WINDOW_POSITION);
+            return windowPosition;
+        }
+
+        @Override
+        public void maximize() {
+            record(DriverCommand.MAXIMIZE_WINDOW);
+            windowSize = new Dimension(1920, 1080);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package net.jockx.fluentpage.testing;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotVisibleException;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.remote.DriverCommand;
+
+/**
+ * {@link WebElement} view of a {@link FakeElement}. Every call is recorded by the owning {@link FakeWebDriver}.
+ * Elements removed from the document, or belonging to a document no longer loaded, are stale.
+ */
+final class FakeWebElement extends FakeSearchContext implements WebElement, WrapsDriver {
+
+    private final FakeWebDriver driver;
+    private final FakeElement element;
+
+    FakeWebElement(FakeWebDriver driver, FakeElement element) {
+        this.driver = driver;
+        this.element = element;
+    }
+
+    @Override
+    FakeWebDriver driver() {
+        return driver;
+    }
+
+    @Override
+    FakeElement searchRoot() {
+        return attached();
+    }
+
+    @Override
+    String findElementCommand() {
+        return DriverCommand.FIND_CHILD_ELEMENT;
+    }
+
+    @Override
+    String findElementsCommand() {
+        return DriverCommand.FIND_CHILD_ELEMENTS;
+    }
+
+    FakeElement getElement() {
+        return element;
+    }
+
+    private FakeElement attached() {
+        FakeElement root = element;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        if (root != driver.document()) {
+            throw new StaleElementReferenceException("Element " + element + " is no longer attached to the DOM");
+        }
+        return element;
+    }
+
+    private FakeElement interactable(String command) {
+        driver.record(command);
+        FakeElement target = attached();
+        if (!target.isDisplayed()) {
+            throw new ElementNotVisibleException("Element " + target + " is not currently visible");
+        }
+        if (!target.isEnabled()) {
+            throw new InvalidElementStateException("Element " + target + " is disabled");
+        }
+        return target;
+    }
+
+    @Override
+    public void click() {
+        FakeElement target = interactable(DriverCommand.CLICK_ELEMENT);
+        String type = target.getAttribute("type");
+        if ("checkbox".equals(type) || "option".equals(target.getTagName())) {
+            target.setSelected(!target.isSelected());
+        } else if ("radio".equals(type)) {
+            target.setSelected(true);
+        }
+    }
+
+    @Override
+    public void submit() {
+        interactable(DriverCommand.SUBMIT_ELEMENT);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        FakeElement target = interactable(DriverCommand.SEND_KEYS_TO_ELEMENT);
+        StringBuilder value = new StringBuilder(valueOf(target));
+        for (CharSequence keys : keysToSend) {
+            value.append(keys);
+        }
+        target.attr("value", value.toString());
+    }
+
+    @Override
+    public void clear() {
+        interactable(DriverCommand.CLEAR_ELEMENT).attr("value", "");
+    }
+
+    private static String valueOf(FakeElement target) {
+        String value = target.getAttribute("value");
+        return value == null ? "" : value;
+    }
+
+    @Override
+    public String getTagName() {
+        driver.record(DriverCommand.GET_ELEMENT_TAG_NAME);
+        return attached().getTagName();
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        driver.record(DriverCommand.GET_ELEMENT_ATTRIBUTE);
+        FakeElement target = attached();
+        switch (name) {
+            case "selected":
+            case "checked":
+                return target.isSelected() ? "true" : null;
+            case "disabled":
+                return target.isEnabled() ? null : "true";
+            case "value":
+                String value = target.getAttribute("value");
+                return value != null ? value : target.getOwnText();
+            default:
+                return target.getAttribute(name);
+        }
+    }
+
+    @Override
+    public boolean isSelected() {
+        driver.record(DriverCommand.IS_ELEMENT_SELECTED);
+        return attached().isSelected();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        driver.record(DriverCommand.IS_ELEMENT_ENABLED);
+        return attached().isEnabled();
+    }
+
+    @Override
+    public String getText() {
+        driver.record(DriverCommand.GET_ELEMENT_TEXT);
+        return attached().getText();
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        driver.record(DriverCommand.IS_ELEMENT_DISPLAYED);
+        return attached().isDisplayed();
+    }
+
+    @Override
+    public Point getLocation() {
+        driver.record(DriverCommand.GET_ELEMENT_LOCATION);
+        attached();
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        driver.record(DriverCommand.GET_ELEMENT_SIZE);
+        return attached().isDisplayed() ? new Dimension(100, 20) : new Dimension(0, 0);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        driver.record(DriverCommand.GET_ELEMENT_VALUE_OF_CSS_PROPERTY);
+        FakeElement target = attached();
+        if ("display".equals(propertyName)) {
+            return target.isDisplayed() ? "block" : "none";
+        }
+        if ("visibility".equals(propertyName)) {
+            return target.isDisplayed() ? "visible" : "hidden";
+        }
+        return "";
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FakeWebElement && ((FakeWebElement) other).element == element;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(element);
+    }
+
+    @Override
+    public String toString() {
+        return "[FakeWebElement " + element + "]";
+    }
+}
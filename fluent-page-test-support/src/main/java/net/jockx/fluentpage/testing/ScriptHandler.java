@@ -0,0 +1,17 @@
+package net.jockx.fluentpage.testing;
+
+/**
+ * Answers scripts executed with {@link FakeWebDriver#executeScript(String, Object...)}
+ * and {@link FakeWebDriver#executeAsyncScript(String, Object...)}
+ */
+public interface ScriptHandler {
+
+    /**
+     * @param driver    driver executing the script, see {@link FakeWebDriver#document()}
+     *                  and {@link FakeWebDriver#elementOf(org.openqa.selenium.WebElement)}
+     * @param script    script source
+     * @param arguments script arguments as passed by the caller
+     * @return script result, as a browser would have returned it to WebDriver
+     */
+    Object execute(FakeWebDriver driver, String script, Object... arguments);
+}
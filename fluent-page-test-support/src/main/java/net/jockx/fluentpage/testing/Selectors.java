@@ -0,0 +1,412 @@
+package net.jockx.fluentpage.testing;
+
+import org.openqa.selenium.InvalidSelectorException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Evaluates the subset of CSS selectors and XPath expressions supported by {@link FakeWebDriver}.
+ * <p>CSS: type, universal, {@code #id}, {@code .class} and attribute selectors ({@code [a]}, {@code [a=v]},
+ * {@code [a~=v]}, {@code [a^=v]}, {@code [a$=v]}, {@code [a*=v]}), descendant and child combinators
+ * and selector groups.</p>
+ * <p>XPath: location paths of {@code /} and {@code //} steps with a tag name or {@code *}, {@code ..},
+ * and predicates {@code [@a]}, {@code [@a='v']}, {@code [text()='v']}, {@code [contains(@a,'v')]},
+ * {@code [contains(text(),'v')]} and positional {@code [n]}.</p>
+ */
+final class Selectors {
+
+    private Selectors() {
+    }
+
+    static List<FakeElement> css(FakeElement root, String selector) {
+        List<List<Compound>> groups = new ArrayList<>();
+        for (String group : splitGroups(selector)) {
+            groups.add(parseCss(group.trim(), selector));
+        }
+        List<FakeElement> found = new ArrayList<>();
+        for (FakeElement candidate : root.descendants()) {
+            for (List<Compound> group : groups) {
+                if (matches(candidate, group, group.size() - 1)) {
+                    found.add(candidate);
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static List<String> splitGroups(String selector) {
+        List<String> groups = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        char quote = 0;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                groups.add(selector.substring(start, i));
+                start = i + 1;
+            }
+        }
+        groups.add(selector.substring(start));
+        return groups;
+    }
+
+    private static boolean matches(FakeElement element, List<Compound> selector, int index) {
+        Compound compound = selector.get(index);
+        if (!compound.matches(element)) {
+            return false;
+        }
+        if (index == 0) {
+            return true;
+        }
+        if (compound.childOfPrevious) {
+            return element.getParent() != null && matches(element.getParent(), selector, index - 1);
+        }
+        for (FakeElement ancestor = element.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+            if (matches(ancestor, selector, index - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Compound> parseCss(String group, String selector) {
+        List<Compound> compounds = new ArrayList<>();
+        Compound current = null;
+        boolean child = false;
+        int i = 0;
+        while (i < group.length()) {
+            char c = group.charAt(i);
+            if (Character.isWhitespace(c) || c == '>') {
+                if (c == '>') {
+                    child = true;
+                }
+                current = null;
+                i++;
+                continue;
+            }
+            if (current == null) {
+                current = new Compound(child);
+                compounds.add(current);
+                child = false;
+            }
+            if (c == '#' || c == '.') {
+                int end = identifierEnd(group, i + 1);
+                String value = group.substring(i + 1, end);
+                if (c == '#') {
+                    current.attributes.add(new AttributeTest("id", "=", value));
+                } else {
+                    current.classes.add(value);
+                }
+                i = end;
+            } else if (c == '[') {
+                int end = group.indexOf(']', i);
+                if (end < 0) {
+                    throw new InvalidSelectorException("Unterminated attribute selector in " + selector);
+                }
+                current.attributes.add(AttributeTest.parse(group.substring(i + 1, end), selector));
+                i = end + 1;
+            } else if (c == '*') {
+                i++;
+            } else if (Character.isLetter(c)) {
+                int end = identifierEnd(group, i);
+                current.tagName = group.substring(i, end).toLowerCase();
+                i = end;
+            } else {
+                throw new InvalidSelectorException("Unsupported CSS selector " + selector);
+            }
+        }
+        if (compounds.isEmpty() || child && current == null) {
+            throw new InvalidSelectorException("Invalid CSS selector " + selector);
+        }
+        return compounds;
+    }
+
+    private static int identifierEnd(String text, int start) {
+        int end = start;
+        while (end < text.length() && isIdentifierPart(text.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '_';
+    }
+
+    private static final class Compound {
+        private final boolean childOfPrevious;
+        private final List<String> classes = new ArrayList<>();
+        private final List<AttributeTest> attributes = new ArrayList<>();
+        private String tagName;
+
+        private Compound(boolean childOfPrevious) {
+            this.childOfPrevious = childOfPrevious;
+        }
+
+        private boolean matches(FakeElement element) {
+            if (tagName != null && !tagName.equals(element.getTagName())) {
+                return false;
+            }
+            for (String className : classes) {
+                if (!element.hasClass(className)) {
+                    return false;
+                }
+            }
+            for (AttributeTest attribute : attributes) {
+                if (!attribute.matches(element.getAttribute(attribute.name))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class AttributeTest {
+        private final String name;
+        private final String operator;
+        private final String value;
+
+        private AttributeTest(String name, String operator, String value) {
+            this.name = name;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        private static AttributeTest parse(String expression, String selector) {
+            int equals = expression.indexOf('=');
+            if (equals < 0) {
+                return new AttributeTest(expression.trim(), null, null);
+            }
+            int nameEnd = equals > 0 && "~^$*|".indexOf(expression.charAt(equals - 1)) >= 0 ? equals - 1 : equals;
+            String value = expression.substring(equals + 1).trim();
+            if (value.length() >= 2 && (value.charAt(0) == '"' || value.charAt(0) == '\'')) {
+                value = value.substring(1, value.length() - 1);
+            }
+            String operator = expression.substring(nameEnd, equals + 1);
+            if ("|=".equals(operator)) {
+                throw new InvalidSelectorException("Unsupported attribute operator in " + selector);
+            }
+            return new AttributeTest(expression.substring(0, nameEnd).trim(), operator, value);
+        }
+
+        private boolean matches(String actual) {
+            if (actual == null) {
+                return false;
+            }
+            if (operator == null) {
+                return true;
+            }
+            switch (operator) {
+                case "=":
+                    return actual.equals(value);
+                case "~=":
+                    for (String word : actual.trim().split("\\s+")) {
+                        if (word.equals(value)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case "^=":
+                    return actual.startsWith(value);
+                case "$=":
+                    return actual.endsWith(value);
+                default:
+                    return actual.contains(value);
+            }
+        }
+    }
+
+    static List<FakeElement> xpath(FakeElement root, FakeElement document, String expression) {
+        String path = expression.trim();
+        List<FakeElement> context = new ArrayList<>();
+        if (path.startsWith("/")) {
+            // null stands for the document node, the parent of the root element
+            context.add(null);
+        } else {
+            context.add(root);
+            if (path.startsWith(".") && !path.startsWith("..")) {
+                path = path.substring(1);
+            }
+        }
+        int i = 0;
+        while (i < path.length()) {
+            boolean descendants;
+            if (path.startsWith("//", i)) {
+                descendants = true;
+                i += 2;
+            } else if (path.startsWith("/", i)) {
+                descendants = false;
+                i += 1;
+            } else if (i == 0) {
+                descendants = false;
+            } else {
+                throw new InvalidSelectorException("Unsupported XPath " + expression);
+            }
+            int end = stepEnd(path, i);
+            context = step(context, document, descendants, path.substring(i, end), expression);
+            i = end;
+        }
+        List<FakeElement> found = new ArrayList<>();
+        for (FakeElement element : context) {
+            if (element != null) {
+                found.add(element);
+            }
+        }
+        return found;
+    }
+
+    private static int stepEnd(String path, int start) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = start; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            } else if (c == '/' && depth == 0) {
+                return i;
+            }
+        }
+        return path.length();
+    }
+
+    private static List<FakeElement> step(List<FakeElement> context, FakeElement document, boolean descendants,
+                                          String step, String expression) {
+        Set<FakeElement> result = new LinkedHashSet<>();
+        if ("..".equals(step)) {
+            for (FakeElement element : context) {
+                if (element != null && element.getParent() != null) {
+                    result.add(element.getParent());
+                }
+            }
+            return new ArrayList<>(result);
+        }
+        if (".".equals(step)) {
+            return context;
+        }
+        int predicateStart = step.indexOf('[');
+        String nodeTest = (predicateStart < 0 ? step : step.substring(0, predicateStart)).trim().toLowerCase();
+        List<String> predicates = new ArrayList<>();
+        int i = predicateStart;
+        while (i >= 0 && i < step.length()) {
+            int end = stepPredicateEnd(step, i);
+            predicates.add(step.substring(i + 1, end).trim());
+            i = end + 1;
+        }
+        for (FakeElement element : context) {
+            List<FakeElement> candidates;
+            if (element == null) {
+                candidates = new ArrayList<>();
+                candidates.add(document);
+                if (descendants) {
+                    candidates.addAll(document.descendants());
+                }
+            } else {
+                candidates = descendants ? element.descendants() : element.getChildren();
+            }
+            List<FakeElement> matching = new ArrayList<>();
+            for (FakeElement candidate : candidates) {
+                if ("*".equals(nodeTest) || nodeTest.equals(candidate.getTagName())) {
+                    matching.add(candidate);
+                }
+            }
+            for (String predicate : predicates) {
+                matching = filter(matching, predicate, expression);
+            }
+            result.addAll(matching);
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static int stepPredicateEnd(String step, int start) {
+        char quote = 0;
+        for (int i = start + 1; i < step.length(); i++) {
+            char c = step.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        throw new InvalidSelectorException("Unterminated predicate in XPath");
+    }
+
+    private static List<FakeElement> filter(List<FakeElement> candidates, String predicate, String expression) {
+        if (predicate.matches("\\d+")) {
+            int position = Integer.parseInt(predicate);
+            List<FakeElement> selected = new ArrayList<>();
+            if (position >= 1 && position <= candidates.size()) {
+                selected.add(candidates.get(position - 1));
+            }
+            return selected;
+        }
+        List<FakeElement> selected = new ArrayList<>();
+        for (FakeElement candidate : candidates) {
+            if (test(candidate, predicate, expression)) {
+                selected.add(candidate);
+            }
+        }
+        return selected;
+    }
+
+    private static boolean test(FakeElement element, String predicate, String expression) {
+        if (predicate.startsWith("contains(") && predicate.endsWith(")")) {
+            String arguments = predicate.substring("contains(".length(), predicate.length() - 1);
+            int comma = arguments.indexOf(',');
+            if (comma < 0) {
+                throw new InvalidSelectorException("Unsupported XPath " + expression);
+            }
+            String actual = operand(element, arguments.substring(0, comma).trim(), expression);
+            return actual != null && actual.contains(literal(arguments.substring(comma + 1).trim(), expression));
+        }
+        int equals = predicate.indexOf('=');
+        if (equals < 0) {
+            return operand(element, predicate, expression) != null;
+        }
+        String actual = operand(element, predicate.substring(0, equals).trim(), expression);
+        return actual != null && actual.equals(literal(predicate.substring(equals + 1).trim(), expression));
+    }
+
+    private static String operand(FakeElement element, String operand, String expression) {
+        if (operand.startsWith("@")) {
+            return element.getAttribute(operand.substring(1).trim());
+        }
+        if ("text()".equals(operand) || ".".equals(operand)) {
+            return "text()".equals(operand) ? element.getOwnText() : element.getText();
+        }
+        throw new InvalidSelectorException("Unsupported XPath " + expression);
+    }
+
+    private static String literal(String literal, String expression) {
+        if (literal.length() >= 2 && (literal.charAt(0) == '\'' || literal.charAt(0) == '"')
+                && literal.charAt(literal.length() - 1) == literal.charAt(0)) {
+            return literal.substring(1, literal.length() - 1);
+        }
+        throw new InvalidSelectorException("Unsupported XPath " + expression);
+    }
+}
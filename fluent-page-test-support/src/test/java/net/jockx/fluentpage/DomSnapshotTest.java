@@ -0,0 +1,205 @@
+package net.jockx.fluentpage;
+
+import net.jockx.fluentpage.testing.FakeElement;
+import net.jockx.fluentpage.testing.FakeWebDriver;
+import org.openqa.selenium.remote.DriverCommand;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+public class DomSnapshotTest {
+
+    public static class ResultsPage extends Page<ResultsPage> {
+    }
+
+    private FakeWebDriver driver;
+    private FakeElement results;
+
+    @BeforeMethod
+    public void setUp() {
+        results = FakeElement.tag("ul").children(
+                FakeElement.tag("li").cls("result").text("First"),
+                FakeElement.tag("li").cls("result").text("  Second \n result "));
+        driver = new FakeWebDriver().withDocument(FakeElement.document(
+                FakeElement.tag("h1").text("Search results"),
+                results,
+                FakeElement.tag("a").cls("next").attr("href", "/search?page=2").text("Next")));
+        Page.initialize(driver);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Test
+    public void queriesSingleCopyOfPageSource() {
+        ResultsPage page = Page.get(ResultsPage.class);
+        driver.resetCommandCounts();
+        DomSnapshot<ResultsPage> snapshot = page.assertion.onSnapshot();
+        assertEquals(snapshot.count("li.result"), 2);
+        assertEquals(snapshot.text("h1"), "Search results");
+        assertEquals(snapshot.texts("li.result"), Arrays.asList("First", "Second result"));
+        assertEquals(snapshot.attribute("a.next", "href"), "/search?page=2");
+        assertNull(snapshot.attribute("a.next", "title"));
+        assertNull(snapshot.text("h2"));
+        assertSame(snapshot.assertText("h1", "Search results", "Wrong heading")
+                .assertTextContains("li.result", "Fir", "Wrong first result")
+                .assertTexts("li.result", Arrays.asList("First", "Second result"), "Wrong results")
+                .assertCount("li.result", 2, "Wrong number of results")
+                .assertAttribute("a.next", "href", "/search?page=2", "Wrong next page link")
+                .assertAttribute("a.next", "title", null, "Unexpected title")
+                .assertPresent("a.next", "No next page link")
+                .assertNotPresent("a.previous", "Unexpected previous page link")
+                .page(), page);
+        assertEquals(driver.getCommandCount(DriverCommand.GET_PAGE_SOURCE), 1);
+        assertEquals(driver.getCommandCount(), 1);
+    }
+
+    @Test
+    public void followsPageOnlyWhenRefreshed() {
+        DomSnapshot<ResultsPage> snapshot = Page.get(ResultsPage.class).assertion.onSnapshot();
+        results.children(FakeElement.tag("li").cls("result").text("Third"));
+        assertEquals(snapshot.count("li.result"), 2);
+        assertEquals(snapshot.refresh().count("li.result"), 3);
+    }
+
+    @Test
+    public void describesFailures() {
+        final DomSnapshot<ResultsPage> snapshot = Page.get(ResultsPage.class).assertion.onSnapshot();
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertPresent("a.previous", "No previous page link");
+            }
+        }, "No previous page link: expected [a.previous] to be present");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertNotPresent("li.result", "Unexpected results");
+            }
+        }, "Unexpected results: expected [li.result] not to be present, found 2");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertCount("li.result", 3, "Wrong number of results");
+            }
+        }, "Wrong number of results expected [3] but found [2]");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertText("h1", "Results", "Wrong heading");
+            }
+        }, "Wrong heading expected [Results] but found [Search results]");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertText("h2", "Results", "Wrong heading");
+            }
+        }, "Wrong heading: expected [h2] to be present");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertTextContains("li.result", "Second", "Wrong first result");
+            }
+        }, "Wrong first result: expected [First] to contain [Second]");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertAttribute("a.next", "href", "/search?page=3", "Wrong next page link");
+            }
+        }, "Wrong next page link expected [/search?page=3] but found [/search?page=2]");
+    }
+
+    @Test
+    public void buildsSuppliedMessagesOnlyOnFailure() {
+        final DomSnapshot<ResultsPage> snapshot = Page.get(ResultsPage.class).assertion.onSnapshot();
+        final List<String> built = new ArrayList<>();
+        snapshot.assertText("h1", "Search results", message("Wrong heading", built))
+                .assertTextContains("li.result", "Fir", message("Wrong first result", built))
+                .assertTexts("li.result", Arrays.asList("First", "Second result"), message("Wrong results", built))
+                .assertCount("li.result", 2, message("Wrong number of results", built))
+                .assertAttribute("a.next", "href", "/search?page=2", message("Wrong next page link", built))
+                .assertPresent("a.next", message("No next page link", built))
+                .assertNotPresent("a.previous", message("Unexpected previous page link", built));
+        assertEquals(built.size(), 0);
+
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertPresent("a.previous", message("No previous page link", built));
+            }
+        }, "No previous page link: expected [a.previous] to be present");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertNotPresent("li.result", message("Unexpected results", built));
+            }
+        }, "Unexpected results: expected [li.result] not to be present, found 2");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertCount("li.result", 3, message("Wrong number of results", built));
+            }
+        }, "Wrong number of results expected [3] but found [2]");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertText("h1", "Results", message("Wrong heading", built));
+            }
+        }, "Wrong heading expected [Results] but found [Search results]");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertText("h2", "Results", message("Wrong heading", built));
+            }
+        }, "Wrong heading: expected [h2] to be present");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertTextContains("li.result", "Second", message("Wrong first result", built));
+            }
+        }, "Wrong first result: expected [First] to contain [Second]");
+        assertFails(new Runnable() {
+            @Override
+            public void run() {
+                snapshot.assertAttribute("a.next", "href", "/search?page=3", message("Wrong next page link", built));
+            }
+        }, "Wrong next page link expected [/search?page=3] but found [/search?page=2]");
+        assertEquals(built.size(), 7);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsInvalidSelectors() {
+        Page.get(ResultsPage.class).assertion.onSnapshot().count("li[");
+    }
+
+    private static MessageSupplier message(final String message, final List<String> built) {
+        return new MessageSupplier() {
+            @Override
+            public String get() {
+                built.add(message);
+                return message;
+            }
+        };
+    }
+
+    private static void assertFails(Runnable assertion, String message) {
+        try {
+            assertion.run();
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), message);
+            return;
+        }
+        fail("Expected failure: " + message);
+    }
+}
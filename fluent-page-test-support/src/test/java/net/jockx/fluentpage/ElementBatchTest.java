@@ -0,0 +1,149 @@
+package net.jockx.fluentpage;
+
+import net.jockx.fluentpage.testing.FakeElement;
+import net.jockx.fluentpage.testing.FakeWebDriver;
+import net.jockx.fluentpage.testing.ScriptHandler;
+import net.thucydides.core.annotations.findby.FindBy;
+import net.thucydides.core.pages.WebElementFacade;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.remote.DriverCommand;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class ElementBatchTest {
+
+    public static class SearchPage extends Page<SearchPage> {
+        @FindBy(id = "query")
+        WebElementFacade query;
+        @FindBy(css = "button.search")
+        WebElementFacade search;
+        @FindBy(css = "button.reset")
+        WebElementFacade reset;
+        @FindBy(css = ".error")
+        WebElementFacade error;
+        @FindBy(id = "missing")
+        WebElementFacade missing;
+        @FindBys({@org.openqa.selenium.support.FindBy(tagName = "form"),
+                @org.openqa.selenium.support.FindBy(tagName = "button")})
+        WebElementFacade firstButton;
+    }
+
+    private FakeWebDriver driver;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver().withDocument(FakeElement.document(
+                FakeElement.tag("form").children(
+                        FakeElement.tag("input").id("query"),
+                        FakeElement.tag("button").cls("search").text("Search"),
+                        FakeElement.tag("button").cls("reset").text("Reset").disabled()),
+                FakeElement.tag("div").cls("error").text("No results").hidden()));
+        Page.initialize(driver);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Test
+    public void resolvesPageFieldsWithSingleScript() {
+        SearchPage page = Page.get(SearchPage.class);
+        driver.resetCommandCounts();
+        page.assertion.batch()
+                .visible(page.query, page.search)
+                .enabled(page.query, page.search)
+                .notEnabled(page.reset)
+                .notVisible(page.error)
+                .present(page.error)
+                .notPresent(page.missing)
+                .verify("Search form is not ready");
+        assertEquals(driver.getCommandCount(DriverCommand.EXECUTE_SCRIPT), 1);
+        assertEquals(driver.getCommandCount(), 1);
+    }
+
+    @Test
+    public void reportsAllFailingElementsTogether() {
+        SearchPage page = Page.get(SearchPage.class);
+        page.setWaitForTimeout(200);
+        try {
+            page.assertion.batch()
+                    .visible(page.query, page.error)
+                    .enabled(page.reset)
+                    .present(page.missing)
+                    .notPresent(page.search)
+                    .verify("Search form is not ready");
+            fail("Batch passed");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "Search form is not ready: expected [SearchPage.error] to be visible, "
+                    + "[SearchPage.reset] to be enabled, [SearchPage.missing] to be present, "
+                    + "[SearchPage.search] not to be present");
+        }
+    }
+
+    @Test
+    public void checksOtherElementsOneByOne() {
+        requireElementLookups();
+        SearchPage page = Page.get(SearchPage.class);
+        WebElementFacade query = page.element(By.id("query"));
+        driver.resetCommandCounts();
+        page.assertion.batch()
+                .visible(query, page.firstButton)
+                .enabled(page.firstButton)
+                .verify("Search form is not ready");
+        assertEquals(driver.getCommandCount(DriverCommand.EXECUTE_SCRIPT), 0);
+        assertTrue(driver.getCommandCount(DriverCommand.IS_ELEMENT_DISPLAYED) >= 2);
+    }
+
+    @Test
+    public void namesOtherElementsByPosition() {
+        SearchPage page = Page.get(SearchPage.class);
+        page.setWaitForTimeout(200);
+        try {
+            page.assertion.batch()
+                    .visible(page.query, page.element(By.cssSelector(".error")))
+                    .verify("Search form is not ready");
+            fail("Batch passed");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "Search form is not ready: expected [element 2] to be visible");
+        }
+    }
+
+    @Test
+    public void checksElementsOneByOneWhenScriptFails() {
+        requireElementLookups();
+        driver.withScriptHandler(new ScriptHandler() {
+            @Override
+            public Object execute(FakeWebDriver fake, String script, Object... arguments) {
+                return null;
+            }
+        });
+        SearchPage page = Page.get(SearchPage.class);
+        driver.resetCommandCounts();
+        page.assertion.batch()
+                .visible(page.query, page.search)
+                .enabled(page.search)
+                .verify("Search form is not ready");
+        assertEquals(driver.getCommandCount(DriverCommand.EXECUTE_SCRIPT), 1);
+        assertTrue(driver.getCommandCount(DriverCommand.IS_ELEMENT_DISPLAYED) >= 2);
+        assertTrue(driver.getCommandCount(DriverCommand.IS_ELEMENT_ENABLED) >= 1);
+    }
+
+    /**
+     * Thucydides' element locators reference {@code sun.misc} classes removed in Java 9
+     */
+    private static void requireElementLookups() {
+        try {
+            Class.forName("sun.misc.ServiceConfigurationError");
+        } catch (ClassNotFoundException e) {
+            throw new SkipException("Element lookups need Java 8");
+        }
+    }
+}
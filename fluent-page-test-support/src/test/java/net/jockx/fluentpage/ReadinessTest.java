@@ -0,0 +1,112 @@
+package net.jockx.fluentpage;
+
+import net.jockx.fluentpage.testing.FakeElement;
+import net.jockx.fluentpage.testing.FakeWebDriver;
+import net.jockx.fluentpage.testing.ScriptHandler;
+import net.thucydides.core.annotations.findby.FindBy;
+import net.thucydides.core.pages.WebElementFacade;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.support.pagefactory.ByChained;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+public class ReadinessTest {
+
+    public static class SearchPage extends Page<SearchPage> {
+        @FindBy(id = "query")
+        WebElementFacade query;
+        @FindBy(css = ".spinner")
+        WebElementFacade spinner;
+
+        @Override
+        protected Readiness readiness() {
+            return Readiness.when()
+                    .visible(query)
+                    .enabled(query)
+                    .notVisible(spinner)
+                    .notPresent(By.id("error"))
+                    .condition("window.app && window.app.ready");
+        }
+    }
+
+    public static class ResultsPage extends Page<ResultsPage> {
+        @FindBy(css = ".spinner")
+        WebElementFacade spinner;
+
+        @Override
+        protected Readiness readiness() {
+            return Readiness.when().visible(spinner).present(By.id("results"));
+        }
+    }
+
+    private FakeWebDriver driver;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver().withDocument(FakeElement.document(
+                FakeElement.tag("input").id("query"),
+                FakeElement.tag("div").cls("spinner").hidden()));
+        Page.initialize(driver);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Test
+    public void awaitsConditionsWithSingleScript() {
+        SearchPage page = Page.get(SearchPage.class);
+        driver.resetCommandCounts();
+        page.waitToLoad();
+        assertEquals(driver.getCommandCount(DriverCommand.EXECUTE_ASYNC_SCRIPT), 1);
+        assertEquals(driver.getCommandCount(DriverCommand.SET_SCRIPT_TIMEOUT), 1);
+        assertEquals(driver.getCommandCount(), 2);
+    }
+
+    @Test
+    public void setsScriptTimeoutOnce() {
+        SearchPage page = Page.get(SearchPage.class);
+        page.setWaitForTimeout(3000);
+        driver.resetCommandCounts();
+        page.waitToLoad();
+        page.waitToLoad();
+        assertEquals(driver.getCommandCount(DriverCommand.SET_SCRIPT_TIMEOUT), 1);
+        assertEquals(Page.getContext().getScriptTimeout(), 5000);
+    }
+
+    @Test
+    public void reportsUnmetConditionsOnTimeout() {
+        ResultsPage page = Page.get(ResultsPage.class);
+        page.setWaitForTimeout(200);
+        try {
+            page.waitToLoad();
+            fail("Page was ready");
+        } catch (TimeoutException e) {
+            assertEquals(e.getMessage().substring(0, e.getMessage().indexOf('\n')), "ResultsPage not ready after 200"
+                    + " ms, waiting for [ResultsPage.spinner] to be visible, [By.id: results] to be present");
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void rejectsUnexpectedScriptResults() {
+        driver.withScriptHandler(new ScriptHandler() {
+            @Override
+            public Object execute(FakeWebDriver fake, String script, Object... arguments) {
+                return null;
+            }
+        });
+        Page.get(SearchPage.class).waitToLoad();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsLocatorsTheScriptCannotEvaluate() {
+        Readiness.when().present(new ByChained(By.id("form"), By.tagName("input")));
+    }
+}
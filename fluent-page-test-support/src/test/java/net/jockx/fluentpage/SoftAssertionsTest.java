@@ -0,0 +1,140 @@
+package net.jockx.fluentpage;
+
+import net.jockx.fluentpage.testing.FakeElement;
+import net.jockx.fluentpage.testing.FakeWebDriver;
+import net.jockx.fluentpage.testing.ScriptHandler;
+import net.thucydides.core.annotations.findby.FindBy;
+import net.thucydides.core.pages.WebElementFacade;
+import org.openqa.selenium.remote.DriverCommand;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+public class SoftAssertionsTest {
+
+    public static class SearchPage extends Page<SearchPage> {
+        @FindBy(id = "query")
+        WebElementFacade query;
+        @FindBy(css = "button.search")
+        WebElementFacade search;
+        @FindBy(css = ".error")
+        WebElementFacade error;
+    }
+
+    private FakeWebDriver driver;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver().withDocument(FakeElement.document(
+                FakeElement.tag("input").id("query"),
+                FakeElement.tag("button").cls("search").text("Search"),
+                FakeElement.tag("div").cls("error").text("No results")));
+        Page.initialize(driver);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Test
+    public void collectsFailuresInOrder() {
+        SearchPage page = Page.get(SearchPage.class);
+        try {
+            page.assertion.soft()
+                    .assertEquals(1, 2, "Wrong count")
+                    .assertion.assertTrue(true, "Not true")
+                    .assertion.assertEquals("a", "b", "Wrong letter")
+                    .assertion.assertAll();
+            fail("Soft assertions passed");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "2 soft assertions failed:"
+                    + "\n  1) Wrong count expected [2] but found [1]"
+                    + "\n  2) Wrong letter expected [b] but found [a]");
+            assertEquals(e.getSuppressed().length, 2);
+        }
+        assertEquals(Page.getContext().getSoftAssertions(), null);
+    }
+
+    @Test
+    public void passesWithoutFailures() {
+        SearchPage page = Page.get(SearchPage.class);
+        page.assertion.soft().assertEquals(1, 1, "Wrong count").assertion.assertAll();
+        page.assertion.assertEquals(1, 1, "Wrong count");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void requiresSoftModeToAssertAll() {
+        Page.get(SearchPage.class).assertion.assertAll();
+    }
+
+    @Test
+    public void throwsRightAwayAfterAssertAll() {
+        SearchPage page = Page.get(SearchPage.class);
+        page.assertion.soft().assertAll();
+        try {
+            page.assertion.assertEquals(1, 2, "Wrong count");
+            fail("Assertion passed");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "Wrong count expected [2] but found [1]");
+        }
+    }
+
+    @Test
+    public void resolvesElementChecksWithSingleScript() {
+        SearchPage page = Page.get(SearchPage.class);
+        driver.resetCommandCounts();
+        page.assertion.soft()
+                .assertVisible(page.query, "Query is not visible")
+                .assertion.assertVisible(page.search, "Search is not visible")
+                .assertion.assertVisible(page.error, "Error is not visible")
+                .assertion.assertAll();
+        assertEquals(driver.getCommandCount(DriverCommand.EXECUTE_SCRIPT), 1);
+        assertEquals(driver.getCommandCount(), 1);
+    }
+
+    @Test
+    public void reportsUnmetElementChecksAfterWaitTimeout() {
+        SearchPage page = Page.get(SearchPage.class);
+        page.setWaitForTimeout(200);
+        try {
+            page.assertion.soft()
+                    .assertVisible(page.query, "Query is not visible")
+                    .assertion.assertEquals(1, 2, "Wrong count")
+                    .assertion.assertNotVisible(page.error, "Error is visible")
+                    .assertion.assertAll();
+            fail("Soft assertions passed");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "2 soft assertions failed:"
+                    + "\n  1) Wrong count expected [2] but found [1]"
+                    + "\n  2) Error is visible: expected [SearchPage.error] not to be visible");
+        }
+    }
+
+    @Test
+    public void keepsCollectedFailuresWhenElementChecksCannotBeResolved() {
+        SearchPage page = Page.get(SearchPage.class);
+        driver.withScriptHandler(new ScriptHandler() {
+            @Override
+            public Object execute(FakeWebDriver driver, String script, Object... arguments) {
+                throw new IllegalStateException("Browser is gone");
+            }
+        });
+        try {
+            page.assertion.soft()
+                    .assertEquals(1, 2, "Wrong count")
+                    .assertion.assertVisible(page.query, "Query is not visible")
+                    .assertion.assertAll();
+            fail("Soft assertions passed");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "2 soft assertions failed:"
+                    + "\n  1) Wrong count expected [2] but found [1]"
+                    + "\n  2) Unable to resolve element checks: Browser is gone");
+            assertEquals(e.getSuppressed()[1].getCause().getClass(), IllegalStateException.class);
+        }
+        assertEquals(Page.getContext().getSoftAssertions(), null);
+    }
+}
@@ -0,0 +1,182 @@
+package net.jockx.fluentpage;
+
+import net.jockx.fluentpage.testing.FakeElement;
+import net.jockx.fluentpage.testing.FakeWebDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.remote.DriverCommand;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class TableTest {
+
+    public static class ResultsPage extends Page<ResultsPage> {
+    }
+
+    private FakeWebDriver driver;
+    private ResultsPage page;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver().withDocument(FakeElement.document(
+                FakeElement.tag("table").id("results").children(
+                        FakeElement.tag("thead").children(
+                                row("th", "Results", ""),
+                                row("th", "Name", "Price")),
+                        FakeElement.tag("tbody").children(
+                                row("td", "Apple", " 1.50\n"),
+                                row("td", "Banana", "0.99"),
+                                row("td", "Cherry", "4.00").children(FakeElement.tag("td").text("extra"))),
+                        FakeElement.tag("tfoot").children(row("td", "Total", "6.49"))),
+                FakeElement.tag("table").id("plain").children(
+                        row("th", "Name", "Price"),
+                        row("td", "Apple").children(FakeElement.tag("td").children(
+                                FakeElement.tag("table").children(row("td", "nested")))),
+                        row("td", "Banana", "0.99")),
+                FakeElement.tag("table").id("headless").children(
+                        row("td", "Apple", "1.50"),
+                        row("th", "Banana", "0.99")),
+                FakeElement.tag("table").id("empty").children(
+                        FakeElement.tag("tbody").children(FakeElement.tag("tr"), FakeElement.tag("tr")))));
+        Page.initialize(driver);
+        page = Page.get(ResultsPage.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Test
+    public void readsTableWithSingleScript() {
+        driver.resetCommandCounts();
+        Table table = page.readTable(driver.findElement(By.id("results")));
+        assertEquals(driver.getCommandCount(DriverCommand.EXECUTE_SCRIPT), 1);
+        assertEquals(table.getHeaders(), Arrays.asList("Name", "Price"));
+        assertEquals(table.getRowCount(), 3);
+        assertEquals(table.getColumnCount(), 3);
+        assertEquals(table.column("Price"), Arrays.asList("1.50", "0.99", "4.00"));
+        assertEquals(table.row(2), Arrays.asList("Cherry", "4.00", "extra"));
+        assertEquals(table.cell(1, 0), "Banana");
+        assertEquals(table.toString(), "Table[Name, Price][rows=3, columns=3]");
+    }
+
+    @Test
+    public void padsShorterRows() {
+        Table table = page.readTable(By.id("results"));
+        assertEquals(table.row(0), Arrays.asList("Apple", "1.50", ""));
+        assertEquals(table.column(2), Arrays.asList("", "", "extra"));
+    }
+
+    @Test
+    public void takesHeaderFromFirstRowOfHeaderCells() {
+        Table table = page.readTable(By.id("plain"));
+        assertEquals(table.getHeaders(), Arrays.asList("Name", "Price"));
+        assertEquals(table.getRowCount(), 2);
+        assertEquals(table.row(0), Arrays.asList("Apple", "nested"));
+        assertEquals(table.row(1), Arrays.asList("Banana", "0.99"));
+    }
+
+    @Test
+    public void readsTableWithoutHeader() {
+        Table table = page.readTable(By.id("headless"));
+        assertEquals(table.getHeaders(), Collections.<String>emptyList());
+        assertEquals(table.getRowCount(), 2);
+        assertEquals(table.column(0), Arrays.asList("Apple", "Banana"));
+    }
+
+    @Test
+    public void countsRowsWithoutCells() {
+        Table table = page.readTable(By.id("empty"));
+        assertEquals(table.getRowCount(), 2);
+        assertEquals(table.getColumnCount(), 0);
+        assertEquals(table.row(1), Collections.<String>emptyList());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsUnknownColumns() {
+        page.readTable(By.id("results")).column("Quantity");
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void rejectsRowsOutOfBounds() {
+        page.readTable(By.id("results")).row(3);
+    }
+
+    @Test
+    public void assertsColumns() {
+        Table table = page.readTable(By.id("results"));
+        page.assertion.assertColumnEquals(table, "Name", Arrays.asList("Apple", "Banana", "Cherry"), "Wrong names");
+        assertFails(table, "Name", Arrays.asList("Apple", "Blueberry", "Cherry"),
+                "Wrong names: column [Name] differs at row 1: expected [Blueberry] but found [Banana]");
+        assertFails(table, "Name", Arrays.asList("Apple", "Banana"),
+                "Wrong names: column [Name] has 3 rows, expected 2, first unexpected [Cherry]");
+        assertFails(table, "Name", Arrays.asList("Apple", "Banana", "Cherry", "Date"),
+                "Wrong names: column [Name] has 3 rows, expected 4, first missing [Date]");
+    }
+
+    @Test
+    public void assertsRowsInAnyOrder() {
+        Table table = page.readTable(By.id("plain"));
+        page.assertion.assertRowsEqualNoOrder(table, Arrays.asList(
+                Arrays.asList("Banana", "0.99"), Arrays.asList("Apple", "nested")), "Wrong rows");
+        try {
+            page.assertion.assertRowsEqualNoOrder(table, Arrays.asList(
+                    Arrays.asList("Banana", "0.99"), Arrays.asList("Apple", "1.50")), "Wrong rows");
+            fail("Rows were equal");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "Wrong rows: unexpected row 0 [Apple, nested]");
+        }
+        try {
+            page.assertion.assertRowsEqualNoOrder(table, Arrays.asList(Arrays.asList("Banana", "0.99"),
+                    Arrays.asList("Apple", "nested"), Arrays.asList("Banana", "0.99")), "Wrong rows");
+            fail("Rows were equal");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "Wrong rows: missing row [Banana, 0.99], 1 rows less than expected");
+        }
+    }
+
+    @Test
+    public void assertsSortedColumns() {
+        Table table = page.readTable(By.id("results"));
+        page.assertion.assertColumnSorted(table, "Name", "Names not sorted");
+        try {
+            page.assertion.assertColumnSorted(table, "Price", "Prices not sorted");
+            fail("Column was sorted");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "Prices not sorted: column [Price] is not sorted at row 1: [1.50] before"
+                    + " [0.99]");
+        }
+        try {
+            page.assertion.assertColumnSorted(table, "Name", Collections.reverseOrder(), "Names not descending");
+            fail("Column was sorted");
+        } catch (AssertionError e) {
+            assertTrue(e.getMessage().startsWith("Names not descending: column [Name] is not sorted at row 1"));
+        }
+    }
+
+    private void assertFails(Table table, String header, List<String> expected, String message) {
+        try {
+            page.assertion.assertColumnEquals(table, header, expected, "Wrong names");
+            fail("Column was equal");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), message);
+        }
+    }
+
+    private static FakeElement row(String cell, String... texts) {
+        FakeElement row = FakeElement.tag("tr");
+        for (String text : texts) {
+            row.children(FakeElement.tag(cell).text(text));
+        }
+        return row;
+    }
+}
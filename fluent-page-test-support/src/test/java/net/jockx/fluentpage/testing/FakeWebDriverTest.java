@@ -0,0 +1,180 @@
+package net.jockx.fluentpage.testing;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ImeActivationFailedException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.support.pagefactory.ByChained;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class FakeWebDriverTest {
+
+    private FakeWebDriver driver;
+
+    @BeforeMethod
+    public void setUp() {
+        driver = new FakeWebDriver().withDocument(FakeElement.document(
+                FakeElement.tag("form").id("login").children(
+                        FakeElement.tag("input").id("user").name("user").attr("type", "text"),
+                        FakeElement.tag("input").name("password").attr("type", "password"),
+                        FakeElement.tag("button").cls("primary submit").text("Sign in")),
+                FakeElement.tag("ul").cls("results").children(
+                        FakeElement.tag("li").cls("result").text("first"),
+                        FakeElement.tag("li").cls("result").text("second").children(
+                                FakeElement.tag("a").attr("href", "/second").text("Open second")),
+                        FakeElement.tag("li").cls("result").text("third")),
+                FakeElement.tag("div").cls("error").hidden().text("Wrong password")));
+    }
+
+    @Test
+    public void findsElementsByCssSelectors() {
+        assertEquals(texts(driver.findElements(By.cssSelector("li.result"))), list("first", "second Open second",
+                "third"));
+        assertEquals(driver.findElements(By.cssSelector("#login > input")).size(), 2);
+        assertEquals(driver.findElements(By.cssSelector("ul button")).size(), 0);
+        assertEquals(driver.findElements(By.cssSelector("input[type=password], button")).size(), 2);
+        assertEquals(driver.findElements(By.cssSelector("[type^=pass]")).size(), 1);
+        assertEquals(driver.findElements(By.cssSelector("[type$=ext]")).size(), 1);
+        assertEquals(driver.findElements(By.cssSelector("[type*=ssw]")).size(), 1);
+        assertEquals(driver.findElements(By.cssSelector("[class~=submit]")).size(), 1);
+        assertEquals(driver.findElement(By.cssSelector(".primary.submit")).getText(), "Sign in");
+    }
+
+    @Test
+    public void findsElementsByXPath() {
+        assertEquals(driver.findElements(By.xpath("//li")).size(), 3);
+        assertEquals(driver.findElement(By.xpath("//ul/li[2]/a")).getAttribute("href"), "/second");
+        assertEquals(driver.findElements(By.xpath("//input[@name='password']")).size(), 1);
+        assertEquals(driver.findElements(By.xpath("//input[@id]")).size(), 1);
+        assertEquals(driver.findElement(By.xpath("//button[text()='Sign in']")).getTagName(), "button");
+        assertEquals(driver.findElements(By.xpath("//li[contains(text(),'ir')]")).size(), 2);
+        assertEquals(driver.findElements(By.xpath("//*[contains(@class,'error')]")).size(), 1);
+        assertEquals(driver.findElement(By.xpath("//a/..")).getText(), "second Open second");
+    }
+
+    @Test
+    public void findsElementsByOtherStrategies() {
+        assertEquals(driver.findElement(By.id("user")).getAttribute("name"), "user");
+        assertEquals(driver.findElements(By.name("password")).size(), 1);
+        assertEquals(driver.findElements(By.className("result")).size(), 3);
+        assertEquals(driver.findElements(By.tagName("input")).size(), 2);
+        assertEquals(driver.findElement(By.linkText("Open second")).getAttribute("href"), "/second");
+        assertEquals(driver.findElements(By.partialLinkText("second")).size(), 1);
+    }
+
+    @Test
+    public void findsElementsWithinElements() {
+        WebElement form = driver.findElement(By.id("login"));
+        assertEquals(form.findElements(By.tagName("input")).size(), 2);
+        assertEquals(form.findElements(By.className("result")).size(), 0);
+        assertEquals(form.findElement(By.xpath(".//button")).getText(), "Sign in");
+    }
+
+    @Test
+    public void resolvesChainedLocators() {
+        List<WebElement> links = driver.findElements(new ByChained(By.className("results"), By.tagName("a")));
+        assertEquals(links.size(), 1);
+        assertEquals(driver.findElement(new ByChained(By.id("login"), By.name("password"))).getAttribute("type"),
+                "password");
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void failsToFindMissingElement() {
+        driver.findElement(By.cssSelector("table"));
+    }
+
+    @Test(expectedExceptions = InvalidSelectorException.class)
+    public void rejectsUnsupportedSelector() {
+        driver.findElements(By.cssSelector("li:first-child"));
+    }
+
+    @Test
+    public void countsOneCommandPerLookup() {
+        driver.resetCommandCounts();
+        driver.findElement(By.id("user"));
+        driver.findElements(By.xpath("//li"));
+        driver.findElements(new ByChained(By.id("login"), By.tagName("input")));
+        try {
+            driver.findElement(By.id("missing"));
+            fail("Missing element was found");
+        } catch (NoSuchElementException expected) {
+            // counted as well
+        }
+        assertEquals(driver.getCommandCount(DriverCommand.FIND_ELEMENT), 2);
+        assertEquals(driver.getCommandCount(DriverCommand.FIND_ELEMENTS), 2);
+        assertEquals(driver.getCommandCount(DriverCommand.FIND_CHILD_ELEMENTS), 1);
+        assertEquals(driver.getCommandCount(), 5);
+    }
+
+    @Test
+    public void countsElementCommands() {
+        WebElement button = driver.findElement(By.tagName("button"));
+        driver.resetCommandCounts();
+        button.getText();
+        button.isDisplayed();
+        button.isDisplayed();
+        assertEquals(driver.getCommandCount(DriverCommand.GET_ELEMENT_TEXT), 1);
+        assertEquals(driver.getCommandCount(DriverCommand.IS_ELEMENT_DISPLAYED), 2);
+        assertEquals(driver.getCommandCount(), 3);
+    }
+
+    @Test
+    public void reportsElementStates() {
+        assertTrue(driver.findElement(By.tagName("button")).isDisplayed());
+        assertFalse(driver.findElement(By.className("error")).isDisplayed());
+    }
+
+    @Test
+    public void servesPagesByUrl() {
+        driver.withPage("http://shop/cart", FakeElement.document(FakeElement.tag("h1").text("Cart")));
+        driver.get("http://shop/cart");
+        assertEquals(driver.getCurrentUrl(), "http://shop/cart");
+        assertEquals(driver.findElement(By.tagName("h1")).getText(), "Cart");
+        assertEquals(driver.findElements(By.id("user")).size(), 0);
+        assertEquals(driver.getCommandCount(DriverCommand.GET), 1);
+    }
+
+    @Test
+    public void hasNoInputMethodsOrLogs() {
+        driver.resetCommandCounts();
+        assertTrue(driver.manage().ime().getAvailableEngines().isEmpty());
+        assertFalse(driver.manage().ime().isActivated());
+        assertTrue(driver.manage().logs().getAvailableLogTypes().isEmpty());
+        assertTrue(driver.manage().logs().get("browser").getAll().isEmpty());
+        try {
+            driver.manage().ime().activateEngine("anthy");
+            fail("Input method engine was activated");
+        } catch (ImeActivationFailedException expected) {
+            // no engines are installed
+        }
+        assertEquals(driver.getCommandCount(), 5);
+        assertEquals(driver.getCommandCount(DriverCommand.GET_LOG), 1);
+    }
+
+    private static List<String> texts(List<WebElement> elements) {
+        List<String> texts = new ArrayList<>();
+        for (WebElement element : elements) {
+            texts.add(element.getText());
+        }
+        return texts;
+    }
+
+    private static List<String> list(String... elements) {
+        List<String> list = new ArrayList<>();
+        for (String element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+}
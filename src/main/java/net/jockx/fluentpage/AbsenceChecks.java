@@ -0,0 +1,165 @@
+package net.jockx.fluentpage;
+
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.pages.WebElementFacade;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fast path for negative element assertions. When enabled with {@link Page#useAbsenceChecks(AbsenceChecks)},
+ * {@link Assertion#assertNotPresent(WebElementFacade, String)} and
+ * {@link Assertion#assertNotVisible(WebElementFacade, String)} look the element up once, with the implicit wait
+ * dropped to zero, instead of waiting for it to appear until the element timeout passes. The implicit wait is
+ * restored afterwards.
+ * <p>WebDriver can't report its implicit wait, so the value to restore is given up front - either explicitly
+ * or as configured for Thucydides with {@code webdriver.timeouts.implicitlywait}.</p>
+ */
+@SuppressWarnings("unused")
+public class AbsenceChecks {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(AbsenceChecks.class);
+
+    private final long implicitWait;
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong absent = new AtomicLong();
+    private final AtomicLong savedNanos = new AtomicLong();
+
+    private AbsenceChecks(long implicitWait) {
+        this.implicitWait = implicitWait;
+    }
+
+    /**
+     * @param implicitWait implicit wait the driver runs with, restored after each check
+     * @param unit         unit of {@code implicitWait}
+     * @return absence checks restoring given implicit wait
+     */
+    public static AbsenceChecks restoringImplicitWait(long implicitWait, TimeUnit unit) {
+        return new AbsenceChecks(unit.toMillis(implicitWait));
+    }
+
+    /**
+     * @return absence checks restoring the implicit wait Thucydides sets up drivers with, that is
+     * {@code webdriver.timeouts.implicitlywait} if defined and none otherwise
+     */
+    public static AbsenceChecks restoringConfiguredImplicitWait() {
+        EnvironmentVariables environment = Injectors.getInjector().getProvider(EnvironmentVariables.class).get();
+        ThucydidesSystemProperty property = ThucydidesSystemProperty.WEBDRIVER_TIMEOUTS_IMPLICITLYWAIT;
+        return new AbsenceChecks(property.isDefinedIn(environment)
+                ? environment.getPropertyAsInteger(property.getPropertyName(), 0) : 0);
+    }
+
+    /**
+     * @param page    page holding the element
+     * @param element element to look up
+     * @return {@code true} if the element is currently present
+     */
+    boolean isPresent(Page<?> page, WebElementFacade element) {
+        long start = System.nanoTime();
+        boolean present;
+        WebDriver.Timeouts timeouts = page.getDriver().manage().timeouts();
+        timeouts.implicitlyWait(0, TimeUnit.MILLISECONDS);
+        try {
+            present = isCurrentlyPresent(element);
+        } finally {
+            timeouts.implicitlyWait(implicitWait, TimeUnit.MILLISECONDS);
+        }
+        record(present, start);
+        return present;
+    }
+
+    /**
+     * @param page    page holding the element
+     * @param element element to look up
+     * @return {@code true} if the element is currently visible
+     */
+    boolean isVisible(Page<?> page, WebElementFacade element) {
+        long start = System.nanoTime();
+        boolean visible;
+        WebDriver.Timeouts timeouts = page.getDriver().manage().timeouts();
+        timeouts.implicitlyWait(0, TimeUnit.MILLISECONDS);
+        try {
+            visible = element.isCurrentlyVisible();
+        } finally {
+            timeouts.implicitlyWait(implicitWait, TimeUnit.MILLISECONDS);
+        }
+        record(visible, start);
+        return visible;
+    }
+
+    /**
+     * Thucydides' element locators skip waiting when called from a method with "Currently" in its name
+     */
+    private static boolean isCurrentlyPresent(WebElementFacade element) {
+        try {
+            return element.getWrappedElement() != null;
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Without the fast path an absent element is waited for until the implicit wait passes
+     */
+    private void record(boolean found, long start) {
+        checks.incrementAndGet();
+        if (!found) {
+            absent.incrementAndGet();
+            long saved = TimeUnit.MILLISECONDS.toNanos(implicitWait) - (System.nanoTime() - start);
+            if (saved > 0) {
+                savedNanos.addAndGet(saved);
+                LOGGER.debug("Skipped {} ms of waiting for an absent element", TimeUnit.NANOSECONDS.toMillis(saved));
+            }
+        }
+    }
+
+    /**
+     * @return implicit wait in milliseconds restored after each check
+     */
+    public long getImplicitWait() {
+        return implicitWait;
+    }
+
+    /**
+     * @return number of checks done
+     */
+    public long getCheckCount() {
+        return checks.get();
+    }
+
+    /**
+     * @return number of checks that found no present, or no visible, element
+     */
+    public long getAbsentCount() {
+        return absent.get();
+    }
+
+    /**
+     * @return estimated time in milliseconds the absent elements would have been waited for, that is the implicit
+     * wait of each absent element less the time its check took
+     */
+    public long getSavedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(savedNanos.get());
+    }
+
+    /**
+     * Sets the number of checks, the number of absent elements and the saved time back to zero
+     */
+    public void resetStatistics() {
+        checks.set(0);
+        absent.set(0);
+        savedNanos.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "AbsenceChecks[checks=" + checks.get() + ", absent=" + absent.get()
+                + ", saved=" + getSavedMillis() + "ms]";
+    }
+}
@@ -4,7 +4,10 @@ import net.thucydides.core.pages.WebElementFacade;
 import org.testng.Assert;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -15,12 +18,190 @@ import java.util.Set;
 @SuppressWarnings("unused")
 public class Assertion<T extends Page<T>> {
 
+    private static final Comparator<String> NATURAL_ORDER = new Comparator<String>() {
+        @Override
+        public int compare(String first, String second) {
+            return first.compareTo(second);
+        }
+    };
+
+    /**
+     * Length of texts shown whole in failure messages of pattern assertions
+     */
+    private static final int ABBREVIATED_LENGTH = 100;
+
     private final T page;
 
     Assertion(T pageObject) {
         this.page = pageObject;
     }
 
+    /**
+     * Check made by an assertion, failing with an {@link AssertionError}
+     */
+    interface Check {
+
+        /**
+         * Runs the check
+         */
+        void verify();
+    }
+
+    /**
+     * Runs a check, reporting it to {@link PageListener}s. A check that could not complete, such as one whose
+     * element lookup failed, is reported as failed before its exception is rethrown.
+     *
+     * @param name  name of the assertion
+     * @param check check to run
+     * @return calling {@link Page}
+     */
+    T run(String name, Check check) {
+        return run(name, null, check);
+    }
+
+    /**
+     * Runs a check the way {@link #run(String, Check)} does, putting a supplied message in front of its failure
+     *
+     * @param name    name of the assertion
+     * @param message supplier of the assertion error message, called only on failure, or {@code null}
+     * @param check   check to run
+     * @return calling {@link Page}
+     */
+    T run(String name, MessageSupplier message, Check check) {
+        long start = started(name);
+        try {
+            check.verify();
+        } catch (AssertionError e) {
+            return failed(name, start, message == null ? e : described(message, e));
+        } catch (RuntimeException | Error e) {
+            broken(name, start, e);
+            throw e;
+        }
+        return passed(name, start);
+    }
+
+    /**
+     * Reports start of an assertion to {@link PageListener}s
+     */
+    private long started(String name) {
+        return PageListeners.start(PageListener.Kind.ASSERTION, page.getClass(), name);
+    }
+
+    /**
+     * Reports a passed assertion to {@link PageListener}s
+     */
+    private T passed(String name, long start) {
+        PageListeners.end(PageListener.Kind.ASSERTION, page.getClass(), name, start, null);
+        return page;
+    }
+
+    /**
+     * Puts a supplied message in front of the description of a failed check, the way TestNG formats messages given
+     * to its assertions, so the check does not have to run again to format it
+     */
+    static AssertionError described(MessageSupplier message, AssertionError failure) {
+        AssertionError described = new AssertionError(message.get() + " " + failure.getMessage(), failure.getCause());
+        described.setStackTrace(failure.getStackTrace());
+        return described;
+    }
+
+    /**
+     * Reports a failed assertion to {@link PageListener}s and rethrows its error, or collects it in soft mode
+     */
+    private T failed(String name, long start, AssertionError failure) {
+        PageListeners.end(PageListener.Kind.ASSERTION, page.getClass(), name, start, failure);
+        SoftAssertions soft = Page.softAssertions();
+        if (soft == null) {
+            throw failure;
+        }
+        soft.add(failure);
+        return page;
+    }
+
+    /**
+     * Reports an assertion that could not complete, such as an element lookup failing with a
+     * {@link org.openqa.selenium.WebDriverException}, to {@link PageListener}s before it is rethrown
+     */
+    private void broken(String name, long start, Throwable failure) {
+        PageListeners.end(PageListener.Kind.ASSERTION, page.getClass(), name, start, failure);
+    }
+
+    /**
+     * Puts a message in front of the description of a difference, leaving it out if it is {@code null} the way
+     * TestNG does
+     */
+    private static String prefixed(String message, String differences) {
+        return message == null ? differences : message + ": " + differences;
+    }
+
+    /**
+     * Describes a text in a failure message, giving only its length and beginning if it is long, such as page source
+     */
+    private static String abbreviated(String text) {
+        if (text == null || text.length() <= ABBREVIATED_LENGTH) {
+            return "[" + text + "]";
+        }
+        return "text of " + text.length() + " characters [" + text.substring(0, ABBREVIATED_LENGTH) + "...]";
+    }
+
+    /**
+     * Defers an element state check to {@link #assertAll()} in soft mode
+     *
+     * @return {@code true} if the check was deferred
+     */
+    private boolean deferred(int state, boolean expected, WebElementFacade element, String message,
+                             MessageSupplier supplier) {
+        SoftAssertions soft = Page.softAssertions();
+        if (soft == null) {
+            return false;
+        }
+        soft.batchOf(page).add(soft.defer(message, supplier), state, expected, element);
+        return true;
+    }
+
+    /**
+     * Switches assertions of all pages in the current {@link PageContext} to soft mode, until {@link #assertAll()}
+     * is called. Failing assertions are collected instead of thrown, and element state checks are deferred to
+     * {@link #assertAll()}, which resolves them with a single script execution per page:
+     * <pre>
+     * page.assertion.soft()
+     *     .assertVisible(query, "Query is not visible")
+     *     .assertion.assertEquals(page.getTitle(), "Search", "Wrong title")
+     *     .assertion.assertAll();
+     * </pre>
+     *
+     * @return this {@link Assertion}
+     */
+    public Assertion<T> soft() {
+        PageContext current = Page.getContext();
+        if (current.getSoftAssertions() == null) {
+            current.setSoftAssertions(new SoftAssertions());
+        }
+        return this;
+    }
+
+    /**
+     * Verifies deferred element checks and ends soft mode started by {@link #soft()}
+     *
+     * @return calling {@link Page}
+     * @throws AssertionError listing every failure collected in soft mode, each also attached as suppressed
+     * @throws IllegalStateException if soft mode was not started
+     */
+    public T assertAll() {
+        PageContext current = Page.getContext();
+        final SoftAssertions soft = current.getSoftAssertions();
+        if (soft == null) {
+            throw new IllegalStateException("Soft assertions were not started, call assertion.soft() first");
+        }
+        current.setSoftAssertions(null);
+        return run("assertAll", new Check() {
+            @Override
+            public void verify() {
+                soft.verify();
+            }
+        });
+    }
+
     /**
      * Asserts that a condition is true. If it isn't,
      * an AssertionError, with the given message, is thrown.
@@ -29,9 +210,30 @@ public class Assertion<T extends Page<T>> {
      * @param message   the assertion error message
      * @return calling {@link Page}
      */
-    public T assertTrue(boolean condition, String message) {
-        Assert.assertTrue(condition, message);
-        return page;
+    public T assertTrue(final boolean condition, final String message) {
+        return run("assertTrue", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(condition, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that a condition is true. If it isn't,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param condition the condition to evaluate
+     * @param message   supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertTrue(final boolean condition, final MessageSupplier message) {
+        return run("assertTrue", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(condition);
+            }
+        });
     }
 
     /**
@@ -41,9 +243,13 @@ public class Assertion<T extends Page<T>> {
      * @param condition the condition to evaluate
      * @return calling {@link Page}
      */
-    public T assertTrue(boolean condition) {
-        Assert.assertTrue(condition, null);
-        return page;
+    public T assertTrue(final boolean condition) {
+        return run("assertTrue", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(condition, null);
+            }
+        });
     }
 
     /**
@@ -54,9 +260,30 @@ public class Assertion<T extends Page<T>> {
      * @param message   the assertion error message
      * @return calling {@link Page}
      */
-    public T assertFalse(boolean condition, String message) {
-        Assert.assertFalse(condition, message);
-        return page;
+    public T assertFalse(final boolean condition, final String message) {
+        return run("assertFalse", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertFalse(condition, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that a condition is false. If it isn't,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param condition the condition to evaluate
+     * @param message   supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertFalse(final boolean condition, final MessageSupplier message) {
+        return run("assertFalse", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertFalse(condition);
+            }
+        });
     }
 
     /**
@@ -66,9 +293,13 @@ public class Assertion<T extends Page<T>> {
      * @param condition the condition to evaluate
      * @return calling {@link Page}
      */
-    public T assertFalse(boolean condition) {
-        Assert.assertFalse(condition, null);
-        return page;
+    public T assertFalse(final boolean condition) {
+        return run("assertFalse", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertFalse(condition, null);
+            }
+        });
     }
 
     /**
@@ -78,9 +309,29 @@ public class Assertion<T extends Page<T>> {
      * @param realCause the original exception
      * @return calling {@link Page}
      */
-    public T fail(String message, Throwable realCause) {
-        Assert.fail(message, realCause);
-        return page;
+    public T fail(final String message, final Throwable realCause) {
+        return run("fail", new Check() {
+            @Override
+            public void verify() {
+                Assert.fail(message, realCause);
+            }
+        });
+    }
+
+    /**
+     * Fails a test with the given message and wrapping the original exception.
+     *
+     * @param message   supplier of the assertion error message, called only on failure
+     * @param realCause the original exception
+     * @return calling {@link Page}
+     */
+    public T fail(final MessageSupplier message, final Throwable realCause) {
+        return run("fail", new Check() {
+            @Override
+            public void verify() {
+                Assert.fail(message.get(), realCause);
+            }
+        });
     }
 
     /**
@@ -89,9 +340,28 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T fail(String message) {
-        Assert.fail(message);
-        return page;
+    public T fail(final String message) {
+        return run("fail", new Check() {
+            @Override
+            public void verify() {
+                Assert.fail(message);
+            }
+        });
+    }
+
+    /**
+     * Fails a test with the given message.
+     *
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T fail(final MessageSupplier message) {
+        return run("fail", new Check() {
+            @Override
+            public void verify() {
+                Assert.fail(message.get());
+            }
+        });
     }
 
     /**
@@ -100,8 +370,12 @@ public class Assertion<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T fail() {
-        Assert.fail();
-        return page;
+        return run("fail", new Check() {
+            @Override
+            public void verify() {
+                Assert.fail();
+            }
+        });
     }
 
     /**
@@ -113,9 +387,31 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(Object actual, Object expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final Object actual, final Object expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two objects are equal. If they are not,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final Object actual, final Object expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -126,9 +422,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(Object actual, Object expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final Object actual, final Object expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -140,9 +440,31 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(String actual, String expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final String actual, final String expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two Strings are equal. If they are not,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final String actual, final String expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -153,9 +475,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(String actual, String expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final String actual, final String expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -169,9 +495,34 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(double actual, double expected, double delta, String message) {
-        Assert.assertEquals(actual, expected, delta, message);
-        return page;
+    public T assertEquals(final double actual, final double expected, final double delta, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, delta, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two doubles are equal concerning a delta.  If they are not,
+     * an AssertionError, with the given message, is thrown.  If the expected
+     * value is infinity then the delta value is ignored.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param delta    the absolute tolerable difference between the actual and expected values
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final double actual, final double expected, final double delta,
+                          final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, delta);
+            }
+        });
     }
 
     /**
@@ -184,9 +535,13 @@ public class Assertion<T extends Page<T>> {
      * @param delta    the absolute tolerable difference between the actual and expected values
      * @return calling {@link Page}
      */
-    public T assertEquals(double actual, double expected, double delta) {
-        Assert.assertEquals(actual, expected, delta);
-        return page;
+    public T assertEquals(final double actual, final double expected, final double delta) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, delta);
+            }
+        });
     }
 
     /**
@@ -200,9 +555,33 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(float actual, float expected, float delta, String message) {
-        Assert.assertEquals(actual, expected, delta, message);
-        return page;
+    public T assertEquals(final float actual, final float expected, final float delta, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, delta, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two floats are equal concerning a delta. If they are not,
+     * an AssertionError, with the given message, is thrown.  If the expected
+     * value is infinity then the delta value is ignored.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param delta    the absolute tolerable difference between the actual and expected values
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final float actual, final float expected, final float delta, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, delta);
+            }
+        });
     }
 
     /**
@@ -215,9 +594,13 @@ public class Assertion<T extends Page<T>> {
      * @param delta    the absolute tolerable difference between the actual and expected values
      * @return calling {@link Page}
      */
-    public T assertEquals(float actual, float expected, float delta) {
-        Assert.assertEquals(actual, expected, delta);
-        return page;
+    public T assertEquals(final float actual, final float expected, final float delta) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, delta);
+            }
+        });
     }
 
     /**
@@ -229,9 +612,31 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(long actual, long expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final long actual, final long expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two longs are equal. If they are not,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final long actual, final long expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -242,9 +647,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(long actual, long expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final long actual, final long expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -256,9 +665,31 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(boolean actual, boolean expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final boolean actual, final boolean expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two booleans are equal. If they are not,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final boolean actual, final boolean expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -269,9 +700,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(boolean actual, boolean expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final boolean actual, final boolean expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -283,9 +718,31 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(byte actual, byte expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final byte actual, final byte expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two bytes are equal. If they are not,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final byte actual, final byte expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -296,9 +753,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(byte actual, byte expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final byte actual, final byte expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -310,9 +771,31 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(char actual, char expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final char actual, final char expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two chars are equal. If they are not,
+     * an AssertionFailedError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final char actual, final char expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -323,9 +806,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(char actual, char expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final char actual, final char expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -337,9 +824,31 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(short actual, short expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final short actual, final short expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two shorts are equal. If they are not,
+     * an AssertionFailedError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final short actual, final short expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -350,9 +859,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(short actual, short expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final short actual, final short expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -364,9 +877,31 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(int actual, int expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final int actual, final int expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two ints are equal. If they are not,
+     * an AssertionFailedError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final int actual, final int expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -377,9 +912,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(int actual, int expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final int actual, final int expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -389,9 +928,13 @@ public class Assertion<T extends Page<T>> {
      * @param object the assertion object
      * @return calling {@link Page}
      */
-    public T assertNotNull(Object object) {
-        Assert.assertNotNull(object);
-        return page;
+    public T assertNotNull(final Object object) {
+        return run("assertNotNull", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotNull(object);
+            }
+        });
     }
 
     /**
@@ -402,9 +945,30 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotNull(Object object, String message) {
-        Assert.assertNotNull(object, message);
-        return page;
+    public T assertNotNull(final Object object, final String message) {
+        return run("assertNotNull", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotNull(object, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that an object isn't null. If it is,
+     * an AssertionFailedError, with the given message, is thrown.
+     *
+     * @param object  the assertion object
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertNotNull(final Object object, final MessageSupplier message) {
+        return run("assertNotNull", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotNull(object);
+            }
+        });
     }
 
     /**
@@ -414,9 +978,13 @@ public class Assertion<T extends Page<T>> {
      * @param object the assertion object
      * @return calling {@link Page}
      */
-    public T assertNull(Object object) {
-        Assert.assertNull(object);
-        return page;
+    public T assertNull(final Object object) {
+        return run("assertNull", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNull(object);
+            }
+        });
     }
 
     /**
@@ -427,23 +995,66 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNull(Object object, String message) {
-        Assert.assertNull(object, message);
-        return page;
+    public T assertNull(final Object object, final String message) {
+        return run("assertNull", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNull(object, message);
+            }
+        });
     }
 
     /**
-     * Asserts that two objects refer to the same object. If they do not,
+     * Asserts that an object is null. If it is not,
      * an AssertionFailedError, with the given message, is thrown.
      *
-     * @param actual   the actual value
-     * @param expected the expected value
-     * @param message  the assertion error message
+     * @param object  the assertion object
+     * @param message supplier of the assertion error message, called only on failure
      * @return calling {@link Page}
      */
-    public T assertSame(Object actual, Object expected, String message) {
-        Assert.assertSame(actual, expected, message);
-        return page;
+    public T assertNull(final Object object, final MessageSupplier message) {
+        return run("assertNull", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNull(object);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two objects refer to the same object. If they do not,
+     * an AssertionFailedError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  the assertion error message
+     * @return calling {@link Page}
+     */
+    public T assertSame(final Object actual, final Object expected, final String message) {
+        return run("assertSame", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertSame(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two objects refer to the same object. If they do not,
+     * an AssertionFailedError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertSame(final Object actual, final Object expected, final MessageSupplier message) {
+        return run("assertSame", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertSame(actual, expected);
+            }
+        });
     }
 
     /**
@@ -454,9 +1065,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertSame(Object actual, Object expected) {
-        Assert.assertSame(actual, expected);
-        return page;
+    public T assertSame(final Object actual, final Object expected) {
+        return run("assertSame", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertSame(actual, expected);
+            }
+        });
     }
 
     /**
@@ -468,9 +1083,31 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotSame(Object actual, Object expected, String message) {
-        Assert.assertNotSame(actual, expected, message);
-        return page;
+    public T assertNotSame(final Object actual, final Object expected, final String message) {
+        return run("assertNotSame", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotSame(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two objects do not refer to the same objects. If they do,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertNotSame(final Object actual, final Object expected, final MessageSupplier message) {
+        return run("assertNotSame", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotSame(actual, expected);
+            }
+        });
     }
 
     /**
@@ -481,9 +1118,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertNotSame(Object actual, Object expected) {
-        Assert.assertNotSame(actual, expected);
-        return page;
+    public T assertNotSame(final Object actual, final Object expected) {
+        return run("assertNotSame", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotSame(actual, expected);
+            }
+        });
     }
 
     /**
@@ -494,9 +1135,16 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(Collection<?> actual, Collection<?> expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final Collection<?> actual, final Collection<?> expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                String differences = SequenceDiff.differences(actual, expected);
+                if (differences != null) {
+                    Assert.fail(differences);
+                }
+            }
+        });
     }
 
     /**
@@ -508,9 +1156,37 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(Collection<?> actual, Collection<?> expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final Collection<?> actual, final Collection<?> expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                String differences = SequenceDiff.differences(actual, expected);
+                if (differences != null) {
+                    Assert.fail(prefixed(message, differences));
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that two collections contain the same elements in the same order. If they do not,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final Collection<?> actual, final Collection<?> expected, final MessageSupplier message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                String differences = SequenceDiff.differences(actual, expected);
+                if (differences != null) {
+                    Assert.fail(prefixed(message.get(), differences));
+                }
+            }
+        });
     }
 
     /**
@@ -522,9 +1198,16 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(Iterator<?> actual, Iterator<?> expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final Iterator<?> actual, final Iterator<?> expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                String differences = SequenceDiff.differences(actual, expected, "Iterators");
+                if (differences != null) {
+                    Assert.fail(differences);
+                }
+            }
+        });
     }
 
     /**
@@ -537,9 +1220,38 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(Iterator<?> actual, Iterator<?> expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final Iterator<?> actual, final Iterator<?> expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                String differences = SequenceDiff.differences(actual, expected, "Iterators");
+                if (differences != null) {
+                    Assert.fail(prefixed(message, differences));
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that two iterators return the same elements in the same order. If they do not,
+     * an AssertionError, with the given message, is thrown.
+     * Please note that this assert iterates over the elements and modifies the state of the iterators.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final Iterator<?> actual, final Iterator<?> expected, final MessageSupplier message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                String differences = SequenceDiff.differences(actual, expected, "Iterators");
+                if (differences != null) {
+                    Assert.fail(prefixed(message.get(), differences));
+                }
+            }
+        });
     }
 
     /**
@@ -550,9 +1262,16 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(Iterable<?> actual, Iterable<?> expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final Iterable<?> actual, final Iterable<?> expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                String differences = SequenceDiff.differences(actual, expected);
+                if (differences != null) {
+                    Assert.fail(differences);
+                }
+            }
+        });
     }
 
     /**
@@ -564,9 +1283,37 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(Iterable<?> actual, Iterable<?> expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final Iterable<?> actual, final Iterable<?> expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                String differences = SequenceDiff.differences(actual, expected);
+                if (differences != null) {
+                    Assert.fail(prefixed(message, differences));
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that two iterables return iterators with the same elements in the same order. If they do not,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final Iterable<?> actual, final Iterable<?> expected, final MessageSupplier message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                String differences = SequenceDiff.differences(actual, expected);
+                if (differences != null) {
+                    Assert.fail(prefixed(message.get(), differences));
+                }
+            }
+        });
     }
 
     /**
@@ -578,23 +1325,73 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(Object[] actual, Object[] expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final Object[] actual, final Object[] expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
     }
 
     /**
-     * Asserts that two arrays contain the same elements in no particular order. If they do not,
+     * Asserts that two arrays contain the same elements in the same order. If they do not,
      * an AssertionError, with the given message, is thrown.
      *
      * @param actual   the actual value
      * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final Object[] actual, final Object[] expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two arrays contain the same elements in no particular order. If they do not,
+     * an AssertionError, with the given message and missing and unexpected elements, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEqualsNoOrder(Object[] actual, Object[] expected, String message) {
-        Assert.assertEqualsNoOrder(actual, expected, message);
-        return page;
+    public T assertEqualsNoOrder(final Object[] actual, final Object[] expected, final String message) {
+        return run("assertEqualsNoOrder", new Check() {
+            @Override
+            public void verify() {
+                String differences = UnorderedDiff.differences(actual, expected);
+                if (differences != null) {
+                    Assert.fail(prefixed(message, differences));
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that two arrays contain the same elements in no particular order. If they do not,
+     * an AssertionError, with the given message and missing and unexpected elements, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEqualsNoOrder(final Object[] actual, final Object[] expected, final MessageSupplier message) {
+        return run("assertEqualsNoOrder", new Check() {
+            @Override
+            public void verify() {
+                String differences = UnorderedDiff.differences(actual, expected);
+                if (differences != null) {
+                    Assert.fail(prefixed(message.get(), differences));
+                }
+            }
+        });
     }
 
     /**
@@ -605,22 +1402,75 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(Object[] actual, Object[] expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final Object[] actual, final Object[] expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
      * Asserts that two arrays contain the same elements in no particular order. If they do not,
-     * an AssertionError is thrown.
+     * an AssertionError listing missing and unexpected elements is thrown.
      *
      * @param actual   the actual value
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEqualsNoOrder(Object[] actual, Object[] expected) {
-        Assert.assertEqualsNoOrder(actual, expected);
-        return page;
+    public T assertEqualsNoOrder(final Object[] actual, final Object[] expected) {
+        return run("assertEqualsNoOrder", new Check() {
+            @Override
+            public void verify() {
+                String differences = UnorderedDiff.differences(actual, expected);
+                if (differences != null) {
+                    Assert.fail(differences);
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that two collections contain the same elements in no particular order. If they do not,
+     * an AssertionError listing missing and unexpected elements is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @return calling {@link Page}
+     */
+    public T assertEqualsNoOrder(Collection<?> actual, Collection<?> expected) {
+        return assertEqualsNoOrder(toArray(actual), toArray(expected));
+    }
+
+    /**
+     * Asserts that two collections contain the same elements in no particular order. If they do not,
+     * an AssertionError, with the given message and missing and unexpected elements, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  the assertion error message
+     * @return calling {@link Page}
+     */
+    public T assertEqualsNoOrder(Collection<?> actual, Collection<?> expected, String message) {
+        return assertEqualsNoOrder(toArray(actual), toArray(expected), message);
+    }
+
+    /**
+     * Asserts that two collections contain the same elements in no particular order. If they do not,
+     * an AssertionError, with the given message and missing and unexpected elements, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEqualsNoOrder(Collection<?> actual, Collection<?> expected, MessageSupplier message) {
+        return assertEqualsNoOrder(toArray(actual), toArray(expected), message);
+    }
+
+    private static Object[] toArray(Collection<?> collection) {
+        return collection == null ? null : collection.toArray();
     }
 
     /**
@@ -632,8 +1482,12 @@ public class Assertion<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T assertEquals(final byte[] actual, final byte[] expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -646,8 +1500,30 @@ public class Assertion<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T assertEquals(final byte[] actual, final byte[] expected, final String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two arrays contain the same elements in the same order. If they do not,
+     * an AssertionError, with the given message, is thrown.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final byte[] actual, final byte[] expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -657,9 +1533,13 @@ public class Assertion<T extends Page<T>> {
      * @param expected the expected value
      * @return calling {@link Page}
      */
-    public T assertEquals(Set<?> actual, Set<?> expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final Set<?> actual, final Set<?> expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -670,22 +1550,46 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEquals(Set<?> actual, Set<?> expected, String message) {
-        Assert.assertEquals(actual, expected, message);
-        return page;
+    public T assertEquals(final Set<?> actual, final Set<?> expected, final String message) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected, message);
+            }
+        });
     }
 
     /**
-     * Asserts that two maps are equal.
+     * Asserts that two sets are equal.
      *
      * @param actual   the actual value
      * @param expected the expected value
+     * @param message  supplier of the assertion error message, called only on failure
      * @return calling {@link Page}
      */
-    public T assertEquals(Map<?, ?> actual, Map<?, ?> expected) {
-        Assert.assertEquals(actual, expected);
-        return page;
+    public T assertEquals(final Set<?> actual, final Set<?> expected, final MessageSupplier message) {
+        return run("assertEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
+    }
 
+    /**
+     * Asserts that two maps are equal.
+     *
+     * @param actual   the actual value
+     * @param expected the expected value
+     * @return calling {@link Page}
+     */
+    public T assertEquals(final Map<?, ?> actual, final Map<?, ?> expected) {
+        return run("assertEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(actual, expected);
+            }
+        });
     }
 
     /**
@@ -696,9 +1600,13 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotEquals(Object actual1, Object actual2, String message) {
-        Assert.assertNotEquals(actual1, actual2, message);
-        return page;
+    public T assertNotEquals(final Object actual1, final Object actual2, final String message) {
+        return run("assertNotEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotEquals(actual1, actual2, message);
+            }
+        });
     }
 
     /**
@@ -706,11 +1614,32 @@ public class Assertion<T extends Page<T>> {
      *
      * @param actual1 the first value
      * @param actual2 the second value
+     * @param message supplier of the assertion error message, called only on failure
      * @return calling {@link Page}
      */
-    public T assertNotEquals(Object actual1, Object actual2) {
-        Assert.assertNotEquals(actual1, actual2);
-        return page;
+    public T assertNotEquals(final Object actual1, final Object actual2, final MessageSupplier message) {
+        return run("assertNotEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotEquals(actual1, actual2);
+            }
+        });
+    }
+
+    /**
+     * Assert not equals
+     *
+     * @param actual1 the first value
+     * @param actual2 the second value
+     * @return calling {@link Page}
+     */
+    public T assertNotEquals(final Object actual1, final Object actual2) {
+        return run("assertNotEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotEquals(actual1, actual2);
+            }
+        });
     }
 
 
@@ -724,9 +1653,13 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotEquals(float actual1, float actual2, float delta, String message) {
-        Assert.assertNotEquals(actual1, actual2, delta, message);
-        return page;
+    public T assertNotEquals(final float actual1, final float actual2, final float delta, final String message) {
+        return run("assertNotEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotEquals(actual1, actual2, delta, message);
+            }
+        });
     }
 
     /**
@@ -736,11 +1669,35 @@ public class Assertion<T extends Page<T>> {
      * @param actual1 the first value
      * @param actual2 the second value
      * @param delta   the absolute tolerable difference between the actual and expected values
+     * @param message supplier of the assertion error message, called only on failure
      * @return calling {@link Page}
      */
-    public T assertNotEquals(float actual1, float actual2, float delta) {
-        Assert.assertNotEquals(actual1, actual2, delta);
-        return page;
+    public T assertNotEquals(final float actual1, final float actual2, final float delta,
+                             final MessageSupplier message) {
+        return run("assertNotEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotEquals(actual1, actual2, delta);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two floats are not equal concerning a delta.  If they are,
+     * an AssertionError, with the given message, is thrown
+     *
+     * @param actual1 the first value
+     * @param actual2 the second value
+     * @param delta   the absolute tolerable difference between the actual and expected values
+     * @return calling {@link Page}
+     */
+    public T assertNotEquals(final float actual1, final float actual2, final float delta) {
+        return run("assertNotEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotEquals(actual1, actual2, delta);
+            }
+        });
     }
 
     /**
@@ -753,9 +1710,13 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotEquals(double actual1, double actual2, double delta, String message) {
-        Assert.assertNotEquals(actual1, actual2, delta, message);
-        return page;
+    public T assertNotEquals(final double actual1, final double actual2, final double delta, final String message) {
+        return run("assertNotEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotEquals(actual1, actual2, delta, message);
+            }
+        });
     }
 
     /**
@@ -765,11 +1726,35 @@ public class Assertion<T extends Page<T>> {
      * @param actual1 the first value
      * @param actual2 the second value
      * @param delta   the absolute tolerable difference between the actual and expected values
+     * @param message supplier of the assertion error message, called only on failure
      * @return calling {@link Page}
      */
-    public T assertNotEquals(double actual1, double actual2, double delta) {
-        Assert.assertNotEquals(actual1, actual2, delta);
-        return page;
+    public T assertNotEquals(final double actual1, final double actual2, final double delta,
+                             final MessageSupplier message) {
+        return run("assertNotEquals", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotEquals(actual1, actual2, delta);
+            }
+        });
+    }
+
+    /**
+     * Asserts that two doubles are not equal concerning a delta.  If they are,
+     * an AssertionError, with the given message, is thrown
+     *
+     * @param actual1 the first value
+     * @param actual2 the second value
+     * @param delta   the absolute tolerable difference between the actual and expected values
+     * @return calling {@link Page}
+     */
+    public T assertNotEquals(final double actual1, final double actual2, final double delta) {
+        return run("assertNotEquals", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertNotEquals(actual1, actual2, delta);
+            }
+        });
     }
 
     // Selenium specials
@@ -782,11 +1767,34 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertContains(String text, String fragment, String message) {
-        if (!text.contains(fragment)) {
-            Assert.fail(message + ": expected [" + text + "] to contain [" + fragment + "]");
-        }
-        return page;
+    public T assertContains(final String text, final String fragment, final String message) {
+        return run("assertContains", new Check() {
+            @Override
+            public void verify() {
+                if (!text.contains(fragment)) {
+                    Assert.fail(message + ": expected [" + text + "] to contain [" + fragment + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that one String is contained in another
+     *
+     * @param text     String to search in
+     * @param fragment String to search for
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertContains(final String text, final String fragment, final MessageSupplier message) {
+        return run("assertContains", new Check() {
+            @Override
+            public void verify() {
+                if (!text.contains(fragment)) {
+                    Assert.fail(message.get() + ": expected [" + text + "] to contain [" + fragment + "]");
+                }
+            }
+        });
     }
 
     /**
@@ -797,11 +1805,125 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotContains(String text, String fragment, String message) {
-        if (text.contains(fragment)) {
-            Assert.fail(message + ": expected [" + text + "] not to contain [" + fragment + "]");
-        }
-        return page;
+    public T assertNotContains(final String text, final String fragment, final String message) {
+        return run("assertNotContains", new Check() {
+            @Override
+            public void verify() {
+                if (text.contains(fragment)) {
+                    Assert.fail(message + ": expected [" + text + "] not to contain [" + fragment + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that one String is not contained in another
+     *
+     * @param text     String to search in
+     * @param fragment String to search for
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertNotContains(final String text, final String fragment, final MessageSupplier message) {
+        return run("assertNotContains", new Check() {
+            @Override
+            public void verify() {
+                if (text.contains(fragment)) {
+                    Assert.fail(message.get() + ": expected [" + text + "] not to contain [" + fragment + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a String contains all fragments, searching for them in a single pass over the text.
+     * All missing fragments are reported together.
+     *
+     * @param text      String to search in
+     * @param message   the assertion error message
+     * @param fragments Strings to search for
+     * @return calling {@link Page}
+     */
+    public T assertContainsAll(final String text, final String message, final String... fragments) {
+        return run("assertContainsAll", new Check() {
+            @Override
+            public void verify() {
+                FragmentMatcher matcher = FragmentMatcher.of(fragments);
+                String listed = matcher.describe(matcher.find(text), false);
+                if (listed != null) {
+                    Assert.fail(message + ": expected text of " + text.length() + " characters to contain " + listed);
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a String contains all fragments, searching for them in a single pass over the text.
+     * All missing fragments are reported together.
+     *
+     * @param text      String to search in
+     * @param message   supplier of the assertion error message, called only on failure
+     * @param fragments Strings to search for
+     * @return calling {@link Page}
+     */
+    public T assertContainsAll(final String text, final MessageSupplier message, final String... fragments) {
+        return run("assertContainsAll", new Check() {
+            @Override
+            public void verify() {
+                FragmentMatcher matcher = FragmentMatcher.of(fragments);
+                String listed = matcher.describe(matcher.find(text), false);
+                if (listed != null) {
+                    Assert.fail(message.get() + ": expected text of " + text.length() + " characters to contain "
+                            + listed);
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a String contains none of the fragments, searching for them in a single pass over the text.
+     * All contained fragments are reported together.
+     *
+     * @param text      String to search in
+     * @param message   the assertion error message
+     * @param fragments Strings to search for
+     * @return calling {@link Page}
+     */
+    public T assertContainsNone(final String text, final String message, final String... fragments) {
+        return run("assertContainsNone", new Check() {
+            @Override
+            public void verify() {
+                FragmentMatcher matcher = FragmentMatcher.of(fragments);
+                String listed = matcher.describe(matcher.find(text), true);
+                if (listed != null) {
+                    Assert.fail(message + ": expected text of " + text.length() + " characters not to contain "
+                            + listed);
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a String contains none of the fragments, searching for them in a single pass over the text.
+     * All contained fragments are reported together.
+     *
+     * @param text      String to search in
+     * @param message   supplier of the assertion error message, called only on failure
+     * @param fragments Strings to search for
+     * @return calling {@link Page}
+     */
+    public T assertContainsNone(final String text, final MessageSupplier message, final String... fragments) {
+        return run("assertContainsNone", new Check() {
+            @Override
+            public void verify() {
+                FragmentMatcher matcher = FragmentMatcher.of(fragments);
+                String listed = matcher.describe(matcher.find(text), true);
+                if (listed != null) {
+                    Assert.fail(message.get() + ": expected text of " + text.length() + " characters not to contain "
+                            + listed);
+                }
+            }
+        });
     }
 
     /**
@@ -812,11 +1934,34 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertTextStartsWith(String text, String fragment, String message) {
-        if (!text.startsWith(fragment)) {
-            Assert.fail(message + ": expected [" + text + "] to start with [" + fragment + "]");
-        }
-        return page;
+    public T assertTextStartsWith(final String text, final String fragment, final String message) {
+        return run("assertTextStartsWith", new Check() {
+            @Override
+            public void verify() {
+                if (!text.startsWith(fragment)) {
+                    Assert.fail(message + ": expected [" + text + "] to start with [" + fragment + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that one String starts with another
+     *
+     * @param text     String to search through
+     * @param fragment String to search for
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertTextStartsWith(final String text, final String fragment, final MessageSupplier message) {
+        return run("assertTextStartsWith", new Check() {
+            @Override
+            public void verify() {
+                if (!text.startsWith(fragment)) {
+                    Assert.fail(message.get() + ": expected [" + text + "] to start with [" + fragment + "]");
+                }
+            }
+        });
     }
 
     /**
@@ -827,11 +1972,157 @@ public class Assertion<T extends Page<T>> {
      * @param message  the assertion error message
      * @return calling {@link Page}
      */
-    public T assertTextEndsWith(String text, String fragment, String message) {
-        if (!text.endsWith(fragment)) {
-            Assert.fail(message + ": expected [" + text + "] to end with [" + fragment + "]");
-        }
-        return page;
+    public T assertTextEndsWith(final String text, final String fragment, final String message) {
+        return run("assertTextEndsWith", new Check() {
+            @Override
+            public void verify() {
+                if (!text.endsWith(fragment)) {
+                    Assert.fail(message + ": expected [" + text + "] to end with [" + fragment + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that one String ends with another
+     *
+     * @param text     String to search through
+     * @param fragment String to search for
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertTextEndsWith(final String text, final String fragment, final MessageSupplier message) {
+        return run("assertTextEndsWith", new Check() {
+            @Override
+            public void verify() {
+                if (!text.endsWith(fragment)) {
+                    Assert.fail(message.get() + ": expected [" + text + "] to end with [" + fragment + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a String matches a regular expression as a whole. Compiled expressions are cached.
+     *
+     * @param text    String to match
+     * @param regex   regular expression, as accepted by {@link java.util.regex.Pattern}
+     * @param message the assertion error message
+     * @return calling {@link Page}
+     */
+    public T assertMatches(final String text, final String regex, final String message) {
+        return run("assertMatches", new Check() {
+            @Override
+            public void verify() {
+                if (text == null || regex == null || !Patterns.compile(regex).matcher(text).matches()) {
+                    Assert.fail(message + ": expected " + abbreviated(text) + " to match [" + regex + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a String matches a regular expression as a whole. Compiled expressions are cached.
+     *
+     * @param text    String to match
+     * @param regex   regular expression, as accepted by {@link java.util.regex.Pattern}
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertMatches(final String text, final String regex, final MessageSupplier message) {
+        return run("assertMatches", new Check() {
+            @Override
+            public void verify() {
+                if (text == null || regex == null || !Patterns.compile(regex).matcher(text).matches()) {
+                    Assert.fail(message.get() + ": expected " + abbreviated(text) + " to match [" + regex + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a String contains a match of a regular expression. Compiled expressions are cached.
+     *
+     * @param text    String to match
+     * @param regex   regular expression, as accepted by {@link java.util.regex.Pattern}
+     * @param message the assertion error message
+     * @return calling {@link Page}
+     */
+    public T assertContainsMatch(final String text, final String regex, final String message) {
+        return run("assertContainsMatch", new Check() {
+            @Override
+            public void verify() {
+                if (text == null || regex == null || !Patterns.compile(regex).matcher(text).find()) {
+                    Assert.fail(message + ": expected " + abbreviated(text) + " to contain a match of [" + regex + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a String contains a match of a regular expression. Compiled expressions are cached.
+     *
+     * @param text    String to match
+     * @param regex   regular expression, as accepted by {@link java.util.regex.Pattern}
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertContainsMatch(final String text, final String regex, final MessageSupplier message) {
+        return run("assertContainsMatch", new Check() {
+            @Override
+            public void verify() {
+                if (text == null || regex == null || !Patterns.compile(regex).matcher(text).find()) {
+                    Assert.fail(message.get() + ": expected " + abbreviated(text) + " to contain a match of ["
+                            + regex + "]");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that two Strings are equal once normalized, comparing them character by character without building
+     * normalized copies. The first difference is reported with the characters around it.
+     *
+     * @param actual        the actual value
+     * @param expected      the expected value
+     * @param normalization differences to ignore
+     * @param message       the assertion error message
+     * @return calling {@link Page}
+     */
+    public T assertTextEqualsNormalized(final String actual, final String expected,
+                                        final TextNormalization normalization, final String message) {
+        return run("assertTextEqualsNormalized", new Check() {
+            @Override
+            public void verify() {
+                String differences = NormalizedText.differences(actual, expected, normalization);
+                if (differences != null) {
+                    Assert.fail(prefixed(message, differences));
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that two Strings are equal once normalized, comparing them character by character without building
+     * normalized copies. The first difference is reported with the characters around it.
+     *
+     * @param actual        the actual value
+     * @param expected      the expected value
+     * @param normalization differences to ignore
+     * @param message       supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertTextEqualsNormalized(final String actual, final String expected,
+                                        final TextNormalization normalization, final MessageSupplier message) {
+        return run("assertTextEqualsNormalized", new Check() {
+            @Override
+            public void verify() {
+                String differences = NormalizedText.differences(actual, expected, normalization);
+                if (differences != null) {
+                    Assert.fail(prefixed(message.get(), differences));
+                }
+            }
+        });
     }
 
     /**
@@ -842,9 +2133,30 @@ public class Assertion<T extends Page<T>> {
      * @param message    the assertion error message
      * @return calling {@link Page}
      */
-    public T assertContains(Collection collection, Object object, String message) {
-        Assert.assertTrue(collection.contains(object), message);
-        return page;
+    public T assertContains(final Collection collection, final Object object, final String message) {
+        return run("assertContains", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(collection.contains(object), message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that a collection contains an object
+     *
+     * @param collection Collection of elements
+     * @param object     actual object expected to be present in collection
+     * @param message    supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertContains(final Collection collection, final Object object, final MessageSupplier message) {
+        return run("assertContains", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(collection.contains(object));
+            }
+        });
     }
 
     /**
@@ -855,9 +2167,30 @@ public class Assertion<T extends Page<T>> {
      * @param message    the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotContains(Collection collection, Object object, String message) {
-        Assert.assertFalse(collection.contains(object), message);
-        return page;
+    public T assertNotContains(final Collection collection, final Object object, final String message) {
+        return run("assertNotContains", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertFalse(collection.contains(object), message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that a collection does not contains an object
+     *
+     * @param collection Collection of elements
+     * @param object     actual object expected to be present in collection
+     * @param message    supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertNotContains(final Collection collection, final Object object, final MessageSupplier message) {
+        return run("assertNotContains", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertFalse(collection.contains(object));
+            }
+        });
     }
 
     /**
@@ -867,21 +2200,77 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertVisible(WebElementFacade element, String message) {
-        Assert.assertTrue(element.isVisible(), message);
-        return page;
+    public T assertVisible(final WebElementFacade element, final String message) {
+        if (deferred(ElementStates.VISIBLE, true, element, message, null)) {
+            return page;
+        }
+        return run("assertVisible", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(element.isVisible(), message);
+            }
+        });
     }
 
     /**
-     * Asserts that WebElementFacade is not visible on the page
+     * Asserts that WebElementFacade is visible on the page
+     *
+     * @param element element to verify
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertVisible(final WebElementFacade element, final MessageSupplier message) {
+        if (deferred(ElementStates.VISIBLE, true, element, null, message)) {
+            return page;
+        }
+        return run("assertVisible", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(element.isVisible());
+            }
+        });
+    }
+
+    /**
+     * Asserts that WebElementFacade is not visible on the page. With {@link Page#useAbsenceChecks(AbsenceChecks)}
+     * the element is checked once, without waiting for it to become visible.
      *
      * @param element element to verify
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotVisible(WebElementFacade element, String message) {
-        Assert.assertFalse(element.isVisible(), message);
-        return page;
+    public T assertNotVisible(final WebElementFacade element, final String message) {
+        if (deferred(ElementStates.VISIBLE, false, element, message, null)) {
+            return page;
+        }
+        return run("assertNotVisible", new Check() {
+            @Override
+            public void verify() {
+                AbsenceChecks checks = Page.getAbsenceChecks();
+                Assert.assertFalse(checks != null ? checks.isVisible(page, element) : element.isVisible(), message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that WebElementFacade is not visible on the page. With {@link Page#useAbsenceChecks(AbsenceChecks)}
+     * the element is checked once, without waiting for it to become visible.
+     *
+     * @param element element to verify
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertNotVisible(final WebElementFacade element, final MessageSupplier message) {
+        if (deferred(ElementStates.VISIBLE, false, element, null, message)) {
+            return page;
+        }
+        return run("assertNotVisible", message, new Check() {
+            @Override
+            public void verify() {
+                AbsenceChecks checks = Page.getAbsenceChecks();
+                Assert.assertFalse(checks != null ? checks.isVisible(page, element) : element.isVisible());
+            }
+        });
     }
 
     /**
@@ -891,9 +2280,35 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertEnabled(WebElementFacade element, String message) {
-        Assert.assertTrue(element.isEnabled(), message);
-        return page;
+    public T assertEnabled(final WebElementFacade element, final String message) {
+        if (deferred(ElementStates.ENABLED, true, element, message, null)) {
+            return page;
+        }
+        return run("assertEnabled", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(element.isEnabled(), message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that WebElementFacade is enabled on the page
+     *
+     * @param element element to verify
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertEnabled(final WebElementFacade element, final MessageSupplier message) {
+        if (deferred(ElementStates.ENABLED, true, element, null, message)) {
+            return page;
+        }
+        return run("assertEnabled", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(element.isEnabled());
+            }
+        });
     }
 
     /**
@@ -903,9 +2318,35 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotEnabled(WebElementFacade element, String message) {
-        Assert.assertFalse(element.isEnabled(), message);
-        return page;
+    public T assertNotEnabled(final WebElementFacade element, final String message) {
+        if (deferred(ElementStates.ENABLED, false, element, message, null)) {
+            return page;
+        }
+        return run("assertNotEnabled", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertFalse(element.isEnabled(), message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that WebElementFacade is not enabled on the page
+     *
+     * @param element element to verify
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertNotEnabled(final WebElementFacade element, final MessageSupplier message) {
+        if (deferred(ElementStates.ENABLED, false, element, null, message)) {
+            return page;
+        }
+        return run("assertNotEnabled", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertFalse(element.isEnabled());
+            }
+        });
     }
 
     /**
@@ -915,20 +2356,458 @@ public class Assertion<T extends Page<T>> {
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertPresent(WebElementFacade element, String message) {
-        Assert.assertTrue(element.isPresent(), message);
-        return page;
+    public T assertPresent(final WebElementFacade element, final String message) {
+        if (deferred(ElementStates.PRESENT, true, element, message, null)) {
+            return page;
+        }
+        return run("assertPresent", new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(element.isPresent(), message);
+            }
+        });
     }
 
     /**
-     * Asserts that WebElementFacade is not present on the page
+     * Asserts that WebElementFacade is present on the page
+     *
+     * @param element element to verify
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertPresent(final WebElementFacade element, final MessageSupplier message) {
+        if (deferred(ElementStates.PRESENT, true, element, null, message)) {
+            return page;
+        }
+        return run("assertPresent", message, new Check() {
+            @Override
+            public void verify() {
+                Assert.assertTrue(element.isPresent());
+            }
+        });
+    }
+
+    /**
+     * Asserts that WebElementFacade is not present on the page. With {@link Page#useAbsenceChecks(AbsenceChecks)}
+     * the element is looked up once, without waiting for it to appear.
      *
      * @param element element to verify
      * @param message the assertion error message
      * @return calling {@link Page}
      */
-    public T assertNotPresent(WebElementFacade element, String message) {
-        Assert.assertFalse(element.isPresent(), message);
-        return page;
+    public T assertNotPresent(final WebElementFacade element, final String message) {
+        if (deferred(ElementStates.PRESENT, false, element, message, null)) {
+            return page;
+        }
+        return run("assertNotPresent", new Check() {
+            @Override
+            public void verify() {
+                AbsenceChecks checks = Page.getAbsenceChecks();
+                Assert.assertFalse(checks != null ? checks.isPresent(page, element) : element.isPresent(), message);
+            }
+        });
+    }
+
+    /**
+     * Asserts that WebElementFacade is not present on the page. With {@link Page#useAbsenceChecks(AbsenceChecks)}
+     * the element is looked up once, without waiting for it to appear.
+     *
+     * @param element element to verify
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertNotPresent(final WebElementFacade element, final MessageSupplier message) {
+        if (deferred(ElementStates.PRESENT, false, element, null, message)) {
+            return page;
+        }
+        return run("assertNotPresent", message, new Check() {
+            @Override
+            public void verify() {
+                AbsenceChecks checks = Page.getAbsenceChecks();
+                Assert.assertFalse(checks != null ? checks.isPresent(page, element) : element.isPresent());
+            }
+        });
+    }
+
+    /**
+     * Starts a batch of element state assertions, verified together with a single script execution
+     *
+     * @return new {@link ElementBatch} of calling {@link Page}
+     */
+    public ElementBatch<T> batch() {
+        return new ElementBatch<>(page);
+    }
+
+    /**
+     * Captures the page source once, for assertions evaluated locally against the parsed document
+     *
+     * @return new {@link DomSnapshot} of calling {@link Page}
+     */
+    public DomSnapshot<T> onSnapshot() {
+        return new DomSnapshot<>(page);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are visible on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  the assertion error message
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllVisible(String message, WebElementFacade... elements) {
+        return batch().visible(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are visible on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  supplier of the assertion error message, called only on failure
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllVisible(MessageSupplier message, WebElementFacade... elements) {
+        return batch().visible(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are not visible on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  the assertion error message
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllNotVisible(String message, WebElementFacade... elements) {
+        return batch().notVisible(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are not visible on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  supplier of the assertion error message, called only on failure
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllNotVisible(MessageSupplier message, WebElementFacade... elements) {
+        return batch().notVisible(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are enabled on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  the assertion error message
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllEnabled(String message, WebElementFacade... elements) {
+        return batch().enabled(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are enabled on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  supplier of the assertion error message, called only on failure
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllEnabled(MessageSupplier message, WebElementFacade... elements) {
+        return batch().enabled(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are not enabled on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  the assertion error message
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllNotEnabled(String message, WebElementFacade... elements) {
+        return batch().notEnabled(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are not enabled on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  supplier of the assertion error message, called only on failure
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllNotEnabled(MessageSupplier message, WebElementFacade... elements) {
+        return batch().notEnabled(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are present on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  the assertion error message
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllPresent(String message, WebElementFacade... elements) {
+        return batch().present(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are present on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  supplier of the assertion error message, called only on failure
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllPresent(MessageSupplier message, WebElementFacade... elements) {
+        return batch().present(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are not present on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  the assertion error message
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllNotPresent(String message, WebElementFacade... elements) {
+        return batch().notPresent(elements).verify(message);
+    }
+
+    /**
+     * Asserts that all WebElementFacades are not present on the page, resolving their states
+     * with a single script execution. All failing elements are reported together.
+     *
+     * @param message  supplier of the assertion error message, called only on failure
+     * @param elements elements to verify
+     * @return calling {@link Page}
+     */
+    public T assertAllNotPresent(MessageSupplier message, WebElementFacade... elements) {
+        return batch().notPresent(elements).verify(message);
+    }
+
+    // Tables
+
+    /**
+     * Asserts that a table column holds the expected texts in the same order. Only the first difference
+     * is reported.
+     *
+     * @param table    table read with {@link Page#readTable(org.openqa.selenium.WebElement)}
+     * @param header   text of the column's header cell
+     * @param expected the expected cell texts, from top to bottom
+     * @param message  the assertion error message
+     * @return calling {@link Page}
+     */
+    public T assertColumnEquals(final Table table, final String header, final List<String> expected,
+                                final String message) {
+        return run("assertColumnEquals", new Check() {
+            @Override
+            public void verify() {
+                List<String> actual = table.column(header);
+                int size = Math.min(actual.size(), expected.size());
+                for (int row = 0; row < size; row++) {
+                    if (!actual.get(row).equals(expected.get(row))) {
+                        Assert.fail(message + ": column [" + header + "] differs at row " + row + ": expected ["
+                                + expected.get(row) + "] but found [" + actual.get(row) + "]");
+                    }
+                }
+                if (actual.size() != expected.size()) {
+                    Assert.fail(message + ": column [" + header + "] has " + actual.size() + " rows, expected "
+                            + expected.size() + (actual.size() > size ? ", first unexpected [" + actual.get(size) + "]"
+                            : ", first missing [" + expected.get(size) + "]"));
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a table column holds the expected texts in the same order. Only the first difference
+     * is reported.
+     *
+     * @param table    table read with {@link Page#readTable(org.openqa.selenium.WebElement)}
+     * @param header   text of the column's header cell
+     * @param expected the expected cell texts, from top to bottom
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertColumnEquals(final Table table, final String header, final List<String> expected,
+                                final MessageSupplier message) {
+        return run("assertColumnEquals", new Check() {
+            @Override
+            public void verify() {
+                List<String> actual = table.column(header);
+                int size = Math.min(actual.size(), expected.size());
+                for (int row = 0; row < size; row++) {
+                    if (!actual.get(row).equals(expected.get(row))) {
+                        Assert.fail(message.get() + ": column [" + header + "] differs at row " + row + ": expected ["
+                                + expected.get(row) + "] but found [" + actual.get(row) + "]");
+                    }
+                }
+                if (actual.size() != expected.size()) {
+                    Assert.fail(message.get() + ": column [" + header + "] has " + actual.size() + " rows, expected "
+                            + expected.size() + (actual.size() > size ? ", first unexpected [" + actual.get(size) + "]"
+                            : ", first missing [" + expected.get(size) + "]"));
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a table holds the expected rows, in any order. Rows are compared as lists of cell texts,
+     * including duplicates. Only the first unexpected or missing row is reported.
+     *
+     * @param table    table read with {@link Page#readTable(org.openqa.selenium.WebElement)}
+     * @param expected the expected rows, each a list of cell texts from left to right
+     * @param message  the assertion error message
+     * @return calling {@link Page}
+     */
+    public T assertRowsEqualNoOrder(final Table table, final Collection<? extends List<String>> expected,
+                                    final String message) {
+        return run("assertRowsEqualNoOrder", new Check() {
+            @Override
+            public void verify() {
+                Map<List<String>, Integer> remaining = new HashMap<>(expected.size() * 4 / 3 + 1);
+                for (List<String> row : expected) {
+                    Integer count = remaining.get(row);
+                    remaining.put(row, count == null ? 1 : count + 1);
+                }
+                for (int index = 0; index < table.getRowCount(); index++) {
+                    List<String> row = table.row(index);
+                    Integer count = remaining.get(row);
+                    if (count == null) {
+                        Assert.fail(message + ": unexpected row " + index + " " + row);
+                    }
+                    if (count == 1) {
+                        remaining.remove(row);
+                    } else {
+                        remaining.put(row, count - 1);
+                    }
+                }
+                if (!remaining.isEmpty()) {
+                    Assert.fail(message + ": missing row " + remaining.keySet().iterator().next() + ", "
+                            + (expected.size() - table.getRowCount()) + " rows less than expected");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that a table holds the expected rows, in any order. Rows are compared as lists of cell texts,
+     * including duplicates. Only the first unexpected or missing row is reported.
+     *
+     * @param table    table read with {@link Page#readTable(org.openqa.selenium.WebElement)}
+     * @param expected the expected rows, each a list of cell texts from left to right
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertRowsEqualNoOrder(final Table table, final Collection<? extends List<String>> expected,
+                                    final MessageSupplier message) {
+        return run("assertRowsEqualNoOrder", new Check() {
+            @Override
+            public void verify() {
+                Map<List<String>, Integer> remaining = new HashMap<>(expected.size() * 4 / 3 + 1);
+                for (List<String> row : expected) {
+                    Integer count = remaining.get(row);
+                    remaining.put(row, count == null ? 1 : count + 1);
+                }
+                for (int index = 0; index < table.getRowCount(); index++) {
+                    List<String> row = table.row(index);
+                    Integer count = remaining.get(row);
+                    if (count == null) {
+                        Assert.fail(message.get() + ": unexpected row " + index + " " + row);
+                    }
+                    if (count == 1) {
+                        remaining.remove(row);
+                    } else {
+                        remaining.put(row, count - 1);
+                    }
+                }
+                if (!remaining.isEmpty()) {
+                    Assert.fail(message.get() + ": missing row " + remaining.keySet().iterator().next() + ", "
+                            + (expected.size() - table.getRowCount()) + " rows less than expected");
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that texts of a table column are in ascending order
+     *
+     * @param table   table read with {@link Page#readTable(org.openqa.selenium.WebElement)}
+     * @param header  text of the column's header cell
+     * @param message the assertion error message
+     * @return calling {@link Page}
+     */
+    public T assertColumnSorted(Table table, String header, String message) {
+        return assertColumnSorted(table, header, NATURAL_ORDER, message);
+    }
+
+    /**
+     * Asserts that texts of a table column are in ascending order
+     *
+     * @param table   table read with {@link Page#readTable(org.openqa.selenium.WebElement)}
+     * @param header  text of the column's header cell
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertColumnSorted(Table table, String header, MessageSupplier message) {
+        return assertColumnSorted(table, header, NATURAL_ORDER, message);
+    }
+
+    /**
+     * Asserts that texts of a table column are in ascending order of the comparator, for example
+     * {@code Collections.reverseOrder()} for a descending one. Only the first pair out of order is reported.
+     *
+     * @param table      table read with {@link Page#readTable(org.openqa.selenium.WebElement)}
+     * @param header     text of the column's header cell
+     * @param comparator order the column is expected to be sorted in
+     * @param message    the assertion error message
+     * @return calling {@link Page}
+     */
+    public T assertColumnSorted(final Table table, final String header, final Comparator<? super String> comparator,
+                                final String message) {
+        return run("assertColumnSorted", new Check() {
+            @Override
+            public void verify() {
+                List<String> column = table.column(header);
+                for (int row = 1; row < column.size(); row++) {
+                    if (comparator.compare(column.get(row - 1), column.get(row)) > 0) {
+                        Assert.fail(message + ": column [" + header + "] is not sorted at row " + row + ": ["
+                                + column.get(row - 1) + "] before [" + column.get(row) + "]");
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Asserts that texts of a table column are in ascending order of the comparator, for example
+     * {@code Collections.reverseOrder()} for a descending one. Only the first pair out of order is reported.
+     *
+     * @param table      table read with {@link Page#readTable(org.openqa.selenium.WebElement)}
+     * @param header     text of the column's header cell
+     * @param comparator order the column is expected to be sorted in
+     * @param message    supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T assertColumnSorted(final Table table, final String header, final Comparator<? super String> comparator,
+                                final MessageSupplier message) {
+        return run("assertColumnSorted", new Check() {
+            @Override
+            public void verify() {
+                List<String> column = table.column(header);
+                for (int row = 1; row < column.size(); row++) {
+                    if (comparator.compare(column.get(row - 1), column.get(row)) > 0) {
+                        Assert.fail(message.get() + ": column [" + header + "] is not sorted at row " + row + ": ["
+                                + column.get(row - 1) + "] before [" + column.get(row) + "]");
+                    }
+                }
+            }
+        });
     }
 }
@@ -0,0 +1,317 @@
+package net.jockx.fluentpage;
+
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves appender I/O of the fluent {@link Logger} off test threads. Enabled calls are published into a pre-allocated
+ * ring buffer, drained by a background thread to the SLF4J logger of the page:
+ * <pre>
+ * Page.useAsyncLogging(AsyncLogging.start(8192, AsyncLogging.OverflowPolicy.BLOCK));
+ * </pre>
+ * Publishing allocates nothing, disabled levels are not queued at all. Messages are formatted on the drain thread,
+ * so arguments should not be modified once logged, and appenders see the drain thread and its MDC instead of the
+ * test thread. Remaining events are written by {@link #close()}, or when the JVM shuts down.
+ */
+@SuppressWarnings("unused")
+public final class AsyncLogging {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(AsyncLogging.class);
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int SPINS_BEFORE_PARKING = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROPPED = -1;
+    private static final long CALLER_RUNS = -2;
+
+    /**
+     * What a logging call does when the ring buffer is full
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discard the event, counted by {@link #getDroppedCount()}
+         */
+        DROP,
+        /**
+         * Wait on the calling thread until the drain thread frees a slot
+         */
+        BLOCK,
+        /**
+         * Write the event synchronously on the calling thread, counted by {@link #getCallerLoggedCount()}
+         */
+        LOG_ON_CALLER
+    }
+
+    private final LogEvent[] events;
+    private final int mask;
+    private final OverflowPolicy policy;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong callerLogged = new AtomicLong();
+    private final Thread drainer;
+    private final Thread shutdownHook;
+    /**
+     * Sequence of the next event to drain, written by the drain thread only
+     */
+    private volatile long drained;
+    private volatile long maxDepth;
+    private volatile boolean parked;
+    private volatile boolean closed;
+
+    private AsyncLogging(int capacity, OverflowPolicy policy) {
+        this.events = new LogEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new LogEvent();
+        }
+        this.mask = capacity - 1;
+        this.policy = policy;
+        this.drainer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                drain();
+            }
+        }, "fluent-page-async-logging");
+        drainer.setDaemon(true);
+        this.shutdownHook = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                stop();
+            }
+        }, "fluent-page-async-logging-shutdown");
+    }
+
+    /**
+     * @return running async logging holding up to 4096 events, dropping events that do not fit
+     */
+    public static AsyncLogging start() {
+        return start(DEFAULT_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    /**
+     * @param capacity number of events held, rounded up to a power of two
+     * @param policy   what to do with events that do not fit
+     * @return running async logging
+     */
+    public static AsyncLogging start(int capacity, OverflowPolicy policy) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, was " + capacity);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Overflow policy must not be null");
+        }
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        AsyncLogging logging = new AsyncLogging(size, policy);
+        logging.drainer.start();
+        Runtime.getRuntime().addShutdownHook(logging.shutdownHook);
+        return logging;
+    }
+
+    /**
+     * Queues a logging call
+     *
+     * @return {@code false} if the caller has to write the event itself
+     */
+    boolean publish(org.slf4j.Logger logger, int level, int shape, Marker marker, String format, Object arg1,
+                    Object arg2, Object[] arguments, Throwable throwable) {
+        if (closed) {
+            return false;
+        }
+        if (!LogEvent.isEnabled(logger, level, marker)) {
+            return true;
+        }
+        long sequence = claim();
+        if (sequence < 0) {
+            return sequence == DROPPED;
+        }
+        LogEvent event = events[(int) sequence & mask];
+        event.set(logger, level, shape, marker, format, arg1, arg2, arguments, throwable);
+        commit(event, sequence);
+        return true;
+    }
+
+    /**
+     * Queues a logging call with a primitive argument, of {@link LogEvent#LONG_ARG} or {@link LogEvent#DOUBLE_ARG}
+     * shape, without boxing it
+     *
+     * @return {@code false} if the caller has to write the event itself
+     */
+    boolean publish(org.slf4j.Logger logger, int level, int shape, String format, long longArg, double doubleArg) {
+        if (closed) {
+            return false;
+        }
+        if (!LogEvent.isEnabled(logger, level, null)) {
+            return true;
+        }
+        long sequence = claim();
+        if (sequence < 0) {
+            return sequence == DROPPED;
+        }
+        LogEvent event = events[(int) sequence & mask];
+        event.set(logger, level, shape, format, longArg, doubleArg);
+        commit(event, sequence);
+        return true;
+    }
+
+    /**
+     * @return sequence of a free slot, {@link #DROPPED} or {@link #CALLER_RUNS} if the buffer is full
+     */
+    private long claim() {
+        long sequence = claimed.get();
+        while (sequence - drained > mask || !claimed.compareAndSet(sequence, sequence + 1)) {
+            if (sequence - drained > mask) {
+                switch (policy) {
+                    case DROP:
+                        dropped.incrementAndGet();
+                        return DROPPED;
+                    case LOG_ON_CALLER:
+                        callerLogged.incrementAndGet();
+                        return CALLER_RUNS;
+                    default:
+                        if (closed) {
+                            return CALLER_RUNS;
+                        }
+                        LockSupport.parkNanos(FULL_PARK_NANOS);
+                }
+            }
+            sequence = claimed.get();
+        }
+        return sequence;
+    }
+
+    private void commit(LogEvent event, long sequence) {
+        event.sequence = sequence;
+        if (parked) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    private void drain() {
+        int idle = 0;
+        while (true) {
+            long next = drained;
+            LogEvent event = events[(int) next & mask];
+            if (event.sequence == next) {
+                long depth = claimed.get() - next;
+                if (depth > maxDepth) {
+                    maxDepth = depth;
+                }
+                try {
+                    event.write();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Unable to write log event: {}", e.toString());
+                }
+                drained = next + 1;
+                idle = 0;
+            } else if (closed && next == claimed.get()) {
+                return;
+            } else if (++idle < SPINS_BEFORE_PARKING) {
+                Thread.yield();
+            } else {
+                parked = true;
+                if (events[(int) next & mask].sequence != next) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                parked = false;
+            }
+        }
+    }
+
+    /**
+     * Waits until events published so far are written
+     *
+     * @param timeout maximal time to wait
+     * @param unit    unit of the timeout
+     * @return {@code true} if all events were written in time
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long target = claimed.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (drained < target) {
+            if (System.nanoTime() - deadline >= 0 || !drainer.isAlive()) {
+                return false;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Writes queued events and stops the drain thread. Later calls are written on the calling thread, calls made
+     * while closing may be lost.
+     */
+    public void close() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            LOGGER.debug("JVM is shutting down, events are written by the shutdown hook");
+        }
+        stop();
+    }
+
+    private void stop() {
+        closed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return number of events the ring buffer holds
+     */
+    public int getCapacity() {
+        return events.length;
+    }
+
+    /**
+     * @return number of events waiting to be written
+     */
+    public long getQueueDepth() {
+        return Math.max(0, claimed.get() - drained);
+    }
+
+    /**
+     * @return largest number of events waiting to be written seen by the drain thread
+     */
+    public long getMaxQueueDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return number of events written by the drain thread
+     */
+    public long getWrittenCount() {
+        return drained;
+    }
+
+    /**
+     * @return number of events discarded with {@link OverflowPolicy#DROP}
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return number of events written on calling threads with {@link OverflowPolicy#LOG_ON_CALLER}
+     */
+    public long getCallerLoggedCount() {
+        return callerLogged.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncLogging[capacity=" + getCapacity() + ", policy=" + policy + ", depth=" + getQueueDepth()
+                + ", maxDepth=" + getMaxQueueDepth() + ", written=" + getWrittenCount() + ", dropped="
+                + getDroppedCount() + ", callerLogged=" + getCallerLoggedCount() + "]";
+    }
+}
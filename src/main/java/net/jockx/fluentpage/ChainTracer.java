@@ -0,0 +1,241 @@
+package net.jockx.fluentpage;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link PageListener} recording chain steps into per-thread ring buffers, exported in the trace event format
+ * understood by {@code chrome://tracing} and Perfetto:
+ * <pre>
+ * ChainTracer tracer = ChainTracer.create().writingAtShutdown(new File("target/chain-trace.json"));
+ * Page.addListener(tracer);
+ * </pre>
+ * Each thread keeps its latest steps only, older ones are overwritten once its buffer is full. Logger calls are
+ * not recorded, so they don't take the place of the steps. Buffers are written by their own threads without
+ * locking, so export should happen once tests are done.
+ */
+@SuppressWarnings("unused")
+public class ChainTracer implements PageListener {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(ChainTracer.class);
+    private static final int DEFAULT_CAPACITY = 16384;
+
+    private final int capacity;
+    private final long origin = System.nanoTime();
+    private final List<Buffer> buffers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Buffer> buffer = new ThreadLocal<Buffer>() {
+        @Override
+        protected Buffer initialValue() {
+            Buffer created = new Buffer(Thread.currentThread(), capacity);
+            buffers.add(created);
+            return created;
+        }
+    };
+
+    private ChainTracer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return tracer keeping the latest 16384 steps of each thread
+     */
+    public static ChainTracer create() {
+        return new ChainTracer(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param stepsPerThread number of latest steps kept for each thread
+     * @return tracer keeping given number of steps of each thread
+     */
+    public static ChainTracer withCapacity(int stepsPerThread) {
+        if (stepsPerThread < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, was " + stepsPerThread);
+        }
+        return new ChainTracer(stepsPerThread);
+    }
+
+    /**
+     * @param file file to write the trace to when the JVM shuts down
+     * @return this tracer
+     */
+    public ChainTracer writingAtShutdown(final File file) {
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    writeTo(file);
+                } catch (IOException e) {
+                    LOGGER.warn("Unable to write chain trace to {}: {}", file, e.toString());
+                }
+            }
+        }, "fluent-page-chain-trace"));
+        return this;
+    }
+
+    @Override
+    public void stepStarted(Kind kind, Class<?> page, String name) {
+    }
+
+    @Override
+    public void stepEnded(Kind kind, Class<?> page, String name, long startNanos, long endNanos, Throwable failure) {
+        if (kind != Kind.LOG) {
+            buffer.get().add(kind, page, name, startNanos, endNanos, failure);
+        }
+    }
+
+    /**
+     * @param file file to write recorded steps to, as trace event JSON
+     * @throws IOException if the file can't be written
+     */
+    public void writeTo(File file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writeTo(writer);
+        }
+    }
+
+    /**
+     * @param out destination of recorded steps, written as trace event JSON
+     * @throws IOException if writing fails
+     */
+    public void writeTo(Appendable out) throws IOException {
+        out.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        boolean first = true;
+        for (Buffer recorded : buffers) {
+            out.append(first ? "\n" : ",\n");
+            first = false;
+            out.append("{\"ph\":\"M\",\"name\":\"thread_name\",\"pid\":1,\"tid\":")
+                    .append(Long.toString(recorded.threadId)).append(",\"args\":{\"name\":");
+            quote(out, recorded.threadName);
+            out.append("}}");
+            long written = recorded.written;
+            for (long i = Math.max(0, written - capacity); i < written; i++) {
+                int slot = (int) (i % capacity);
+                Class<?> page = recorded.pages[slot];
+                out.append(",\n{\"ph\":\"X\",\"pid\":1,\"tid\":").append(Long.toString(recorded.threadId))
+                        .append(",\"cat\":\"").append(recorded.kinds[slot].name().toLowerCase()).append("\",\"name\":");
+                quote(out, recorded.kinds[slot] == Kind.ACTION || recorded.kinds[slot] == Kind.ASSERTION
+                        ? page.getSimpleName() + "." + recorded.names[slot] : recorded.names[slot] + " "
+                        + page.getSimpleName());
+                out.append(",\"ts\":").append(micros(recorded.starts[slot] - origin))
+                        .append(",\"dur\":").append(micros(recorded.ends[slot] - recorded.starts[slot]))
+                        .append(",\"args\":{\"page\":");
+                quote(out, page.getName());
+                if (recorded.failures[slot] != null) {
+                    out.append(",\"failure\":");
+                    quote(out, recorded.failures[slot]);
+                }
+                out.append("}}");
+            }
+        }
+        out.append("\n]}\n");
+    }
+
+    /**
+     * @return number of steps currently held in buffers of all threads
+     */
+    public long getStepCount() {
+        long count = 0;
+        for (Buffer recorded : buffers) {
+            count += Math.min(recorded.written, capacity);
+        }
+        return count;
+    }
+
+    /**
+     * @return number of steps overwritten by newer ones
+     */
+    public long getDroppedCount() {
+        long dropped = 0;
+        for (Buffer recorded : buffers) {
+            dropped += Math.max(0, recorded.written - capacity);
+        }
+        return dropped;
+    }
+
+    @Override
+    public String toString() {
+        return "ChainTracer[threads=" + buffers.size() + ", steps=" + getStepCount() + ", dropped="
+                + getDroppedCount() + "]";
+    }
+
+    private static String micros(long nanos) {
+        return BigDecimal.valueOf(nanos, 3).toPlainString();
+    }
+
+    private static void quote(Appendable out, String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Steps of a single thread, written by that thread only
+     */
+    private static final class Buffer {
+        private final long threadId;
+        private final String threadName;
+        private final Kind[] kinds;
+        private final Class<?>[] pages;
+        private final String[] names;
+        private final long[] starts;
+        private final long[] ends;
+        private final String[] failures;
+        private volatile long written;
+
+        private Buffer(Thread thread, int capacity) {
+            this.threadId = thread.getId();
+            this.threadName = thread.getName();
+            this.kinds = new Kind[capacity];
+            this.pages = new Class<?>[capacity];
+            this.names = new String[capacity];
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+            this.failures = new String[capacity];
+        }
+
+        private void add(Kind kind, Class<?> page, String name, long start, long end, Throwable failure) {
+            int slot = (int) (written % kinds.length);
+            kinds[slot] = kind;
+            pages[slot] = page;
+            names[slot] = name;
+            starts[slot] = start;
+            ends[slot] = end;
+            failures[slot] = failure == null ? null : failure.toString();
+            written = written + 1;
+        }
+    }
+}
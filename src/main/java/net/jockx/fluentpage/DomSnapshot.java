@@ -0,0 +1,393 @@
+package net.jockx.fluentpage;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Selector;
+import org.testng.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Assertions evaluated against a copy of the page document, obtained from {@link Assertion#onSnapshot()}:
+ * <pre>
+ * page.assertion.onSnapshot()
+ *     .assertText("h1", "Search results", "Wrong heading")
+ *     .assertCount("li.result", 10, "Wrong number of results")
+ *     .assertAttribute("a.next", "href", "/search?page=2", "Wrong next page link")
+ *     .page()
+ *     .logger.info("Results verified");
+ * </pre>
+ * The page source is fetched once, with a single driver command, and every assertion queries the parsed
+ * document locally with CSS selectors. The snapshot does not follow later changes of the page, take a new one
+ * or call {@link #refresh()} after interacting with it. Source can't tell whether an element is displayed,
+ * so presence assertions only check the element is in the document.
+ * @param <T> actual subclass of {@link Page}
+ */
+@SuppressWarnings("unused")
+public class DomSnapshot<T extends Page<T>> {
+
+    private final T page;
+    private Document document;
+
+    DomSnapshot(T page) {
+        this.page = page;
+        refresh();
+    }
+
+    /**
+     * Captures the current page source again
+     *
+     * @return this snapshot
+     */
+    public DomSnapshot<T> refresh() {
+        document = Jsoup.parse(page.getDriver().getPageSource());
+        return this;
+    }
+
+    /**
+     * @return calling {@link Page}
+     */
+    public T page() {
+        return page;
+    }
+
+    /**
+     * @param selector CSS selector of elements
+     * @return number of elements matching the selector
+     */
+    public int count(String selector) {
+        return select(selector).size();
+    }
+
+    /**
+     * @param selector CSS selector of the element
+     * @return normalized text of the first element matching the selector, or {@code null} if there is none
+     */
+    public String text(String selector) {
+        Element element = select(selector).first();
+        return element == null ? null : element.text();
+    }
+
+    /**
+     * @param selector CSS selector of elements
+     * @return normalized texts of all elements matching the selector, in document order
+     */
+    public List<String> texts(String selector) {
+        Elements elements = select(selector);
+        List<String> texts = new ArrayList<>(elements.size());
+        for (Element element : elements) {
+            texts.add(element.text());
+        }
+        return texts;
+    }
+
+    /**
+     * @param selector  CSS selector of the element
+     * @param attribute name of the attribute
+     * @return value of the attribute of the first element matching the selector, or {@code null} if there is
+     * no such element or it does not have the attribute
+     */
+    public String attribute(String selector, String attribute) {
+        Element element = select(selector).first();
+        return element == null || !element.hasAttr(attribute) ? null : element.attr(attribute);
+    }
+
+    /**
+     * Asserts that an element matching the selector is in the document
+     *
+     * @param selector CSS selector of the element
+     * @param message  the assertion error message
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertPresent(String selector, String message) {
+        return assertPresent(selector, message, null);
+    }
+
+    /**
+     * Asserts that an element matching the selector is in the document
+     *
+     * @param selector CSS selector of the element
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertPresent(String selector, MessageSupplier message) {
+        return assertPresent(selector, null, message);
+    }
+
+    private DomSnapshot<T> assertPresent(final String selector, final String message, final MessageSupplier supplier) {
+        page.assertion.run("assertPresent", new Assertion.Check() {
+            @Override
+            public void verify() {
+                if (select(selector).isEmpty()) {
+                    Assert.fail(message(message, supplier) + ": expected [" + selector + "] to be present");
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Asserts that no element matching the selector is in the document
+     *
+     * @param selector CSS selector of the element
+     * @param message  the assertion error message
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertNotPresent(String selector, String message) {
+        return assertNotPresent(selector, message, null);
+    }
+
+    /**
+     * Asserts that no element matching the selector is in the document
+     *
+     * @param selector CSS selector of the element
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertNotPresent(String selector, MessageSupplier message) {
+        return assertNotPresent(selector, null, message);
+    }
+
+    private DomSnapshot<T> assertNotPresent(final String selector, final String message,
+                                            final MessageSupplier supplier) {
+        page.assertion.run("assertNotPresent", new Assertion.Check() {
+            @Override
+            public void verify() {
+                int count = count(selector);
+                if (count > 0) {
+                    Assert.fail(message(message, supplier) + ": expected [" + selector + "] not to be present, found "
+                            + count);
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Asserts the number of elements matching the selector
+     *
+     * @param selector CSS selector of elements
+     * @param expected the expected number of elements
+     * @param message  the assertion error message
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertCount(final String selector, final int expected, final String message) {
+        page.assertion.run("assertCount", new Assertion.Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(count(selector), expected, message);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Asserts the number of elements matching the selector
+     *
+     * @param selector CSS selector of elements
+     * @param expected the expected number of elements
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertCount(final String selector, final int expected, MessageSupplier message) {
+        page.assertion.run("assertCount", message, new Assertion.Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(count(selector), expected);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Asserts the normalized text of the first element matching the selector
+     *
+     * @param selector CSS selector of the element
+     * @param expected the expected text
+     * @param message  the assertion error message
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertText(String selector, String expected, String message) {
+        return assertText(selector, expected, message, null);
+    }
+
+    /**
+     * Asserts the normalized text of the first element matching the selector
+     *
+     * @param selector CSS selector of the element
+     * @param expected the expected text
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertText(String selector, String expected, MessageSupplier message) {
+        return assertText(selector, expected, null, message);
+    }
+
+    private DomSnapshot<T> assertText(final String selector, final String expected, final String message,
+                                      final MessageSupplier supplier) {
+        page.assertion.run("assertText", new Assertion.Check() {
+            @Override
+            public void verify() {
+                assertEquals(required(selector, message, supplier).text(), expected, message, supplier);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Asserts that the normalized text of the first element matching the selector contains a fragment
+     *
+     * @param selector CSS selector of the element
+     * @param fragment String to search for
+     * @param message  the assertion error message
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertTextContains(String selector, String fragment, String message) {
+        return assertTextContains(selector, fragment, message, null);
+    }
+
+    /**
+     * Asserts that the normalized text of the first element matching the selector contains a fragment
+     *
+     * @param selector CSS selector of the element
+     * @param fragment String to search for
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertTextContains(String selector, String fragment, MessageSupplier message) {
+        return assertTextContains(selector, fragment, null, message);
+    }
+
+    private DomSnapshot<T> assertTextContains(final String selector, final String fragment, final String message,
+                                              final MessageSupplier supplier) {
+        page.assertion.run("assertTextContains", new Assertion.Check() {
+            @Override
+            public void verify() {
+                String text = required(selector, message, supplier).text();
+                if (!text.contains(fragment)) {
+                    Assert.fail(message(message, supplier) + ": expected [" + text + "] to contain [" + fragment
+                            + "]");
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Asserts normalized texts of all elements matching the selector, in document order
+     *
+     * @param selector CSS selector of elements
+     * @param expected the expected texts
+     * @param message  the assertion error message
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertTexts(final String selector, final List<String> expected, final String message) {
+        page.assertion.run("assertTexts", new Assertion.Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(texts(selector), expected, message);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Asserts normalized texts of all elements matching the selector, in document order
+     *
+     * @param selector CSS selector of elements
+     * @param expected the expected texts
+     * @param message  supplier of the assertion error message, called only on failure
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertTexts(final String selector, final List<String> expected, MessageSupplier message) {
+        page.assertion.run("assertTexts", message, new Assertion.Check() {
+            @Override
+            public void verify() {
+                Assert.assertEquals(texts(selector), expected);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Asserts an attribute value of the first element matching the selector
+     *
+     * @param selector  CSS selector of the element
+     * @param attribute name of the attribute
+     * @param expected  the expected value, {@code null} if the attribute is expected to be missing
+     * @param message   the assertion error message
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertAttribute(String selector, String attribute, String expected, String message) {
+        return assertAttribute(selector, attribute, expected, message, null);
+    }
+
+    /**
+     * Asserts an attribute value of the first element matching the selector
+     *
+     * @param selector  CSS selector of the element
+     * @param attribute name of the attribute
+     * @param expected  the expected value, {@code null} if the attribute is expected to be missing
+     * @param message   supplier of the assertion error message, called only on failure
+     * @return this snapshot
+     */
+    public DomSnapshot<T> assertAttribute(String selector, String attribute, String expected,
+                                          MessageSupplier message) {
+        return assertAttribute(selector, attribute, expected, null, message);
+    }
+
+    private DomSnapshot<T> assertAttribute(final String selector, final String attribute, final String expected,
+                                           final String message, final MessageSupplier supplier) {
+        page.assertion.run("assertAttribute", new Assertion.Check() {
+            @Override
+            public void verify() {
+                Element element = required(selector, message, supplier);
+                assertEquals(element.hasAttr(attribute) ? element.attr(attribute) : null, expected, message,
+                        supplier);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * @return message given to an assertion, or built by its supplier
+     */
+    private static String message(String message, MessageSupplier supplier) {
+        return supplier == null ? message : supplier.get();
+    }
+
+    /**
+     * Asserts equal texts the way {@link Assert#assertEquals(String, String, String)} does, putting a supplied
+     * message in front of the failure only once it fails
+     */
+    private static void assertEquals(String actual, String expected, String message, MessageSupplier supplier) {
+        if (supplier == null) {
+            Assert.assertEquals(actual, expected, message);
+            return;
+        }
+        try {
+            Assert.assertEquals(actual, expected);
+        } catch (AssertionError e) {
+            throw Assertion.described(supplier, e);
+        }
+    }
+
+    private Element required(String selector, String message, MessageSupplier supplier) {
+        Element element = select(selector).first();
+        if (element == null) {
+            Assert.fail(message(message, supplier) + ": expected [" + selector + "] to be present");
+        }
+        return element;
+    }
+
+    private Elements select(String selector) {
+        try {
+            return document.select(selector);
+        } catch (Selector.SelectorParseException e) {
+            throw new IllegalArgumentException("Invalid CSS selector [" + selector + "]: " + e.getMessage(), e);
+        }
+    }
+}
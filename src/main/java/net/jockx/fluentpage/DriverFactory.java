@@ -0,0 +1,17 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Creates new {@link WebDriver} sessions for a {@link DriverPool}
+ */
+public interface DriverFactory {
+
+    /**
+     * Launches a new browser session. May be called concurrently from several threads
+     * while the pool is being pre-warmed.
+     *
+     * @return new {@link WebDriver} instance
+     */
+    WebDriver create();
+}
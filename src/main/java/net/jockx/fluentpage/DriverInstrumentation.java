@@ -0,0 +1,453 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.internal.WrapsElement;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every {@link WebDriver} command issued through pages. When enabled with
+ * {@link Page#useInstrumentation(DriverInstrumentation)}, drivers passed to {@link Page#initialize(WebDriver)}
+ * are wrapped in a proxy, as are elements, navigation, options and timeouts obtained from them.
+ * <p>Each command is attributed to the {@link Page} subclass and method it was issued from, found on the call
+ * stack, or to the first caller outside of fluent-page, Selenium and Thucydides when no page method is involved,
+ * for example for assertions called from a test. Latencies are kept in histograms per page, method and command,
+ * available from {@link #getStatistics()} while tests run, and logged as a summary when the JVM shuts down.</p>
+ * <p>Walking the stack costs microseconds per command, well below the cost of a browser round trip.</p>
+ */
+@SuppressWarnings("unused")
+public class DriverInstrumentation {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(DriverInstrumentation.class);
+    private static final String[] LIBRARY_PACKAGES = {"java.", "javax.", "sun.", "com.sun.", "jdk.",
+            "org.openqa.selenium.", "net.thucydides.", "com.google.", "net.sf.cglib.", "org.testng."};
+    private static final String OWN_PACKAGE = Page.class.getPackage().getName();
+    /**
+     * Methods returning parts of the driver API rather than issuing commands
+     */
+    private static final Set<Class<?>> API_PARTS = new HashSet<Class<?>>(Arrays.asList(WebDriver.Options.class,
+            WebDriver.Timeouts.class, WebDriver.Navigation.class, WebDriver.TargetLocator.class,
+            WebDriver.Window.class, WebDriver.ImeHandler.class));
+    private static final Comparator<Statistics> BY_TOTAL_TIME = new Comparator<Statistics>() {
+        @Override
+        public int compare(Statistics first, Statistics second) {
+            return Long.compare(second.totalNanos, first.totalNanos);
+        }
+    };
+
+    private final ConcurrentMap<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Boolean> pageClasses = new ConcurrentHashMap<>();
+
+    private DriverInstrumentation() {
+    }
+
+    /**
+     * @return instrumentation logging a summary of recorded commands when the JVM shuts down
+     */
+    public static DriverInstrumentation create() {
+        final DriverInstrumentation instrumentation = new DriverInstrumentation();
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                if (!instrumentation.histograms.isEmpty()) {
+                    LOGGER.info("WebDriver commands by page:\n{}", instrumentation.report());
+                }
+            }
+        }, "fluent-page-instrumentation"));
+        return instrumentation;
+    }
+
+    /**
+     * @param driver driver to instrument
+     * @return proxy of the driver recording its commands, implementing the same interfaces
+     */
+    WebDriver wrap(WebDriver driver) {
+        return (WebDriver) proxy(driver, WrapsDriver.class);
+    }
+
+    /**
+     * @param driver driver returned by {@link #wrap(WebDriver)} or any other driver
+     * @return the driver wrapped by the instrumentation proxy, or {@code driver} itself if it is not a proxy
+     */
+    static WebDriver unwrap(WebDriver driver) {
+        Object target = targetOf(driver);
+        return target instanceof WebDriver ? (WebDriver) target : driver;
+    }
+
+    /**
+     * @return statistics of every page, method and command recorded, most time consuming first
+     */
+    public List<Statistics> getStatistics() {
+        List<Statistics> statistics = new ArrayList<>(histograms.size());
+        for (Map.Entry<Key, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            if (histogram.getCount() > 0) {
+                statistics.add(new Statistics(entry.getKey(), histogram));
+            }
+        }
+        Collections.sort(statistics, BY_TOTAL_TIME);
+        return statistics;
+    }
+
+    /**
+     * @return table of {@link #getStatistics()}, one line per page, method and command
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("%-60s %-36s %8s %10s %9s %9s %9s %9s",
+                "page.method", "command", "count", "total ms", "mean ms", "p50 ms", "p99 ms", "max ms"));
+        for (Statistics statistics : getStatistics()) {
+            report.append('\n').append(String.format("%-60s %-36s %8d %10.1f %9.2f %9.2f %9.2f %9.2f",
+                    statistics.page + "." + statistics.method, statistics.command, statistics.count,
+                    millis(statistics.totalNanos), millis(statistics.totalNanos / statistics.count),
+                    millis(statistics.p50Nanos), millis(statistics.p99Nanos), millis(statistics.maxNanos)));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Clears all recorded statistics
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        long count = 0;
+        for (LatencyHistogram histogram : histograms.values()) {
+            count += histogram.getCount();
+        }
+        return "DriverInstrumentation[commands=" + count + "]";
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private Object proxy(Object target, Class<?> wrapper) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            collectInterfaces(type, interfaces);
+        }
+        interfaces.add(wrapper);
+        ClassLoader loader = target.getClass().getClassLoader();
+        return Proxy.newProxyInstance(loader == null ? Page.class.getClassLoader() : loader,
+                interfaces.toArray(new Class<?>[interfaces.size()]), new Recorder(target));
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+        for (Class<?> implemented : type.getInterfaces()) {
+            if (Modifier.isPublic(implemented.getModifiers()) && interfaces.add(implemented)) {
+                collectInterfaces(implemented, interfaces);
+            }
+        }
+    }
+
+    private static Object targetOf(Object object) {
+        if (object != null && Proxy.isProxyClass(object.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(object);
+            if (handler instanceof Recorder) {
+                return ((Recorder) handler).target;
+            }
+        }
+        return object;
+    }
+
+    private Object wrapResult(Object result, Method method) {
+        if (result instanceof WebElement) {
+            return proxy(result, WrapsElement.class);
+        }
+        if (result instanceof WebDriver) {
+            return wrap((WebDriver) result);
+        }
+        if (result instanceof List && method.getName().equals("findElements")) {
+            List<Object> elements = new ArrayList<>(((List<?>) result).size());
+            for (Object element : (List<?>) result) {
+                elements.add(element instanceof WebElement ? proxy(element, WrapsElement.class) : element);
+            }
+            return elements;
+        }
+        if (result != null && API_PARTS.contains(method.getReturnType())) {
+            return proxy(result, method.getReturnType());
+        }
+        return result;
+    }
+
+    private static Object[] unwrapArguments(Object[] arguments) {
+        if (arguments == null) {
+            return null;
+        }
+        Object[] unwrapped = arguments.clone();
+        for (int i = 0; i < unwrapped.length; i++) {
+            if (unwrapped[i] instanceof Object[]) {
+                unwrapped[i] = unwrapArguments((Object[]) unwrapped[i]);
+            } else {
+                unwrapped[i] = targetOf(unwrapped[i]);
+            }
+        }
+        return unwrapped;
+    }
+
+    private void record(Method method, long nanos) {
+        Key key = attribute(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            LatencyHistogram created = new LatencyHistogram();
+            histogram = histograms.putIfAbsent(key, created);
+            if (histogram == null) {
+                histogram = created;
+            }
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Finds the page method, or other caller, a command was issued from
+     */
+    private Key attribute(String command) {
+        StackTraceElement caller = null;
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            String className = frame.getClassName();
+            if (isLibrary(className)) {
+                continue;
+            }
+            if (isPage(className)) {
+                return new Key(simpleName(className), frame.getMethodName(), command);
+            }
+            if (caller == null) {
+                caller = frame;
+            }
+        }
+        return caller == null ? new Key("?", "?", command)
+                : new Key(simpleName(caller.getClassName()), caller.getMethodName(), command);
+    }
+
+    private static boolean isLibrary(String className) {
+        if (className.startsWith("com.sun.proxy.") || className.startsWith("$Proxy")) {
+            return true;
+        }
+        for (String library : LIBRARY_PACKAGES) {
+            if (className.startsWith(library)) {
+                return true;
+            }
+        }
+        return className.startsWith(OWN_PACKAGE) && className.lastIndexOf('.') == OWN_PACKAGE.length();
+    }
+
+    private boolean isPage(String className) {
+        Boolean page = pageClasses.get(className);
+        if (page == null) {
+            page = false;
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            try {
+                page = Page.class.isAssignableFrom(Class.forName(className, false,
+                        loader == null ? Page.class.getClassLoader() : loader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.trace("Unable to load {} to attribute commands", className);
+            }
+            pageClasses.put(className, page);
+        }
+        return page;
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private final class Recorder implements InvocationHandler {
+        private final Object target;
+
+        private Recorder(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            Class<?> declaring = method.getDeclaringClass();
+            boolean unwrapping = declaring == WrapsDriver.class || declaring == WrapsElement.class;
+            if (unwrapping && !declaring.isInstance(target)) {
+                return target;
+            }
+            if (declaring == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return target.equals(targetOf(arguments[0]));
+                    case "hashCode":
+                        return target.hashCode();
+                    default:
+                        return method.invoke(target, arguments);
+                }
+            }
+            boolean command = !unwrapping
+                    && !(method.getParameterTypes().length == 0 && API_PARTS.contains(method.getReturnType()));
+            long start = System.nanoTime();
+            try {
+                return wrapResult(method.invoke(target, unwrapArguments(arguments)), method);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (command) {
+                    record(method, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    private static final class Key {
+        private final String page;
+        private final String method;
+        private final String command;
+
+        private Key(String page, String method, String command) {
+            this.page = page;
+            this.method = method;
+            this.command = command;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return page.equals(key.page) && method.equals(key.method) && command.equals(key.command);
+        }
+
+        @Override
+        public int hashCode() {
+            return (page.hashCode() * 31 + method.hashCode()) * 31 + command.hashCode();
+        }
+    }
+
+    /**
+     * Latencies of a single command issued from a single page method
+     */
+    public static final class Statistics {
+        private final String page;
+        private final String method;
+        private final String command;
+        private final long count;
+        private final long totalNanos;
+        private final long p50Nanos;
+        private final long p90Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        private Statistics(Key key, LatencyHistogram histogram) {
+            this.page = key.page;
+            this.method = key.method;
+            this.command = key.command;
+            this.count = histogram.getCount();
+            this.totalNanos = histogram.getTotalNanos();
+            this.p50Nanos = histogram.getPercentileNanos(50);
+            this.p90Nanos = histogram.getPercentileNanos(90);
+            this.p99Nanos = histogram.getPercentileNanos(99);
+            this.maxNanos = histogram.getMaxNanos();
+        }
+
+        /**
+         * @return simple name of the page class, or of the calling class when no page method was involved
+         */
+        public String getPage() {
+            return page;
+        }
+
+        /**
+         * @return name of the page method, or of the calling method when no page method was involved
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * @return interface and name of the command method, for example {@code WebElement.click}
+         */
+        public String getCommand() {
+            return command;
+        }
+
+        /**
+         * @return number of times the command was issued
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @param unit unit of the returned latency
+         * @return time spent in the command altogether
+         */
+        public long getTotal(TimeUnit unit) {
+            return unit.convert(totalNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @param unit unit of the returned latency
+         * @return average latency of the command
+         */
+        public long getMean(TimeUnit unit) {
+            return unit.convert(totalNanos / count, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Percentiles are upper bounds within 12.5% of the actual latency
+         *
+         * @param unit unit of the returned latency
+         * @return latency not exceeded by half of the commands
+         */
+        public long getMedian(TimeUnit unit) {
+            return unit.convert(p50Nanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @param unit unit of the returned latency
+         * @return latency not exceeded by 90% of the commands
+         */
+        public long get90thPercentile(TimeUnit unit) {
+            return unit.convert(p90Nanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @param unit unit of the returned latency
+         * @return latency not exceeded by 99% of the commands
+         */
+        public long get99thPercentile(TimeUnit unit) {
+            return unit.convert(p99Nanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @param unit unit of the returned latency
+         * @return longest latency of the command
+         */
+        public long getMax(TimeUnit unit) {
+            return unit.convert(maxNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return page + "." + method + " " + command + "[count=" + count + ", total="
+                    + getTotal(TimeUnit.MILLISECONDS) + "ms]";
+        }
+    }
+}
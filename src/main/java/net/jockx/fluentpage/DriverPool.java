@@ -0,0 +1,319 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of reusable {@link WebDriver} sessions. Sessions are leased for a single test, usually through
+ * {@link Page#initialize(DriverPool)} and {@link Page#release()}, and are reset instead of quit when returned.
+ * <p>Resetting deletes cookies and clears local and session storage of the page that is currently open,
+ * then navigates to {@code about:blank}. Cookies set for other domains are not visible to WebDriver and survive
+ * the reset.</p>
+ */
+@SuppressWarnings("unused")
+public class DriverPool implements AutoCloseable {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(DriverPool.class);
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+    /**
+     * Longest time a waiting lease sleeps before checking again whether a discarded session freed a slot
+     * or the pool was closed
+     */
+    private static final long WAIT_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final DriverFactory factory;
+    private final int maxSessions;
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> leased = Collections.newSetFromMap(new ConcurrentHashMap<WebDriver, Boolean>());
+    private final Set<WebDriver> used = Collections.newSetFromMap(new ConcurrentHashMap<WebDriver, Boolean>());
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong reuses = new AtomicLong();
+    private final AtomicLong leaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * @param factory     creates new sessions when the pool is pre-warmed or runs out of idle sessions
+     * @param maxSessions maximum number of sessions alive at the same time
+     */
+    public DriverPool(DriverFactory factory, int maxSessions) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions must be positive, was " + maxSessions);
+        }
+        this.factory = factory;
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Launches up to {@code count} sessions in parallel and waits until all of them are ready.
+     * Never exceeds the session cap. If the calling thread is interrupted, sessions already launching
+     * are still added to the pool once ready.
+     *
+     * @param count number of sessions to launch
+     * @return this pool
+     */
+    public DriverPool prewarm(int count) {
+        int reserved = 0;
+        while (reserved < count && reserveSession()) {
+            reserved++;
+        }
+        if (reserved == 0) {
+            return this;
+        }
+        final CountDownLatch launches = new CountDownLatch(reserved);
+        ExecutorService executor = Executors.newFixedThreadPool(reserved);
+        for (int i = 0; i < reserved; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        offer(factory.create());
+                    } catch (RuntimeException | Error e) {
+                        sessions.decrementAndGet();
+                        LOGGER.warn("Failed to launch WebDriver session", e);
+                    } finally {
+                        launches.countDown();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            launches.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sessions.addAndGet(-executor.shutdownNow().size());
+            throw new IllegalStateException("Interrupted while pre-warming WebDriver sessions", e);
+        }
+        LOGGER.info("Pre-warmed {} WebDriver sessions", idle.size());
+        return this;
+    }
+
+    /**
+     * Leases a session, waiting for one to be released if the session cap is reached
+     *
+     * @return leased {@link WebDriver}
+     */
+    public WebDriver lease() {
+        return lease(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Leases a session, waiting at most a given time for one to be released if the session cap is reached.
+     * A session discarded while waiting frees its slot for a new one.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of {@code timeout}
+     * @return leased {@link WebDriver}
+     * @throws IllegalStateException if the pool is closed, also while waiting, or no session became available in time
+     */
+    public WebDriver lease(long timeout, TimeUnit unit) {
+        long start = System.nanoTime();
+        long timeoutNanos = unit.toNanos(timeout);
+        WebDriver driver;
+        while (true) {
+            if (closed) {
+                throw new IllegalStateException("DriverPool is closed");
+            }
+            driver = idle.poll();
+            if (driver != null) {
+                break;
+            }
+            if (reserveSession()) {
+                try {
+                    driver = factory.create();
+                } catch (RuntimeException e) {
+                    sessions.decrementAndGet();
+                    throw e;
+                }
+                break;
+            }
+            long remaining = timeoutNanos - (System.nanoTime() - start);
+            if (remaining <= 0) {
+                throw new IllegalStateException("No WebDriver session was released within " + timeout + " " + unit +
+                        ", all " + maxSessions + " sessions are leased");
+            }
+            try {
+                driver = idle.poll(Math.min(remaining, WAIT_POLL_NANOS), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a WebDriver session", e);
+            }
+            if (driver != null) {
+                break;
+            }
+        }
+        recordLease(driver, System.nanoTime() - start);
+        return driver;
+    }
+
+    /**
+     * Resets a leased session and makes it available for the next lease. Sessions that fail
+     * to reset, or are released once the pool is closed, are quit and replaced on demand.
+     *
+     * @param driver {@link WebDriver} obtained from {@link #lease()}
+     */
+    public void release(WebDriver driver) {
+        if (!leased.remove(driver)) {
+            throw new IllegalArgumentException("WebDriver " + driver + " is not leased from this pool");
+        }
+        if (closed) {
+            discard(driver);
+            return;
+        }
+        try {
+            reset(driver);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to reset WebDriver session, discarding it", e);
+            discard(driver);
+            return;
+        }
+        offer(driver);
+    }
+
+    /**
+     * Makes a session available for the next lease, or quits it if the pool was closed meanwhile
+     */
+    private void offer(WebDriver driver) {
+        idle.add(driver);
+        if (closed && idle.remove(driver)) {
+            discard(driver);
+        }
+    }
+
+    /**
+     * Quits all idle sessions. Sessions still leased are quit when they are released, threads waiting in
+     * {@link #lease()} fail with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        WebDriver driver;
+        while ((driver = idle.poll()) != null) {
+            discard(driver);
+        }
+    }
+
+    /**
+     * Cleans up a session before it is leased again. Can be overridden to reset additional browser state.
+     *
+     * @param driver {@link WebDriver} being released
+     */
+    protected void reset(WebDriver driver) {
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            } catch (WebDriverException e) {
+                LOGGER.debug("Unable to clear storage of {}: {}", driver, e.getMessage());
+            }
+        }
+        driver.manage().deleteAllCookies();
+        driver.get("about:blank");
+    }
+
+    private boolean reserveSession() {
+        int current;
+        do {
+            current = sessions.get();
+            if (current >= maxSessions) {
+                return false;
+            }
+        } while (!sessions.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void recordLease(WebDriver driver, long waitNanos) {
+        leased.add(driver);
+        leases.incrementAndGet();
+        if (!used.add(driver)) {
+            reuses.incrementAndGet();
+        }
+        leaseWaitNanos.addAndGet(waitNanos);
+        long max;
+        do {
+            max = maxLeaseWaitNanos.get();
+        } while (waitNanos > max && !maxLeaseWaitNanos.compareAndSet(max, waitNanos));
+    }
+
+    private void discard(WebDriver driver) {
+        used.remove(driver);
+        sessions.decrementAndGet();
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            LOGGER.warn("Failed to quit WebDriver session", e);
+        }
+    }
+
+    /**
+     * @return maximum number of sessions alive at the same time
+     */
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * @return number of sessions currently alive, both idle and leased
+     */
+    public int getSessionCount() {
+        return sessions.get();
+    }
+
+    /**
+     * @return number of sessions waiting to be leased
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * @return total number of leases
+     */
+    public long getLeaseCount() {
+        return leases.get();
+    }
+
+    /**
+     * @return number of leases served by a session that was used before
+     */
+    public long getReuseCount() {
+        return reuses.get();
+    }
+
+    /**
+     * @return total time spent in {@link #lease()}, including launching sessions on demand, in milliseconds
+     */
+    public long getTotalLeaseWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.get());
+    }
+
+    /**
+     * @return longest single wait in {@link #lease()} in milliseconds
+     */
+    public long getMaxLeaseWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "DriverPool{sessions=" + sessions.get() + "/" + maxSessions + ", idle=" + idle.size() +
+                ", leases=" + leases.get() + ", reuses=" + reuses.get() +
+                ", leaseWait=" + getTotalLeaseWaitMillis() + "ms, maxLeaseWait=" + getMaxLeaseWaitMillis() + "ms}";
+    }
+}
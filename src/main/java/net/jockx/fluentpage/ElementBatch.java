@@ -0,0 +1,294 @@
+package net.jockx.fluentpage;
+
+import net.thucydides.core.pages.WebElementFacade;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Element state assertions verified together, obtained from {@link Assertion#batch()}:
+ * <pre>
+ * page.assertion.batch()
+ *     .visible(query, search)
+ *     .enabled(search)
+ *     .notPresent(error)
+ *     .verify("Search form is not ready");
+ * </pre>
+ * States of elements held by fields of the asserting page are resolved with a single script execution,
+ * repeated until every expectation holds or the page's wait timeout passes. Other elements are checked one
+ * by one, like {@link Assertion#assertVisible(WebElementFacade, String)} does. Every failing element is
+ * reported in a single AssertionError. In {@link Assertion#soft()} mode the batch is only verified by
+ * {@link Assertion#assertAll()}, together with other element checks of the page.
+ * @param <T> actual subclass of {@link Page}
+ */
+@SuppressWarnings("unused")
+public class ElementBatch<T extends Page<T>> {
+
+    private static final long POLLING_INTERVAL = 100;
+
+    private final T page;
+    private final List<Check> checks = new ArrayList<>();
+
+    ElementBatch(T page) {
+        this.page = page;
+    }
+
+    /**
+     * @param elements elements expected to be visible
+     * @return this batch
+     */
+    public ElementBatch<T> visible(WebElementFacade... elements) {
+        return add(ElementStates.VISIBLE, true, elements);
+    }
+
+    /**
+     * @param elements elements expected not to be visible
+     * @return this batch
+     */
+    public ElementBatch<T> notVisible(WebElementFacade... elements) {
+        return add(ElementStates.VISIBLE, false, elements);
+    }
+
+    /**
+     * @param elements elements expected to be enabled
+     * @return this batch
+     */
+    public ElementBatch<T> enabled(WebElementFacade... elements) {
+        return add(ElementStates.ENABLED, true, elements);
+    }
+
+    /**
+     * @param elements elements expected not to be enabled
+     * @return this batch
+     */
+    public ElementBatch<T> notEnabled(WebElementFacade... elements) {
+        return add(ElementStates.ENABLED, false, elements);
+    }
+
+    /**
+     * @param elements elements expected to be present
+     * @return this batch
+     */
+    public ElementBatch<T> present(WebElementFacade... elements) {
+        return add(ElementStates.PRESENT, true, elements);
+    }
+
+    /**
+     * @param elements elements expected not to be present
+     * @return this batch
+     */
+    public ElementBatch<T> notPresent(WebElementFacade... elements) {
+        return add(ElementStates.PRESENT, false, elements);
+    }
+
+    private ElementBatch<T> add(int state, boolean expected, WebElementFacade... elements) {
+        return add(0, state, expected, elements);
+    }
+
+    /**
+     * Adds checks reported in given slot of {@link #resolve(StringBuilder[])}
+     */
+    ElementBatch<T> add(int slot, int state, boolean expected, WebElementFacade... elements) {
+        for (WebElementFacade element : elements) {
+            checks.add(new Check(element, state, expected, slot));
+        }
+        return this;
+    }
+
+    /**
+     * Adds checks of another batch, all reported in given slot of {@link #resolve(StringBuilder[])}
+     */
+    void addAll(int slot, ElementBatch<?> batch) {
+        for (Check check : batch.checks) {
+            checks.add(new Check(check.element, check.state, check.expected, slot));
+        }
+    }
+
+    T getPage() {
+        return page;
+    }
+
+    /**
+     * Verifies all expectations of this batch
+     *
+     * @param message the assertion error message
+     * @return calling {@link Page}
+     */
+    public T verify(String message) {
+        return verify(message, null);
+    }
+
+    /**
+     * Verifies all expectations of this batch
+     *
+     * @param message supplier of the assertion error message, called only on failure
+     * @return calling {@link Page}
+     */
+    public T verify(MessageSupplier message) {
+        return verify(null, message);
+    }
+
+    private T verify(String message, MessageSupplier supplier) {
+        SoftAssertions soft = Page.softAssertions();
+        if (soft != null) {
+            soft.batchOf(page).addAll(soft.defer(message, supplier), this);
+            return page;
+        }
+        long start = PageListeners.start(PageListener.Kind.ASSERTION, page.getClass(), "verify");
+        try {
+            String failures = check();
+            if (failures != null) {
+                Assert.fail((supplier != null ? supplier.get() : message) + ": expected " + failures);
+            }
+        } catch (RuntimeException | Error e) {
+            PageListeners.end(PageListener.Kind.ASSERTION, page.getClass(), "verify", start, e);
+            throw e;
+        }
+        PageListeners.end(PageListener.Kind.ASSERTION, page.getClass(), "verify", start, null);
+        return page;
+    }
+
+    /**
+     * @return description of unmet expectations, or {@code null} if all are met
+     */
+    private String check() {
+        StringBuilder[] unmet = new StringBuilder[1];
+        resolve(unmet);
+        return unmet[0] == null ? null : unmet[0].toString();
+    }
+
+    /**
+     * Resolves states of all checked elements, appending descriptions of unmet expectations to the builder
+     * of their slot, created when missing
+     *
+     * @param unmet builders indexed by slots of checks
+     */
+    void resolve(StringBuilder[] unmet) {
+        List<List<String>> locators = locate();
+        int[] states = null;
+        if (!locators.isEmpty()) {
+            long deadline = System.currentTimeMillis() + page.waitForTimeoutInMilliseconds();
+            states = ElementStates.query(page.getDriver(), locators);
+            while (states != null && !allMet(states) && System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(POLLING_INTERVAL);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                states = ElementStates.query(page.getDriver(), locators);
+            }
+        }
+        for (Check check : checks) {
+            boolean actual = check.index >= 0 && states != null
+                    ? (states[check.index] & check.state) != 0 : check.resolve(page);
+            if (actual != check.expected) {
+                StringBuilder description = unmet[check.slot];
+                if (description == null) {
+                    unmet[check.slot] = new StringBuilder().append(check);
+                } else {
+                    description.append(", ").append(check);
+                }
+            }
+        }
+    }
+
+    /**
+     * Names checked elements and assigns script locators to those held by fields of the page
+     *
+     * @return distinct locators to evaluate, indexed by {@link Check#index}
+     */
+    private List<List<String>> locate() {
+        List<List<String>> locators = new ArrayList<>();
+        Map<WebElementFacade, Check> located = new IdentityHashMap<>();
+        for (int i = 0; i < checks.size(); i++) {
+            Check check = checks.get(i);
+            Check previous = located.get(check.element);
+            if (previous != null) {
+                check.name = previous.name;
+                check.index = previous.index;
+                continue;
+            }
+            Field field = ElementStates.fieldHolding(page, check.element);
+            List<String> locator = field == null ? null : ElementStates.locatorOf(page, field);
+            check.name = field == null
+                    ? "element " + (i + 1) : page.getClass().getSimpleName() + "." + field.getName();
+            if (locator != null) {
+                check.index = locators.size();
+                locators.add(locator);
+            }
+            located.put(check.element, check);
+        }
+        return locators;
+    }
+
+    private boolean allMet(int[] states) {
+        for (Check check : checks) {
+            if (check.index >= 0 && ((states[check.index] & check.state) != 0) != check.expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Check {
+        private final WebElementFacade element;
+        private final int state;
+        private final boolean expected;
+        private final int slot;
+        private String name;
+        private int index = -1;
+
+        private Check(WebElementFacade element, int state, boolean expected, int slot) {
+            this.element = element;
+            this.state = state;
+            this.expected = expected;
+            this.slot = slot;
+        }
+
+        /**
+         * Resolves the state with the element itself, when it can't be part of the script
+         */
+        private boolean resolve(Page<?> page) {
+            AbsenceChecks checks = Page.getAbsenceChecks();
+            try {
+                if (checks != null && !expected && state != ElementStates.ENABLED) {
+                    return state == ElementStates.PRESENT
+                            ? checks.isPresent(page, element) : checks.isVisible(page, element);
+                }
+                switch (state) {
+                    case ElementStates.PRESENT:
+                        return element.isPresent();
+                    case ElementStates.VISIBLE:
+                        return element.isVisible();
+                    default:
+                        return element.isEnabled();
+                }
+            } catch (WebDriverException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            String description;
+            switch (state) {
+                case ElementStates.PRESENT:
+                    description = "present";
+                    break;
+                case ElementStates.VISIBLE:
+                    description = "visible";
+                    break;
+                default:
+                    description = "enabled";
+                    break;
+            }
+            return "[" + name + "] " + (expected ? "to be " : "not to be ") + description;
+        }
+    }
+}
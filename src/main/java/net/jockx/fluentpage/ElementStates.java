@@ -0,0 +1,161 @@
+package net.jockx.fluentpage;
+
+import net.thucydides.core.pages.WebElementFacade;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resolves presence, visibility and enabled state of many elements with a single script execution.
+ * Elements are located in the browser by the locators of the {@link Page} fields holding them.
+ */
+final class ElementStates {
+
+    static final int PRESENT = 1;
+    static final int VISIBLE = 2;
+    static final int ENABLED = 4;
+
+    /**
+     * Script functions locating an element by a {@code [strategy, value]} locator and computing its state bit mask
+     */
+    static final String FUNCTIONS = "function find(strategy, value) {\n"
+            + "  switch (strategy) {\n"
+            + "    case 'id': return document.getElementById(value);\n"
+            + "    case 'name': return document.getElementsByName(value)[0];\n"
+            + "    case 'idOrName': return document.getElementById(value) || document.getElementsByName(value)[0];\n"
+            + "    case 'class': return document.getElementsByClassName(value)[0];\n"
+            + "    case 'tag': return document.getElementsByTagName(value)[0];\n"
+            + "    case 'css': return document.querySelector(value);\n"
+            + "    case 'xpath': return document.evaluate(value, document, null, 9, null).singleNodeValue;\n"
+            + "  }\n"
+            + "  var links = document.getElementsByTagName('a');\n"
+            + "  for (var i = 0; i < links.length; i++) {\n"
+            + "    var text = (links[i].innerText || links[i].textContent || '').trim();\n"
+            + "    if (strategy === 'link' ? text === value : text.indexOf(value) >= 0) return links[i];\n"
+            + "  }\n"
+            + "  return null;\n"
+            + "}\n"
+            + "function state(element) {\n"
+            + "  if (!element) return 0;\n"
+            + "  var style = window.getComputedStyle(element), mask = " + PRESENT + ";\n"
+            + "  if (style.display !== 'none' && style.visibility !== 'hidden'\n"
+            + "      && (element.offsetWidth || element.offsetHeight || element.getClientRects().length)) {\n"
+            + "    mask |= " + VISIBLE + ";\n"
+            + "  }\n"
+            + "  if (!element.disabled) mask |= " + ENABLED + ";\n"
+            + "  return mask;\n"
+            + "}\n";
+
+    /**
+     * Takes a list of {@code [strategy, value]} locators and returns a list of state bit masks, in the same order
+     */
+    static final String SCRIPT = "/* fluent-page element states */\n"
+            + FUNCTIONS
+            + "var locators = arguments[0], states = [];\n"
+            + "for (var i = 0; i < locators.length; i++) {\n"
+            + "  var element = null;\n"
+            + "  try { element = find(locators[i][0], locators[i][1]); } catch (e) {}\n"
+            + "  states.push(state(element));\n"
+            + "}\n"
+            + "return states;";
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(ElementStates.class);
+    private static final String[][] STRATEGIES = {
+            {"By.id: ", "id"},
+            {"By.name: ", "name"},
+            {"By.className: ", "class"},
+            {"By.tagName: ", "tag"},
+            {"By.selector: ", "css"},
+            {"By.cssSelector: ", "css"},
+            {"By.xpath: ", "xpath"},
+            {"By.linkText: ", "link"},
+            {"By.partialLinkText: ", "partialLink"}};
+    private static final String ID_OR_NAME = "by id or name \"";
+
+    private ElementStates() {
+    }
+
+    /**
+     * @param page    page to search
+     * @param element element to look for
+     * @return field of {@code page} holding {@code element}, or {@code null} if there is none
+     */
+    static Field fieldHolding(Page<?> page, WebElementFacade element) {
+        for (Field field : PageMetadata.forClass(page.getClass()).getLocators().keySet()) {
+            try {
+                if (field.get(page) == element) {
+                    return field;
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Failed to read " + field, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param page  page declaring the field
+     * @param field field returned by {@link #fieldHolding(Page, WebElementFacade)}
+     * @return {@code [strategy, value]} locator for {@link #SCRIPT}, or {@code null} if the script can't
+     * evaluate the locator of {@code field}
+     */
+    static List<String> locatorOf(Page<?> page, Field field) {
+        return toLocator(PageMetadata.forClass(page.getClass()).getLocators().get(field));
+    }
+
+    /**
+     * Selenium doesn't expose {@link By} internals, its descriptions are stable though
+     *
+     * @param by locator to convert
+     * @return {@code [strategy, value]} locator for {@link #SCRIPT}, or {@code null} if the script can't evaluate it
+     */
+    static List<String> toLocator(By by) {
+        String description = by.toString();
+        for (String[] strategy : STRATEGIES) {
+            if (description.startsWith(strategy[0])) {
+                return Arrays.asList(strategy[1], description.substring(strategy[0].length()));
+            }
+        }
+        if (description.startsWith(ID_OR_NAME) && description.endsWith("\"")) {
+            return Arrays.asList("idOrName", description.substring(ID_OR_NAME.length(), description.length() - 1));
+        }
+        return null;
+    }
+
+    /**
+     * @param driver   driver to execute the script with
+     * @param locators locators returned by {@link #locatorOf(Page, Field)}
+     * @return state bit masks in the order of {@code locators}, or {@code null} if the driver can't execute
+     * the script
+     */
+    static int[] query(WebDriver driver, List<List<String>> locators) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeScript(SCRIPT, locators);
+        } catch (WebDriverException e) {
+            LOGGER.debug("Unable to resolve element states with a script: {}", e.toString());
+            return null;
+        }
+        if (!(result instanceof List) || ((List<?>) result).size() != locators.size()) {
+            return null;
+        }
+        List<?> values = (List<?>) result;
+        int[] states = new int[values.size()];
+        for (int i = 0; i < states.length; i++) {
+            if (!(values.get(i) instanceof Number)) {
+                return null;
+            }
+            states[i] = ((Number) values.get(i)).intValue();
+        }
+        return states;
+    }
+}
@@ -0,0 +1,266 @@
+package net.jockx.fluentpage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton finding a set of fragments in a single pass over a text, behind
+ * {@link Assertion#assertContainsAll(String, String, String...)} and
+ * {@link Assertion#assertContainsNone(String, String, String...)}. Building it costs about as much as a scan of the
+ * fragments, so automata of recently used fragment sets are cached, up to about 16 MB in total.
+ */
+final class FragmentMatcher {
+
+    /**
+     * Approximate bytes of automata kept in the cache, dense transition tables included
+     */
+    private static final long CACHE_BYTES = 16L << 20;
+    /**
+     * Approximate bytes of a state besides its dense transition table row
+     */
+    private static final int STATE_BYTES = 64;
+    private static final int ASCII = 128;
+    /**
+     * Largest number of states getting a full ASCII transition table, of 512 bytes per state
+     */
+    private static final int MAX_TABLE_STATES = 1 << 13;
+    private static final int[] NONE = new int[0];
+    private static final LruCache<List<String>, FragmentMatcher> cache = new LruCache<>(CACHE_BYTES,
+            new LruCache.Weigher<FragmentMatcher>() {
+                @Override
+                public long weigh(FragmentMatcher matcher) {
+                    return matcher.footprint();
+                }
+            });
+
+    private final String[] fragments;
+    /**
+     * Next state of every state for every ASCII character, failure links already followed, so most steps of a scan
+     * over page source are a single lookup. Only the root's row is kept for automata of many states.
+     */
+    private final int[] ascii;
+    /**
+     * Characters leaving each state, sorted, and the states they lead to
+     */
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    /**
+     * Fragments ending in each state, including those ending in states its failure links lead to
+     */
+    private final int[][] outputs;
+
+    private FragmentMatcher(String[] fragments) {
+        this.fragments = fragments;
+        List<StringBuilder> stateLabels = new ArrayList<>();
+        List<List<Integer>> stateTargets = new ArrayList<>();
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        newState(stateLabels, stateTargets, stateOutputs);
+        for (int i = 0; i < fragments.length; i++) {
+            int state = 0;
+            for (int c = 0; c < fragments[i].length(); c++) {
+                char character = fragments[i].charAt(c);
+                int label = stateLabels.get(state).indexOf(String.valueOf(character));
+                if (label >= 0) {
+                    state = stateTargets.get(state).get(label);
+                } else {
+                    int next = newState(stateLabels, stateTargets, stateOutputs);
+                    stateLabels.get(state).append(character);
+                    stateTargets.get(state).add(next);
+                    state = next;
+                }
+            }
+            stateOutputs.get(state).add(i);
+        }
+        int count = stateLabels.size();
+        labels = new char[count][];
+        targets = new int[count][];
+        fail = new int[count];
+        outputs = new int[count][];
+        for (int state = 0; state < count; state++) {
+            sortTransitions(state, stateLabels.get(state), stateTargets.get(state));
+        }
+        ascii = new int[(count <= MAX_TABLE_STATES ? count : 1) * ASCII];
+        for (int c = 0; c < ASCII; c++) {
+            ascii[c] = Math.max(0, transition(0, (char) c));
+        }
+        outputs[0] = toArray(stateOutputs.get(0), NONE);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            outputs[state] = toArray(stateOutputs.get(state), outputs[fail[state]]);
+            if (ascii.length > ASCII) {
+                for (int c = 0; c < ASCII; c++) {
+                    int next = transition(state, (char) c);
+                    ascii[state * ASCII + c] = next >= 0 ? next : ascii[fail[state] * ASCII + c];
+                }
+            }
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                fail[child] = next(fail[state], labels[state][i]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @param fragments fragments to find, not {@code null}
+     * @return automaton finding the fragments, shared with earlier calls for the same fragments
+     */
+    static FragmentMatcher of(String... fragments) {
+        for (String fragment : fragments) {
+            if (fragment == null) {
+                throw new IllegalArgumentException("Fragments must not be null");
+            }
+        }
+        String[] copy = fragments.clone();
+        List<String> key = Arrays.asList(copy);
+        FragmentMatcher matcher = cache.get(key);
+        if (matcher == null) {
+            matcher = new FragmentMatcher(copy);
+            cache.put(key, matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * Scans the text once, stopping as soon as every fragment was found
+     *
+     * @param text text to search in
+     * @return index of the first occurrence of each fragment in the text, -1 for fragments not found
+     */
+    int[] find(String text) {
+        int[] found = new int[fragments.length];
+        Arrays.fill(found, -1);
+        int missing = fragments.length;
+        missing -= record(found, outputs[0], 0);
+        int[] table = ascii;
+        boolean dense = table.length > ASCII;
+        int length = text.length();
+        int state = 0;
+        for (int i = 0; i < length && missing > 0; i++) {
+            char character = text.charAt(i);
+            state = character < ASCII && (dense || state == 0) ? table[state * ASCII + character]
+                    : next(state, character);
+            int[] ending = outputs[state];
+            if (ending.length > 0) {
+                missing -= record(found, ending, i + 1);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return approximate bytes held by this automaton
+     */
+    long footprint() {
+        long bytes = ascii.length * 4L + labels.length * (long) STATE_BYTES;
+        for (String fragment : fragments) {
+            bytes += fragment.length() * 2L;
+        }
+        return bytes;
+    }
+
+    /**
+     * @param found  result of {@link #find(String)}
+     * @param inText whether to list fragments found in the text, with their positions, or those missing from it
+     * @return listed fragments, or {@code null} if there are none
+     */
+    String describe(int[] found, boolean inText) {
+        StringBuilder description = null;
+        for (int i = 0; i < fragments.length; i++) {
+            if (found[i] >= 0 != inText) {
+                continue;
+            }
+            description = description == null ? new StringBuilder() : description.append(", ");
+            description.append('[').append(fragments[i]).append(']');
+            if (inText) {
+                description.append(" at ").append(found[i]);
+            }
+        }
+        return description == null ? null : description.toString();
+    }
+
+    private int record(int[] found, int[] ending, int end) {
+        int recorded = 0;
+        for (int fragment : ending) {
+            if (found[fragment] < 0) {
+                found[fragment] = end - fragments[fragment].length();
+                recorded++;
+            }
+        }
+        return recorded;
+    }
+
+    /**
+     * @return state reached from given one by a character, following failure links
+     */
+    private int next(int state, char character) {
+        if (character < ASCII && (state == 0 || ascii.length > ASCII)) {
+            return ascii[state * ASCII + character];
+        }
+        while (true) {
+            if (state == 0) {
+                return character < ASCII ? ascii[character] : Math.max(0, transition(0, character));
+            }
+            int next = transition(state, character);
+            if (next >= 0) {
+                return next;
+            }
+            state = fail[state];
+        }
+    }
+
+    /**
+     * @return state reached from given one by the character, -1 if there is no such transition
+     */
+    private int transition(int state, char character) {
+        int label = Arrays.binarySearch(labels[state], character);
+        return label >= 0 ? targets[state][label] : -1;
+    }
+
+    private void sortTransitions(int state, StringBuilder stateLabels, List<Integer> stateTargets) {
+        Integer[] order = new Integer[stateLabels.length()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        final char[] unsorted = stateLabels.toString().toCharArray();
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer left, Integer right) {
+                return Character.compare(unsorted[left], unsorted[right]);
+            }
+        });
+        labels[state] = new char[order.length];
+        targets[state] = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            labels[state][i] = unsorted[order[i]];
+            targets[state][i] = stateTargets.get(order[i]);
+        }
+    }
+
+    private static int newState(List<StringBuilder> labels, List<List<Integer>> targets, List<List<Integer>> outputs) {
+        labels.add(new StringBuilder());
+        targets.add(new ArrayList<Integer>());
+        outputs.add(new ArrayList<Integer>());
+        return labels.size() - 1;
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+        for (int i = 0; i < own.size(); i++) {
+            merged[inherited.length + i] = own.get(i);
+        }
+        return merged;
+    }
+}
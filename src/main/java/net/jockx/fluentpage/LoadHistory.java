@@ -0,0 +1,185 @@
+package net.jockx.fluentpage;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Load times of {@link Page} subclasses, kept as exponentially weighted moving averages of the load time
+ * and of its deviation. Optionally persisted to a properties file, one {@code class=count mean deviation}
+ * entry per page.
+ */
+final class LoadHistory {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(LoadHistory.class);
+    private static final double WEIGHT = 0.2;
+    private static final String HEADER = "fluent-page load history: count, mean and mean deviation in milliseconds";
+
+    private final File file;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param file file to read the history from and save it to, or {@code null} to keep it in memory only
+     */
+    LoadHistory(File file) {
+        this.file = file;
+        if (file != null && file.isFile()) {
+            read();
+        }
+    }
+
+    /**
+     * @param page page class name
+     * @return learned load time statistics or {@code null} if the page was never recorded
+     */
+    Entry get(String page) {
+        return entries.get(page);
+    }
+
+    /**
+     * @param page   page class name
+     * @param millis time the page took to load
+     * @return statistics of the page before this load was recorded, or {@code null} if it is the first one
+     */
+    Entry record(String page, long millis) {
+        Entry entry = entries.get(page);
+        if (entry == null) {
+            Entry created = new Entry();
+            entry = entries.putIfAbsent(page, created);
+            if (entry == null) {
+                entry = created;
+            }
+        }
+        return entry.add(millis);
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * Writes the history to its file, replacing the previous content at once where the file system can move
+     * files atomically
+     */
+    void save() {
+        if (file == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            properties.setProperty(entry.getKey(), entry.getValue().toString());
+        }
+        File directory = file.getAbsoluteFile().getParentFile();
+        File temporary = null;
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Unable to create " + directory);
+            }
+            temporary = File.createTempFile(file.getName(), ".tmp", directory);
+            try (OutputStream out = new FileOutputStream(temporary)) {
+                properties.store(out, HEADER);
+            }
+            try {
+                Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to save load history to {}: {}", file, e.toString());
+        } finally {
+            if (temporary != null && temporary.exists() && !temporary.delete()) {
+                LOGGER.debug("Unable to delete {}", temporary);
+            }
+        }
+    }
+
+    private void read() {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read load history from {}: {}", file, e.toString());
+            return;
+        }
+        for (String page : properties.stringPropertyNames()) {
+            Entry entry = Entry.parse(properties.getProperty(page));
+            if (entry == null) {
+                LOGGER.debug("Ignoring malformed load history of {}", page);
+            } else {
+                entries.put(page, entry);
+            }
+        }
+    }
+
+    /**
+     * Load time statistics of a single page
+     */
+    static final class Entry {
+        private long count;
+        private double mean;
+        private double deviation;
+
+        private Entry() {
+        }
+
+        private Entry(long count, double mean, double deviation) {
+            this.count = count;
+            this.mean = mean;
+            this.deviation = deviation;
+        }
+
+        private static Entry parse(String value) {
+            String[] parts = value.trim().split("\\s+");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new Entry(Long.parseLong(parts[0]), Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private synchronized Entry add(long millis) {
+            Entry previous = count == 0 ? null : new Entry(count, mean, deviation);
+            if (count == 0) {
+                mean = millis;
+            } else {
+                deviation += WEIGHT * (Math.abs(millis - mean) - deviation);
+                mean += WEIGHT * (millis - mean);
+            }
+            count++;
+            return previous;
+        }
+
+        synchronized long getCount() {
+            return count;
+        }
+
+        synchronized long getMean() {
+            return Math.round(mean);
+        }
+
+        synchronized long getDeviation() {
+            return Math.round(deviation);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return count + " " + Math.round(mean) + " " + Math.round(deviation);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package net.jockx.fluentpage;
+
+import org.slf4j.Marker;
+
+/**
+ * Logging call held in a slot of the {@link AsyncLogging} ring buffer, replayed on the SLF4J logger by the overload
+ * it was made with. Slots are reused, so publishing an event allocates nothing.
+ */
+final class LogEvent {
+
+    static final int TRACE = 0;
+    static final int DEBUG = 1;
+    static final int INFO = 2;
+    static final int WARN = 3;
+    static final int ERROR = 4;
+
+    /**
+     * Message only
+     */
+    static final int MESSAGE = 0;
+    /**
+     * Format with a single argument
+     */
+    static final int ONE_ARG = 1;
+    /**
+     * Format with two arguments
+     */
+    static final int TWO_ARGS = 2;
+    /**
+     * Format with an argument array
+     */
+    static final int ARGUMENTS = 3;
+    /**
+     * Message with a {@link Throwable}
+     */
+    static final int THROWABLE = 4;
+    /**
+     * Format with a single integral argument, boxed when written
+     */
+    static final int LONG_ARG = 5;
+    /**
+     * Format with a single floating point argument, boxed when written
+     */
+    static final int DOUBLE_ARG = 6;
+
+    /**
+     * Sequence number the event was published with, written last by the publishing thread
+     */
+    volatile long sequence = -1;
+
+    private org.slf4j.Logger logger;
+    private int level;
+    private int shape;
+    private Marker marker;
+    private String format;
+    private Object arg1;
+    private Object arg2;
+    private Object[] arguments;
+    private Throwable throwable;
+    private long longArg;
+    private double doubleArg;
+
+    static boolean isEnabled(org.slf4j.Logger logger, int level, Marker marker) {
+        switch (level) {
+            case TRACE:
+                return marker == null ? logger.isTraceEnabled() : logger.isTraceEnabled(marker);
+            case DEBUG:
+                return marker == null ? logger.isDebugEnabled() : logger.isDebugEnabled(marker);
+            case INFO:
+                return marker == null ? logger.isInfoEnabled() : logger.isInfoEnabled(marker);
+            case WARN:
+                return marker == null ? logger.isWarnEnabled() : logger.isWarnEnabled(marker);
+            case ERROR:
+                return marker == null ? logger.isErrorEnabled() : logger.isErrorEnabled(marker);
+            default:
+                throw new IllegalArgumentException("Unknown level " + level);
+        }
+    }
+
+    void set(org.slf4j.Logger logger, int level, int shape, Marker marker, String format, Object arg1, Object arg2,
+             Object[] arguments, Throwable throwable) {
+        this.logger = logger;
+        this.level = level;
+        this.shape = shape;
+        this.marker = marker;
+        this.format = format;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        this.arguments = arguments;
+        this.throwable = throwable;
+    }
+
+    void set(org.slf4j.Logger logger, int level, int shape, String format, long longArg, double doubleArg) {
+        set(logger, level, shape, null, format, null, null, null, null);
+        this.longArg = longArg;
+        this.doubleArg = doubleArg;
+    }
+
+    /**
+     * Passes the event to its logger and drops references to its arguments
+     */
+    void write() {
+        try {
+            switch (level) {
+                case TRACE:
+                    trace();
+                    break;
+                case DEBUG:
+                    debug();
+                    break;
+                case INFO:
+                    info();
+                    break;
+                case WARN:
+                    warn();
+                    break;
+                case ERROR:
+                    error();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown level " + level);
+            }
+        } finally {
+            set(null, 0, 0, null, null, null, null, null, null);
+        }
+    }
+
+    private void trace() {
+        switch (shape) {
+            case MESSAGE:
+                if (marker == null) {
+                    logger.trace(format);
+                } else {
+                    logger.trace(marker, format);
+                }
+                break;
+            case ONE_ARG:
+                if (marker == null) {
+                    logger.trace(format, arg1);
+                } else {
+                    logger.trace(marker, format, arg1);
+                }
+                break;
+            case TWO_ARGS:
+                if (marker == null) {
+                    logger.trace(format, arg1, arg2);
+                } else {
+                    logger.trace(marker, format, arg1, arg2);
+                }
+                break;
+            case ARGUMENTS:
+                if (marker == null) {
+                    logger.trace(format, arguments);
+                } else {
+                    logger.trace(marker, format, arguments);
+                }
+                break;
+            case THROWABLE:
+                if (marker == null) {
+                    logger.trace(format, throwable);
+                } else {
+                    logger.trace(marker, format, throwable);
+                }
+                break;
+            case LONG_ARG:
+                logger.trace(format, longArg);
+                break;
+            case DOUBLE_ARG:
+                logger.trace(format, doubleArg);
+                break;
+            default:
+                throw new IllegalStateException("Unknown event shape " + shape);
+        }
+    }
+
+    private void debug() {
+        switch (shape) {
+            case MESSAGE:
+                if (marker == null) {
+                    logger.debug(format);
+                } else {
+                    logger.debug(marker, format);
+                }
+                break;
+            case ONE_ARG:
+                if (marker == null) {
+                    logger.debug(format, arg1);
+                } else {
+                    logger.debug(marker, format, arg1);
+                }
+                break;
+            case TWO_ARGS:
+                if (marker == null) {
+                    logger.debug(format, arg1, arg2);
+                } else {
+                    logger.debug(marker, format, arg1, arg2);
+                }
+                break;
+            case ARGUMENTS:
+                if (marker == null) {
+                    logger.debug(format, arguments);
+                } else {
+                    logger.debug(marker, format, arguments);
+                }
+                break;
+            case THROWABLE:
+                if (marker == null) {
+                    logger.debug(format, throwable);
+                } else {
+                    logger.debug(marker, format, throwable);
+                }
+                break;
+            case LONG_ARG:
+                logger.debug(format, longArg);
+                break;
+            case DOUBLE_ARG:
+                logger.debug(format, doubleArg);
+                break;
+            default:
+                throw new IllegalStateException("Unknown event shape " + shape);
+        }
+    }
+
+    private void info() {
+        switch (shape) {
+            case MESSAGE:
+                if (marker == null) {
+                    logger.info(format);
+                } else {
+                    logger.info(marker, format);
+                }
+                break;
+            case ONE_ARG:
+                if (marker == null) {
+                    logger.info(format, arg1);
+                } else {
+                    logger.info(marker, format, arg1);
+                }
+                break;
+            case TWO_ARGS:
+                if (marker == null) {
+                    logger.info(format, arg1, arg2);
+                } else {
+                    logger.info(marker, format, arg1, arg2);
+                }
+                break;
+            case ARGUMENTS:
+                if (marker == null) {
+                    logger.info(format, arguments);
+                } else {
+                    logger.info(marker, format, arguments);
+                }
+                break;
+            case THROWABLE:
+                if (marker == null) {
+                    logger.info(format, throwable);
+                } else {
+                    logger.info(marker, format, throwable);
+                }
+                break;
+            case LONG_ARG:
+                logger.info(format, longArg);
+                break;
+            case DOUBLE_ARG:
+                logger.info(format, doubleArg);
+                break;
+            default:
+                throw new IllegalStateException("Unknown event shape " + shape);
+        }
+    }
+
+    private void warn() {
+        switch (shape) {
+            case MESSAGE:
+                if (marker == null) {
+                    logger.warn(format);
+                } else {
+                    logger.warn(marker, format);
+                }
+                break;
+            case ONE_ARG:
+                if (marker == null) {
+                    logger.warn(format, arg1);
+                } else {
+                    logger.warn(marker, format, arg1);
+                }
+                break;
+            case TWO_ARGS:
+                if (marker == null) {
+                    logger.warn(format, arg1, arg2);
+                } else {
+                    logger.warn(marker, format, arg1, arg2);
+                }
+                break;
+            case ARGUMENTS:
+                if (marker == null) {
+                    logger.warn(format, arguments);
+                } else {
+                    logger.warn(marker, format, arguments);
+                }
+                break;
+            case THROWABLE:
+                if (marker == null) {
+                    logger.warn(format, throwable);
+                } else {
+                    logger.warn(marker, format, throwable);
+                }
+                break;
+            case LONG_ARG:
+                logger.warn(format, longArg);
+                break;
+            case DOUBLE_ARG:
+                logger.warn(format, doubleArg);
+                break;
+            default:
+                throw new IllegalStateException("Unknown event shape " + shape);
+        }
+    }
+
+    private void error() {
+        switch (shape) {
+            case MESSAGE:
+                if (marker == null) {
+                    logger.error(format);
+                } else {
+                    logger.error(marker, format);
+                }
+                break;
+            case ONE_ARG:
+                if (marker == null) {
+                    logger.error(format, arg1);
+                } else {
+                    logger.error(marker, format, arg1);
+                }
+                break;
+            case TWO_ARGS:
+                if (marker == null) {
+                    logger.error(format, arg1, arg2);
+                } else {
+                    logger.error(marker, format, arg1, arg2);
+                }
+                break;
+            case ARGUMENTS:
+                if (marker == null) {
+                    logger.error(format, arguments);
+                } else {
+                    logger.error(marker, format, arguments);
+                }
+                break;
+            case THROWABLE:
+                if (marker == null) {
+                    logger.error(format, throwable);
+                } else {
+                    logger.error(marker, format, throwable);
+                }
+                break;
+            case LONG_ARG:
+                logger.error(format, longArg);
+                break;
+            case DOUBLE_ARG:
+                logger.error(format, doubleArg);
+                break;
+            default:
+                throw new IllegalStateException("Unknown event shape " + shape);
+        }
+    }
+}
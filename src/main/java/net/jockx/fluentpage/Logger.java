@@ -4,19 +4,81 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 
 /**
- * Logger available from within PageObject chained calls
+ * Logger available from within PageObject chained calls. Calls are written by a background thread while
+ * {@link AsyncLogging} is in use, see {@link Page#useAsyncLogging(AsyncLogging)}.
  * @param <T> actual subclass of {@link Page}
  */
 @SuppressWarnings("unused")
 public class Logger<T extends Page<T>> {
 
+    private static final ClassValue<org.slf4j.Logger> loggers = new ClassValue<org.slf4j.Logger>() {
+        @Override
+        protected org.slf4j.Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
     private final T page;
 
     private final org.slf4j.Logger logger;
 
     Logger(T pageObject) {
         this.page = pageObject;
-        this.logger = LoggerFactory.getLogger(page.getClass());
+        this.logger = loggers.get(page.getClass());
+    }
+
+    /**
+     * Publishes a logging call to {@link AsyncLogging}, if it is in use
+     *
+     * @return {@code false} if the call has to be written synchronously
+     */
+    private boolean queued(int level, int shape, Marker marker, String format, Object arg1, Object arg2,
+                           Object[] arguments, Throwable t) {
+        AsyncLogging async = Page.getAsyncLogging();
+        return async != null && async.publish(logger, level, shape, marker, format, arg1, arg2, arguments, t);
+    }
+
+    /**
+     * Publishes a logging call with a primitive argument to {@link AsyncLogging}, if it is in use
+     *
+     * @return {@code false} if the call has to be written synchronously
+     */
+    private boolean queued(int level, int shape, String format, long longArg, double doubleArg) {
+        AsyncLogging async = Page.getAsyncLogging();
+        return async != null && async.publish(logger, level, shape, format, longArg, doubleArg);
+    }
+
+    /**
+     * Reports start of a logging call to {@link PageListener}s, unless the level is disabled
+     */
+    private long started(String level) {
+        if (!isEnabled(level)) {
+            return PageListeners.NOT_STARTED;
+        }
+        return PageListeners.start(PageListener.Kind.LOG, page.getClass(), level);
+    }
+
+    private boolean isEnabled(String level) {
+        switch (level) {
+            case "trace":
+                return logger.isTraceEnabled();
+            case "debug":
+                return logger.isDebugEnabled();
+            case "info":
+                return logger.isInfoEnabled();
+            case "warn":
+                return logger.isWarnEnabled();
+            default:
+                return logger.isErrorEnabled();
+        }
+    }
+
+    /**
+     * Reports a logging call to {@link PageListener}s
+     */
+    private T logged(String level, long start) {
+        PageListeners.end(PageListener.Kind.LOG, page.getClass(), level, start, null);
+        return page;
     }
 
     /**
@@ -26,8 +88,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(String msg) {
-        logger.trace(msg);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+            logger.trace(msg);
+        }
+        return logged("trace", start);
     }
 
     /**
@@ -41,8 +106,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(String format, Object arg) {
-        logger.trace(format, arg);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.ONE_ARG, null, format, arg, null, null, null)) {
+            logger.trace(format, arg);
+        }
+        return logged("trace", start);
     }
 
     /**
@@ -57,8 +125,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(String format, Object arg1, Object arg2) {
-        logger.trace(format, arg1, arg2);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.TWO_ARGS, null, format, arg1, arg2, null, null)) {
+            logger.trace(format, arg1, arg2);
+        }
+        return logged("trace", start);
     }
 
     /**
@@ -75,8 +146,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(String format, Object... arguments) {
-        logger.trace(format, arguments);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.ARGUMENTS, null, format, null, null, arguments, null)) {
+            logger.trace(format, arguments);
+        }
+        return logged("trace", start);
     }
 
     /**
@@ -88,8 +162,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(String msg, Throwable t) {
-        logger.trace(msg, t);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+            logger.trace(msg, t);
+        }
+        return logged("trace", start);
     }
 
     /**
@@ -100,8 +177,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(Marker marker, String msg) {
-        logger.trace(marker, msg);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.MESSAGE, marker, msg, null, null, null, null)) {
+            logger.trace(marker, msg);
+        }
+        return logged("trace", start);
     }
 
     /**
@@ -114,8 +194,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(Marker marker, String format, Object arg) {
-        logger.trace(marker, format, arg);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.ONE_ARG, marker, format, arg, null, null, null)) {
+            logger.trace(marker, format, arg);
+        }
+        return logged("trace", start);
     }
 
     /**
@@ -130,8 +213,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(Marker marker, String format, Object arg1, Object arg2) {
-        logger.trace(marker, format, arg1, arg2);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.TWO_ARGS, marker, format, arg1, arg2, null, null)) {
+            logger.trace(marker, format, arg1, arg2);
+        }
+        return logged("trace", start);
     }
 
     /**
@@ -145,8 +231,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(Marker marker, String format, Object... argArray) {
-        logger.trace(marker, format, argArray);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.ARGUMENTS, marker, format, null, null, argArray, null)) {
+            logger.trace(marker, format, argArray);
+        }
+        return logged("trace", start);
     }
 
     /**
@@ -159,8 +248,143 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T trace(Marker marker, String msg, Throwable t) {
-        logger.trace(marker, msg, t);
-        return page;
+        long start = started("trace");
+        if (!queued(LogEvent.TRACE, LogEvent.THROWABLE, marker, msg, null, null, null, t)) {
+            logger.trace(marker, msg, t);
+        }
+        return logged("trace", start);
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and {@code int} argument, boxed only if the TRACE level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T trace(String format, int arg) {
+        return trace(format, (long) arg);
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and {@code long} argument, boxed only if the TRACE level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T trace(String format, long arg) {
+        long start = started("trace");
+        if (logger.isTraceEnabled() && !queued(LogEvent.TRACE, LogEvent.LONG_ARG, format, arg, 0)) {
+            logger.trace(format, arg);
+        }
+        return logged("trace", start);
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and {@code double} argument, boxed only if the TRACE level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T trace(String format, double arg) {
+        long start = started("trace");
+        if (logger.isTraceEnabled() && !queued(LogEvent.TRACE, LogEvent.DOUBLE_ARG, format, 0, arg)) {
+            logger.trace(format, arg);
+        }
+        return logged("trace", start);
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and {@code boolean} argument, without boxing it.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T trace(String format, boolean arg) {
+        return trace(format, Boolean.valueOf(arg));
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and {@code char} argument, boxed only if the TRACE level is enabled and logged as the character rather than
+     * its code.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T trace(String format, char arg) {
+        if (!logger.isTraceEnabled()) {
+            return page;
+        }
+        return trace(format, (Object) arg);
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and {@code float} argument, boxed only if the TRACE level is enabled and logged with {@code float} precision
+     * rather than widened to {@code double}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T trace(String format, float arg) {
+        if (!logger.isTraceEnabled()) {
+            return page;
+        }
+        return trace(format, (Object) arg);
+    }
+
+    /**
+     * Log a message built by the supplier at the TRACE level.
+     * The supplier is not called if the TRACE level is disabled.
+     *
+     * @param message supplier of the message string to be logged
+     * @return calling {@link Page}
+     */
+    public T trace(MessageSupplier message) {
+        long start = started("trace");
+        if (logger.isTraceEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.TRACE, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+                logger.trace(msg);
+            }
+        }
+        return logged("trace", start);
+    }
+
+    /**
+     * Log an exception (throwable) at the TRACE level with a message built by the supplier.
+     * The supplier is not called if the TRACE level is disabled.
+     *
+     * @param message supplier of the message accompanying the exception
+     * @param t       the exception (throwable) to log
+     * @return calling {@link Page}
+     */
+    public T trace(MessageSupplier message, Throwable t) {
+        long start = started("trace");
+        if (logger.isTraceEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.TRACE, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+                logger.trace(msg, t);
+            }
+        }
+        return logged("trace", start);
+    }
+
+    /**
+     * @return {@code true} if the logger of the page is enabled for the TRACE level
+     */
+    public boolean isTraceEnabled() {
+        return logger.isTraceEnabled();
     }
 
 
@@ -171,8 +395,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(String msg) {
-        logger.debug(msg);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+            logger.debug(msg);
+        }
+        return logged("debug", start);
     }
 
     /**
@@ -186,8 +413,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(String format, Object arg) {
-        logger.debug(format, arg);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.ONE_ARG, null, format, arg, null, null, null)) {
+            logger.debug(format, arg);
+        }
+        return logged("debug", start);
     }
 
     /**
@@ -202,8 +432,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(String format, Object arg1, Object arg2) {
-        logger.debug(format, arg1, arg2);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.TWO_ARGS, null, format, arg1, arg2, null, null)) {
+            logger.debug(format, arg1, arg2);
+        }
+        return logged("debug", start);
     }
 
     /**
@@ -221,8 +454,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(String format, Object... arguments) {
-        logger.debug(format, arguments);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.ARGUMENTS, null, format, null, null, arguments, null)) {
+            logger.debug(format, arguments);
+        }
+        return logged("debug", start);
     }
 
     /**
@@ -234,8 +470,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(String msg, Throwable t) {
-        logger.debug(msg, t);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+            logger.debug(msg, t);
+        }
+        return logged("debug", start);
     }
 
     /**
@@ -246,8 +485,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(Marker marker, String msg) {
-        logger.debug(marker, msg);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.MESSAGE, marker, msg, null, null, null, null)) {
+            logger.debug(marker, msg);
+        }
+        return logged("debug", start);
     }
 
     /**
@@ -260,8 +502,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(Marker marker, String format, Object arg) {
-        logger.debug(marker, format, arg);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.ONE_ARG, marker, format, arg, null, null, null)) {
+            logger.debug(marker, format, arg);
+        }
+        return logged("debug", start);
     }
 
     /**
@@ -276,8 +521,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(Marker marker, String format, Object arg1, Object arg2) {
-        logger.debug(marker, format, arg1, arg2);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.TWO_ARGS, marker, format, arg1, arg2, null, null)) {
+            logger.debug(marker, format, arg1, arg2);
+        }
+        return logged("debug", start);
     }
 
     /**
@@ -291,8 +539,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(Marker marker, String format, Object... arguments) {
-        logger.debug(marker, format, arguments);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.ARGUMENTS, marker, format, null, null, arguments, null)) {
+            logger.debug(marker, format, arguments);
+        }
+        return logged("debug", start);
     }
 
     /**
@@ -305,8 +556,143 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T debug(Marker marker, String msg, Throwable t) {
-        logger.debug(marker, msg, t);
-        return page;
+        long start = started("debug");
+        if (!queued(LogEvent.DEBUG, LogEvent.THROWABLE, marker, msg, null, null, null, t)) {
+            logger.debug(marker, msg, t);
+        }
+        return logged("debug", start);
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and {@code int} argument, boxed only if the DEBUG level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T debug(String format, int arg) {
+        return debug(format, (long) arg);
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and {@code long} argument, boxed only if the DEBUG level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T debug(String format, long arg) {
+        long start = started("debug");
+        if (logger.isDebugEnabled() && !queued(LogEvent.DEBUG, LogEvent.LONG_ARG, format, arg, 0)) {
+            logger.debug(format, arg);
+        }
+        return logged("debug", start);
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and {@code double} argument, boxed only if the DEBUG level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T debug(String format, double arg) {
+        long start = started("debug");
+        if (logger.isDebugEnabled() && !queued(LogEvent.DEBUG, LogEvent.DOUBLE_ARG, format, 0, arg)) {
+            logger.debug(format, arg);
+        }
+        return logged("debug", start);
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and {@code boolean} argument, without boxing it.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T debug(String format, boolean arg) {
+        return debug(format, Boolean.valueOf(arg));
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and {@code char} argument, boxed only if the DEBUG level is enabled and logged as the character rather than
+     * its code.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T debug(String format, char arg) {
+        if (!logger.isDebugEnabled()) {
+            return page;
+        }
+        return debug(format, (Object) arg);
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and {@code float} argument, boxed only if the DEBUG level is enabled and logged with {@code float} precision
+     * rather than widened to {@code double}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T debug(String format, float arg) {
+        if (!logger.isDebugEnabled()) {
+            return page;
+        }
+        return debug(format, (Object) arg);
+    }
+
+    /**
+     * Log a message built by the supplier at the DEBUG level.
+     * The supplier is not called if the DEBUG level is disabled.
+     *
+     * @param message supplier of the message string to be logged
+     * @return calling {@link Page}
+     */
+    public T debug(MessageSupplier message) {
+        long start = started("debug");
+        if (logger.isDebugEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.DEBUG, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+                logger.debug(msg);
+            }
+        }
+        return logged("debug", start);
+    }
+
+    /**
+     * Log an exception (throwable) at the DEBUG level with a message built by the supplier.
+     * The supplier is not called if the DEBUG level is disabled.
+     *
+     * @param message supplier of the message accompanying the exception
+     * @param t       the exception (throwable) to log
+     * @return calling {@link Page}
+     */
+    public T debug(MessageSupplier message, Throwable t) {
+        long start = started("debug");
+        if (logger.isDebugEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.DEBUG, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+                logger.debug(msg, t);
+            }
+        }
+        return logged("debug", start);
+    }
+
+    /**
+     * @return {@code true} if the logger of the page is enabled for the DEBUG level
+     */
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
     }
 
     /**
@@ -316,8 +702,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(String msg) {
-        logger.info(msg);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+            logger.info(msg);
+        }
+        return logged("info", start);
     }
 
     /**
@@ -331,8 +720,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(String format, Object arg) {
-        logger.info(format, arg);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.ONE_ARG, null, format, arg, null, null, null)) {
+            logger.info(format, arg);
+        }
+        return logged("info", start);
     }
 
 
@@ -348,8 +740,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(String format, Object arg1, Object arg2) {
-        logger.info(format, arg1, arg2);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.TWO_ARGS, null, format, arg1, arg2, null, null)) {
+            logger.info(format, arg1, arg2);
+        }
+        return logged("info", start);
     }
 
     /**
@@ -367,8 +762,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(String format, Object... arguments) {
-        logger.info(format, arguments);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.ARGUMENTS, null, format, null, null, arguments, null)) {
+            logger.info(format, arguments);
+        }
+        return logged("info", start);
     }
 
     /**
@@ -380,8 +778,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(String msg, Throwable t) {
-        logger.info(msg, t);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+            logger.info(msg, t);
+        }
+        return logged("info", start);
     }
 
     /**
@@ -392,8 +793,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(Marker marker, String msg) {
-        logger.info(marker, msg);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.MESSAGE, marker, msg, null, null, null, null)) {
+            logger.info(marker, msg);
+        }
+        return logged("info", start);
     }
 
     /**
@@ -406,8 +810,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(Marker marker, String format, Object arg) {
-        logger.info(marker, format, arg);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.ONE_ARG, marker, format, arg, null, null, null)) {
+            logger.info(marker, format, arg);
+        }
+        return logged("info", start);
     }
 
     /**
@@ -422,8 +829,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(Marker marker, String format, Object arg1, Object arg2) {
-        logger.info(marker, format, arg1, arg2);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.TWO_ARGS, marker, format, arg1, arg2, null, null)) {
+            logger.info(marker, format, arg1, arg2);
+        }
+        return logged("info", start);
     }
 
     /**
@@ -437,8 +847,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(Marker marker, String format, Object... arguments) {
-        logger.info(marker, format, arguments);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.ARGUMENTS, marker, format, null, null, arguments, null)) {
+            logger.info(marker, format, arguments);
+        }
+        return logged("info", start);
     }
 
     /**
@@ -451,8 +864,143 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T info(Marker marker, String msg, Throwable t) {
-        logger.info(marker, msg, t);
-        return page;
+        long start = started("info");
+        if (!queued(LogEvent.INFO, LogEvent.THROWABLE, marker, msg, null, null, null, t)) {
+            logger.info(marker, msg, t);
+        }
+        return logged("info", start);
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and {@code int} argument, boxed only if the INFO level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T info(String format, int arg) {
+        return info(format, (long) arg);
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and {@code long} argument, boxed only if the INFO level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T info(String format, long arg) {
+        long start = started("info");
+        if (logger.isInfoEnabled() && !queued(LogEvent.INFO, LogEvent.LONG_ARG, format, arg, 0)) {
+            logger.info(format, arg);
+        }
+        return logged("info", start);
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and {@code double} argument, boxed only if the INFO level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T info(String format, double arg) {
+        long start = started("info");
+        if (logger.isInfoEnabled() && !queued(LogEvent.INFO, LogEvent.DOUBLE_ARG, format, 0, arg)) {
+            logger.info(format, arg);
+        }
+        return logged("info", start);
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and {@code boolean} argument, without boxing it.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T info(String format, boolean arg) {
+        return info(format, Boolean.valueOf(arg));
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and {@code char} argument, boxed only if the INFO level is enabled and logged as the character rather than
+     * its code.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T info(String format, char arg) {
+        if (!logger.isInfoEnabled()) {
+            return page;
+        }
+        return info(format, (Object) arg);
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and {@code float} argument, boxed only if the INFO level is enabled and logged with {@code float} precision
+     * rather than widened to {@code double}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T info(String format, float arg) {
+        if (!logger.isInfoEnabled()) {
+            return page;
+        }
+        return info(format, (Object) arg);
+    }
+
+    /**
+     * Log a message built by the supplier at the INFO level.
+     * The supplier is not called if the INFO level is disabled.
+     *
+     * @param message supplier of the message string to be logged
+     * @return calling {@link Page}
+     */
+    public T info(MessageSupplier message) {
+        long start = started("info");
+        if (logger.isInfoEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.INFO, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+                logger.info(msg);
+            }
+        }
+        return logged("info", start);
+    }
+
+    /**
+     * Log an exception (throwable) at the INFO level with a message built by the supplier.
+     * The supplier is not called if the INFO level is disabled.
+     *
+     * @param message supplier of the message accompanying the exception
+     * @param t       the exception (throwable) to log
+     * @return calling {@link Page}
+     */
+    public T info(MessageSupplier message, Throwable t) {
+        long start = started("info");
+        if (logger.isInfoEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.INFO, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+                logger.info(msg, t);
+            }
+        }
+        return logged("info", start);
+    }
+
+    /**
+     * @return {@code true} if the logger of the page is enabled for the INFO level
+     */
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
     }
 
     /**
@@ -462,8 +1010,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T warn(String msg) {
-        logger.warn(msg);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+            logger.warn(msg);
+        }
+        return logged("warn", start);
     }
 
     /**
@@ -477,8 +1028,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T warn(String format, Object arg) {
-        logger.warn(format, arg);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.ONE_ARG, null, format, arg, null, null, null)) {
+            logger.warn(format, arg);
+        }
+        return logged("warn", start);
     }
 
     /**
@@ -496,8 +1050,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T warn(String format, Object... arguments) {
-        logger.warn(format, arguments);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.ARGUMENTS, null, format, null, null, arguments, null)) {
+            logger.warn(format, arguments);
+        }
+        return logged("warn", start);
     }
 
     /**
@@ -512,8 +1069,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T warn(String format, Object arg1, Object arg2) {
-        logger.warn(format, arg1, arg2);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.TWO_ARGS, null, format, arg1, arg2, null, null)) {
+            logger.warn(format, arg1, arg2);
+        }
+        return logged("warn", start);
     }
 
     /**
@@ -525,8 +1085,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T warn(String msg, Throwable t) {
-        logger.warn(msg, t);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+            logger.warn(msg, t);
+        }
+        return logged("warn", start);
     }
 
 
@@ -538,8 +1101,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T warn(Marker marker, String msg) {
-        logger.warn(marker, msg);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.MESSAGE, marker, msg, null, null, null, null)) {
+            logger.warn(marker, msg);
+        }
+        return logged("warn", start);
     }
 
     /**
@@ -552,8 +1118,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T warn(Marker marker, String format, Object arg) {
-        logger.warn(marker, format, arg);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.ONE_ARG, marker, format, arg, null, null, null)) {
+            logger.warn(marker, format, arg);
+        }
+        return logged("warn", start);
     }
 
     /**
@@ -568,8 +1137,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}*
      */
     public T warn(Marker marker, String format, Object arg1, Object arg2) {
-        logger.warn(marker, format, arg1, arg2);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.TWO_ARGS, marker, format, arg1, arg2, null, null)) {
+            logger.warn(marker, format, arg1, arg2);
+        }
+        return logged("warn", start);
     }
 
 
@@ -584,8 +1156,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T warn(Marker marker, String format, Object... arguments) {
-        logger.warn(marker, format, arguments);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.ARGUMENTS, marker, format, null, null, arguments, null)) {
+            logger.warn(marker, format, arguments);
+        }
+        return logged("warn", start);
     }
 
     /**
@@ -598,8 +1173,143 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T warn(Marker marker, String msg, Throwable t) {
-        logger.warn(marker, msg, t);
-        return page;
+        long start = started("warn");
+        if (!queued(LogEvent.WARN, LogEvent.THROWABLE, marker, msg, null, null, null, t)) {
+            logger.warn(marker, msg, t);
+        }
+        return logged("warn", start);
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and {@code int} argument, boxed only if the WARN level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T warn(String format, int arg) {
+        return warn(format, (long) arg);
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and {@code long} argument, boxed only if the WARN level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T warn(String format, long arg) {
+        long start = started("warn");
+        if (logger.isWarnEnabled() && !queued(LogEvent.WARN, LogEvent.LONG_ARG, format, arg, 0)) {
+            logger.warn(format, arg);
+        }
+        return logged("warn", start);
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and {@code double} argument, boxed only if the WARN level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T warn(String format, double arg) {
+        long start = started("warn");
+        if (logger.isWarnEnabled() && !queued(LogEvent.WARN, LogEvent.DOUBLE_ARG, format, 0, arg)) {
+            logger.warn(format, arg);
+        }
+        return logged("warn", start);
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and {@code boolean} argument, without boxing it.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T warn(String format, boolean arg) {
+        return warn(format, Boolean.valueOf(arg));
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and {@code char} argument, boxed only if the WARN level is enabled and logged as the character rather than
+     * its code.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T warn(String format, char arg) {
+        if (!logger.isWarnEnabled()) {
+            return page;
+        }
+        return warn(format, (Object) arg);
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and {@code float} argument, boxed only if the WARN level is enabled and logged with {@code float} precision
+     * rather than widened to {@code double}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T warn(String format, float arg) {
+        if (!logger.isWarnEnabled()) {
+            return page;
+        }
+        return warn(format, (Object) arg);
+    }
+
+    /**
+     * Log a message built by the supplier at the WARN level.
+     * The supplier is not called if the WARN level is disabled.
+     *
+     * @param message supplier of the message string to be logged
+     * @return calling {@link Page}
+     */
+    public T warn(MessageSupplier message) {
+        long start = started("warn");
+        if (logger.isWarnEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.WARN, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+                logger.warn(msg);
+            }
+        }
+        return logged("warn", start);
+    }
+
+    /**
+     * Log an exception (throwable) at the WARN level with a message built by the supplier.
+     * The supplier is not called if the WARN level is disabled.
+     *
+     * @param message supplier of the message accompanying the exception
+     * @param t       the exception (throwable) to log
+     * @return calling {@link Page}
+     */
+    public T warn(MessageSupplier message, Throwable t) {
+        long start = started("warn");
+        if (logger.isWarnEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.WARN, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+                logger.warn(msg, t);
+            }
+        }
+        return logged("warn", start);
+    }
+
+    /**
+     * @return {@code true} if the logger of the page is enabled for the WARN level
+     */
+    public boolean isWarnEnabled() {
+        return logger.isWarnEnabled();
     }
 
     /**
@@ -609,8 +1319,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(String msg) {
-        logger.error(msg);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+            logger.error(msg);
+        }
+        return logged("error", start);
     }
 
     /**
@@ -624,8 +1337,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(String format, Object arg) {
-        logger.error(format, arg);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.ONE_ARG, null, format, arg, null, null, null)) {
+            logger.error(format, arg);
+        }
+        return logged("error", start);
     }
 
     /**
@@ -640,8 +1356,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(String format, Object arg1, Object arg2) {
-        logger.error(format, arg1, arg2);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.TWO_ARGS, null, format, arg1, arg2, null, null)) {
+            logger.error(format, arg1, arg2);
+        }
+        return logged("error", start);
     }
 
 
@@ -660,8 +1379,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(String format, Object... arguments) {
-        logger.error(format, arguments);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.ARGUMENTS, null, format, null, null, arguments, null)) {
+            logger.error(format, arguments);
+        }
+        return logged("error", start);
     }
 
     /**
@@ -673,8 +1395,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(String msg, Throwable t) {
-        logger.error(msg, t);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+            logger.error(msg, t);
+        }
+        return logged("error", start);
     }
 
     /**
@@ -685,8 +1410,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(Marker marker, String msg) {
-        logger.error(marker, msg);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.MESSAGE, marker, msg, null, null, null, null)) {
+            logger.error(marker, msg);
+        }
+        return logged("error", start);
     }
 
     /**
@@ -699,8 +1427,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(Marker marker, String format, Object arg) {
-        logger.error(marker, format, arg);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.ONE_ARG, marker, format, arg, null, null, null)) {
+            logger.error(marker, format, arg);
+        }
+        return logged("error", start);
     }
 
     /**
@@ -715,8 +1446,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(Marker marker, String format, Object arg1, Object arg2) {
-        logger.error(marker, format, arg1, arg2);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.TWO_ARGS, marker, format, arg1, arg2, null, null)) {
+            logger.error(marker, format, arg1, arg2);
+        }
+        return logged("error", start);
     }
 
     /**
@@ -730,8 +1464,11 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(Marker marker, String format, Object... arguments) {
-        logger.error(marker, format, arguments);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.ARGUMENTS, marker, format, null, null, arguments, null)) {
+            logger.error(marker, format, arguments);
+        }
+        return logged("error", start);
     }
 
     /**
@@ -745,7 +1482,142 @@ public class Logger<T extends Page<T>> {
      * @return calling {@link Page}
      */
     public T error(Marker marker, String msg, Throwable t) {
-        logger.error(marker, msg, t);
-        return page;
+        long start = started("error");
+        if (!queued(LogEvent.ERROR, LogEvent.THROWABLE, marker, msg, null, null, null, t)) {
+            logger.error(marker, msg, t);
+        }
+        return logged("error", start);
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and {@code int} argument, boxed only if the ERROR level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T error(String format, int arg) {
+        return error(format, (long) arg);
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and {@code long} argument, boxed only if the ERROR level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T error(String format, long arg) {
+        long start = started("error");
+        if (logger.isErrorEnabled() && !queued(LogEvent.ERROR, LogEvent.LONG_ARG, format, arg, 0)) {
+            logger.error(format, arg);
+        }
+        return logged("error", start);
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and {@code double} argument, boxed only if the ERROR level is enabled.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T error(String format, double arg) {
+        long start = started("error");
+        if (logger.isErrorEnabled() && !queued(LogEvent.ERROR, LogEvent.DOUBLE_ARG, format, 0, arg)) {
+            logger.error(format, arg);
+        }
+        return logged("error", start);
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and {@code boolean} argument, without boxing it.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T error(String format, boolean arg) {
+        return error(format, Boolean.valueOf(arg));
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and {@code char} argument, boxed only if the ERROR level is enabled and logged as the character rather than
+     * its code.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T error(String format, char arg) {
+        if (!logger.isErrorEnabled()) {
+            return page;
+        }
+        return error(format, (Object) arg);
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and {@code float} argument, boxed only if the ERROR level is enabled and logged with {@code float} precision
+     * rather than widened to {@code double}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @return calling {@link Page}
+     */
+    public T error(String format, float arg) {
+        if (!logger.isErrorEnabled()) {
+            return page;
+        }
+        return error(format, (Object) arg);
+    }
+
+    /**
+     * Log a message built by the supplier at the ERROR level.
+     * The supplier is not called if the ERROR level is disabled.
+     *
+     * @param message supplier of the message string to be logged
+     * @return calling {@link Page}
+     */
+    public T error(MessageSupplier message) {
+        long start = started("error");
+        if (logger.isErrorEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.ERROR, LogEvent.MESSAGE, null, msg, null, null, null, null)) {
+                logger.error(msg);
+            }
+        }
+        return logged("error", start);
+    }
+
+    /**
+     * Log an exception (throwable) at the ERROR level with a message built by the supplier.
+     * The supplier is not called if the ERROR level is disabled.
+     *
+     * @param message supplier of the message accompanying the exception
+     * @param t       the exception (throwable) to log
+     * @return calling {@link Page}
+     */
+    public T error(MessageSupplier message, Throwable t) {
+        long start = started("error");
+        if (logger.isErrorEnabled()) {
+            String msg = message.get();
+            if (!queued(LogEvent.ERROR, LogEvent.THROWABLE, null, msg, null, null, null, t)) {
+                logger.error(msg, t);
+            }
+        }
+        return logged("error", start);
+    }
+
+    /**
+     * @return {@code true} if the logger of the page is enabled for the ERROR level
+     */
+    public boolean isErrorEnabled() {
+        return logger.isErrorEnabled();
     }
 }
@@ -0,0 +1,74 @@
+package net.jockx.fluentpage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small synchronized cache of values expensive to build, such as compiled text matchers, dropping the least
+ * recently used entries once the weight of all entries exceeds its capacity. The most recent entry is always kept.
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class LruCache<K, V> {
+
+    /**
+     * Weight of a cached value, such as its approximate size in bytes
+     * @param <V> value type
+     */
+    interface Weigher<V> {
+        long weigh(V value);
+    }
+
+    private static final Weigher<Object> ONE = new Weigher<Object>() {
+        @Override
+        public long weigh(Object value) {
+            return 1;
+        }
+    };
+
+    private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long capacity;
+    private final Weigher<? super V> weigher;
+    private long weight;
+
+    /**
+     * @param capacity number of entries kept
+     */
+    LruCache(int capacity) {
+        this(capacity, ONE);
+    }
+
+    /**
+     * @param capacity total weight of entries kept
+     * @param weigher  weight of each entry
+     */
+    LruCache(long capacity, Weigher<? super V> weigher) {
+        this.capacity = capacity;
+        this.weigher = weigher;
+    }
+
+    synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(K key, V value) {
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            weight -= weigher.weigh(previous);
+        }
+        weight += weigher.weigh(value);
+        Iterator<V> eldest = entries.values().iterator();
+        while (weight > capacity && entries.size() > 1) {
+            weight -= weigher.weigh(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    /**
+     * @return total weight of cached entries
+     */
+    synchronized long getWeight() {
+        return weight;
+    }
+}
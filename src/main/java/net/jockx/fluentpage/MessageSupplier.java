@@ -0,0 +1,20 @@
+package net.jockx.fluentpage;
+
+/**
+ * Builds a message on demand, so {@link Logger} calls at disabled levels don't format anything and passing
+ * {@link Assertion}s don't build their error messages
+ * <pre>
+ * logger.debug(new MessageSupplier() {
+ *     public String get() {
+ *         return "Rows: " + table.getRowCount();
+ *     }
+ * });
+ * </pre>
+ */
+public interface MessageSupplier {
+
+    /**
+     * @return message to log
+     */
+    String get();
+}
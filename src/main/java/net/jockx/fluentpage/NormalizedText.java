@@ -0,0 +1,111 @@
+package net.jockx.fluentpage;
+
+/**
+ * Comparison behind {@link Assertion#assertTextEqualsNormalized(String, String, TextNormalization, String)}. Both
+ * texts are normalized character by character as they are compared, stopping at the first difference, instead of
+ * building normalized copies of them.
+ */
+final class NormalizedText {
+
+    /**
+     * Number of original characters shown before and after the first difference
+     */
+    private static final int CONTEXT = 20;
+    private static final int END = -1;
+
+    private final String text;
+    private final boolean whitespace;
+    private int index;
+    /**
+     * Index in the original text of the character last returned by {@link #next()}
+     */
+    private int last;
+    private boolean started;
+
+    private NormalizedText(String text, boolean whitespace) {
+        this.text = text;
+        this.whitespace = whitespace;
+    }
+
+    /**
+     * @param actual        the actual text
+     * @param expected      the expected text
+     * @param normalization differences to ignore
+     * @return description of the first difference, or {@code null} if the texts are equal once normalized
+     */
+    static String differences(String actual, String expected, TextNormalization normalization) {
+        if (actual == null || expected == null) {
+            return actual == expected ? null : "expected [" + expected + "] but found [" + actual + "]";
+        }
+        NormalizedText actualText = new NormalizedText(actual, normalization.isWhitespace());
+        NormalizedText expectedText = new NormalizedText(expected, normalization.isWhitespace());
+        boolean ignoringCase = normalization.isIgnoringCase();
+        while (true) {
+            int actualCharacter = actualText.next();
+            int expectedCharacter = expectedText.next();
+            if (actualCharacter == END && expectedCharacter == END) {
+                return null;
+            }
+            if (actualCharacter != expectedCharacter
+                    && (!ignoringCase || fold(actualCharacter) != fold(expectedCharacter))) {
+                return "texts differ with " + normalization + " normalization: expected "
+                        + expectedText.around() + " but found " + actualText.around();
+            }
+        }
+    }
+
+    /**
+     * @return next character of the normalized text, {@link #END} after the last one
+     */
+    private int next() {
+        int length = text.length();
+        if (index >= length) {
+            last = length;
+            return END;
+        }
+        char character = text.charAt(index);
+        if (!whitespace || !Character.isWhitespace(character)) {
+            last = index++;
+            started = true;
+            return character;
+        }
+        last = index;
+        while (index < length && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        if (!started || index == length) {
+            return next();
+        }
+        return ' ';
+    }
+
+    /**
+     * @return original characters around the one last returned, with it in brackets
+     */
+    private String around() {
+        StringBuilder description = new StringBuilder();
+        int from = Math.max(0, last - CONTEXT);
+        int to = Math.min(text.length(), last + 1 + CONTEXT);
+        if (from > 0) {
+            description.append("...");
+        }
+        description.append('"').append(text, from, last);
+        if (last < text.length()) {
+            description.append('[').append(text.charAt(last)).append(']').append(text, last + 1, to);
+        } else {
+            description.append("[end]");
+        }
+        description.append('"');
+        if (to < text.length()) {
+            description.append("...");
+        }
+        return description.append(" at ").append(last).toString();
+    }
+
+    /**
+     * Folds case the way {@link String#equalsIgnoreCase(String)} does
+     */
+    private static int fold(int character) {
+        return character == END ? END : Character.toLowerCase(Character.toUpperCase((char) character));
+    }
+}
@@ -1,8 +1,13 @@
 package net.jockx.fluentpage;
 
+import com.google.common.base.Predicate;
 import net.thucydides.core.pages.PageObject;
-import net.thucydides.core.pages.Pages;
+import net.thucydides.core.webdriver.DefaultPageObjectInitialiser;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
 /**
  * Page should be used as a base class for all your {@link PageObject} child classes
@@ -12,8 +17,33 @@ import org.openqa.selenium.WebDriver;
 @SuppressWarnings({"unchecked", "unused"})
 public class Page<T extends Page<T>> extends PageObject {
 
-    private static Page instance;
-    private static WebDriver driver;
+    private static final ThreadLocal<PageContext> context = new ThreadLocal<>();
+    private static volatile PageRegistry registry;
+    private static volatile AbsenceChecks absenceChecks;
+    private static volatile WaitScheduler waitScheduler = WaitScheduler.inMemory();
+    private static volatile DriverInstrumentation instrumentation;
+    private static volatile AsyncLogging asyncLogging;
+    private static final Predicate<PageObject> elementInitialiser = new Predicate<PageObject>() {
+        @Override
+        public boolean apply(PageObject pageObject) {
+            Page created = (Page) pageObject;
+            PageBuilder builder = PageBuilders.find(created.getClass());
+            PageRegistry pages = registry;
+            int timeout = created.waitForTimeout();
+            if (builder == null && pages == null) {
+                return new DefaultPageObjectInitialiser(created.getDriver(), timeout).apply(created);
+            }
+            created.setWaitForTimeout(timeout);
+            FieldDecorator decorator =
+                    PageBuilders.decorator(created, created.getDriver(), Math.max(timeout / 1000, 1));
+            if (builder != null) {
+                builder.initElements(created, decorator);
+            } else {
+                pages.initElements(created, decorator);
+            }
+            return true;
+        }
+    };
     /**
      * A reference to {@link Assertion} to be used for calling chained assertions. Any method called
      * using this reference will return back a reference to {@code 'this'}.
@@ -28,27 +58,238 @@ public class Page<T extends Page<T>> extends PageObject {
 
 
     public Page() {
-        super(driver);
-        if (driver == null) {
-            throw new IllegalStateException("No WebDriver found or initial setup is not complete. " +
-                    "Please call Page.initialize(driver) first.");
-        }
+        super(currentDriver(), elementInitialiser);
         page = (T) this;
         logger = new Logger<>(page);
         assertion = new Assertion<>(page);
-        setPages(new Pages(driver));
+        setPages(context.get().getPages());
+    }
+
+    private static WebDriver currentDriver() {
+        PageContext current = context.get();
+        if (current == null || current.getDriver() == null) {
+            throw new IllegalStateException("No WebDriver found or initial setup is not complete. " +
+                    "Please call Page.initialize(driver) first.");
+        }
+        return current.getDriver();
+    }
+
+    private static PageContext currentContext() {
+        PageContext current = context.get();
+        if (current == null) {
+            throw new IllegalStateException("No PageContext bound to thread " + Thread.currentThread().getName() +
+                    ". Please call Page.initialize(driver) first.");
+        }
+        return current;
+    }
+
+    /**
+     * @return soft assertions of the context bound to the calling thread, or {@code null} if they are not collected
+     */
+    static SoftAssertions softAssertions() {
+        PageContext current = context.get();
+        return current == null ? null : current.getSoftAssertions();
     }
 
     /**
      * Initialization step is required before any {@link Page} can be obtained statically. It is also needed
-     * when the {@link WebDriver} instance used by tests is changed.
+     * when the {@link WebDriver} instance used by tests is changed. All cached {@link Page} instances
+     * are invalidated.
+     * <p>The {@link WebDriver} is bound to the calling thread only, so each thread running tests in parallel
+     * has to initialize its own. The resulting context is available from {@link #getContext()}.</p>
+     * <p>A {@link WebDriver} the calling thread leased with {@link #initialize(DriverPool)} and did not
+     * {@link #release()} yet is returned to its pool first.</p>
      *
      * @param webDriver {@link WebDriver} instance that all inherited PageObjects will use
      */
     public static void initialize(WebDriver webDriver) {
-        driver = webDriver;
-        instance = new Page();
-        instance.logger.info("Starting with {}", webDriver);
+        releaseLeased();
+        bind(new PageContext(instrument(webDriver), null));
+    }
+
+    /**
+     * Same as {@link #initialize(WebDriver)}, but the {@link WebDriver} is leased from a {@link DriverPool}.
+     * It should be given back with {@link #release()} once the test finishes. A {@link WebDriver} the calling
+     * thread leased before and did not release yet is returned to its pool before leasing a new one.
+     *
+     * @param pool {@link DriverPool} to lease a {@link WebDriver} from
+     */
+    public static void initialize(DriverPool pool) {
+        releaseLeased();
+        WebDriver driver = pool.lease();
+        PageContext created = null;
+        try {
+            created = new PageContext(instrument(driver), pool);
+            bind(created);
+        } catch (RuntimeException | Error e) {
+            if (created != null && context.get() == created) {
+                context.remove();
+            }
+            pool.release(driver);
+            throw e;
+        }
+    }
+
+    /**
+     * Unbinds {@link PageContext} from the calling thread and, if its {@link WebDriver} was leased
+     * with {@link #initialize(DriverPool)}, returns it to the pool.
+     */
+    public static void release() {
+        PageContext current = detach();
+        if (current != null && current.getPool() != null) {
+            current.getPool().release(DriverInstrumentation.unwrap(current.getDriver()));
+        }
+    }
+
+    /**
+     * Enables creating pages from metadata cached by a {@link PageRegistry}. The registry scans its packages
+     * on the next {@link #initialize(WebDriver)}. Passing {@code null} switches back to Thucydides' page creation.
+     *
+     * @param pageRegistry registry to use for all threads
+     */
+    public static void useRegistry(PageRegistry pageRegistry) {
+        registry = pageRegistry;
+    }
+
+    /**
+     * Enables the fast path of negative element assertions, see {@link AbsenceChecks}. Passing {@code null}
+     * switches back to waiting for absent elements until the element timeout passes.
+     *
+     * @param checks absence checks to use for all threads
+     */
+    public static void useAbsenceChecks(AbsenceChecks checks) {
+        absenceChecks = checks;
+    }
+
+    /**
+     * @return {@link AbsenceChecks} in use, or {@code null} if the fast path is disabled
+     */
+    public static AbsenceChecks getAbsenceChecks() {
+        return absenceChecks;
+    }
+
+    /**
+     * Sets the {@link WaitScheduler} polling conditions of {@link #waitUntil(ExpectedCondition)}, for example
+     * one keeping learned load times in a file. Passing {@code null} switches back to a scheduler learning
+     * load times for the current run only.
+     *
+     * @param scheduler scheduler to use for all threads
+     */
+    public static void useWaitScheduler(WaitScheduler scheduler) {
+        waitScheduler = scheduler == null ? WaitScheduler.inMemory() : scheduler;
+    }
+
+    /**
+     * @return {@link WaitScheduler} in use
+     */
+    public static WaitScheduler getWaitScheduler() {
+        return waitScheduler;
+    }
+
+    /**
+     * Enables timing of {@link WebDriver} commands per page and method, see {@link DriverInstrumentation}.
+     * Drivers passed to subsequent {@link #initialize(WebDriver)} calls are instrumented. Passing {@code null}
+     * stops instrumenting drivers of new contexts.
+     *
+     * @param driverInstrumentation instrumentation to use for all threads
+     */
+    public static void useInstrumentation(DriverInstrumentation driverInstrumentation) {
+        instrumentation = driverInstrumentation;
+    }
+
+    /**
+     * @return {@link DriverInstrumentation} in use, or {@code null} if commands are not timed
+     */
+    public static DriverInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Makes {@link Logger} calls of all pages write through a background thread, or synchronously again when
+     * {@code null} is passed. The previous {@link AsyncLogging} is not closed.
+     *
+     * @param logging async logging to use
+     */
+    public static void useAsyncLogging(AsyncLogging logging) {
+        asyncLogging = logging;
+    }
+
+    /**
+     * @return {@link AsyncLogging} in use, or {@code null} if logger calls are written synchronously
+     */
+    public static AsyncLogging getAsyncLogging() {
+        return asyncLogging;
+    }
+
+    /**
+     * Registers a listener of chain step timings for all threads, see {@link PageListener}
+     *
+     * @param listener listener to add
+     */
+    public static void addListener(PageListener listener) {
+        PageListeners.add(listener);
+    }
+
+    /**
+     * @param listener listener to remove, added with {@link #addListener(PageListener)}
+     */
+    public static void removeListener(PageListener listener) {
+        PageListeners.remove(listener);
+    }
+
+    private static WebDriver instrument(WebDriver webDriver) {
+        DriverInstrumentation current = instrumentation;
+        return current == null || webDriver == null ? webDriver : current.wrap(webDriver);
+    }
+
+    /**
+     * Returns the {@link WebDriver} of a context still bound to the calling thread to the pool it was leased from,
+     * so that initializing again without {@link #release()} does not keep the session leased for good
+     */
+    private static void releaseLeased() {
+        PageContext current = context.get();
+        if (current != null && current.getPool() != null) {
+            release();
+        }
+    }
+
+    private static void bind(PageContext created) {
+        PageRegistry pages = registry;
+        if (pages != null) {
+            pages.start();
+        }
+        context.set(created);
+        created.setRoot(new Page());
+        created.getRoot().logger.info("Starting with {}", created.getDriver());
+    }
+
+    /**
+     * Binds an existing {@link PageContext} to the calling thread, for example to continue
+     * a test started with {@link #initialize(WebDriver)} on another thread
+     *
+     * @param pageContext context to bind
+     */
+    public static void attach(PageContext pageContext) {
+        context.set(pageContext);
+    }
+
+    /**
+     * Unbinds {@link PageContext} from the calling thread. Should be called when a test finishes
+     * on a pooled thread, so that neither the {@link WebDriver} nor cached pages leak to the next test.
+     *
+     * @return context that was bound to the calling thread or {@code null} if there was none
+     */
+    public static PageContext detach() {
+        PageContext current = context.get();
+        context.remove();
+        return current;
+    }
+
+    /**
+     * @return {@link PageContext} bound to the calling thread
+     */
+    public static PageContext getContext() {
+        return currentContext();
     }
 
     /**
@@ -60,7 +301,20 @@ public class Page<T extends Page<T>> extends PageObject {
      * @return instance of class specified by {@code type} parameter
      */
     public static <T extends Page> T waitForPage(Class<T> type) {
-        return (T) Page.get(type).waitToLoad();
+        T page = Page.get(type);
+        long start = PageListeners.start(PageListener.Kind.WAIT, type, "waitToLoad");
+        WaitScheduler scheduler = waitScheduler;
+        long loadStart = scheduler.startLoad();
+        try {
+            T loaded = (T) page.waitToLoad();
+            scheduler.endLoad(page, loadStart, true);
+            PageListeners.end(PageListener.Kind.WAIT, type, "waitToLoad", start, null);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            scheduler.endLoad(page, loadStart, false);
+            PageListeners.end(PageListener.Kind.WAIT, type, "waitToLoad", start, e);
+            throw e;
+        }
     }
 
     /**
@@ -72,25 +326,64 @@ public class Page<T extends Page<T>> extends PageObject {
      * @return instance of class specified by {@code type} parameter
      */
     public static <T extends Page> T navigateToPage(Class<T> type) {
-        return (T) Page.get(type).navigateTo();
+        T page = Page.get(type);
+        long start = PageListeners.start(PageListener.Kind.NAVIGATION, type, "navigateTo");
+        try {
+            T navigated = (T) page.navigateTo();
+            PageListeners.end(PageListener.Kind.NAVIGATION, type, "navigateTo", start, null);
+            return navigated;
+        } catch (RuntimeException | Error e) {
+            PageListeners.end(PageListener.Kind.NAVIGATION, type, "navigateTo", start, e);
+            throw e;
+        }
     }
 
     /**
-     * Gets a class instance without any additional actions
+     * Gets a class instance without any additional actions. Instances are created once
+     * per {@link WebDriver} and reused afterwards, see {@link #getCache()}. New instances are created with
+     * a {@link PageBuilder} generated for {@code type} if there is one, then with {@link PageRegistry} if enabled,
+     * and reflectively by Thucydides otherwise.
      *
      * @param <T> class extending {@link Page} to obtain
      * @param type name of class extending {@link Page} to obtain
      * @return instance of class specified by {@code type} parameter
      */
     public static <T extends Page> T get(Class<T> type) {
-        return instance.switchToPage(type);
+        PageContext current = currentContext();
+        T page = current.getCache().get(type);
+        if (page == null) {
+            long start = PageListeners.start(PageListener.Kind.PAGE, type, "create");
+            try {
+                PageBuilder<T> builder = PageBuilders.find(type);
+                PageRegistry pages = registry;
+                if (builder == null && pages == null) {
+                    page = current.getRoot().switchToPage(type);
+                } else {
+                    page = builder != null ? builder.newPage() : pages.create(type);
+                    page.setDefaultBaseUrl(current.getPages().getDefaultBaseUrl());
+                }
+            } catch (RuntimeException | Error e) {
+                PageListeners.end(PageListener.Kind.PAGE, type, "create", start, e);
+                throw e;
+            }
+            current.getCache().put(type, page);
+            PageListeners.end(PageListener.Kind.PAGE, type, "create", start, null);
+        }
+        return page;
+    }
+
+    /**
+     * @return {@link PageCache} holding instances returned by {@link #get(Class)} for current {@link WebDriver}
+     */
+    public static PageCache getCache() {
+        return currentContext().getCache();
     }
 
     /**
      * @return instance of {@link Page} class
      */
     public static Page get() {
-        return instance;
+        return currentContext().getRoot();
     }
 
     /**
@@ -100,6 +393,46 @@ public class Page<T extends Page<T>> extends PageObject {
         return Page.get().getDriver().getCurrentUrl();
     }
 
+    /**
+     * @return time in milliseconds element proxies of this page wait for their element
+     */
+    int getElementTimeout() {
+        return waitForTimeout();
+    }
+
+    /**
+     * Starts a page action reported to {@link PageListener}s when closed, see {@link TracedAction}
+     *
+     * @param name name of the action, usually the name of the calling method
+     * @return action to close once it is done
+     */
+    protected TracedAction action(String name) {
+        long start = PageListeners.start(PageListener.Kind.ACTION, getClass(), name);
+        return start == PageListeners.NOT_STARTED ? TracedAction.NONE : new TracedAction(getClass(), name, start);
+    }
+
+    /**
+     * Reads the whole content of an HTML table with a single script execution, instead of a driver
+     * command per cell
+     *
+     * @param table table element, for example a {@link net.thucydides.core.pages.WebElementFacade} field
+     * @return {@link Table} holding texts of the table cells by column
+     */
+    public Table readTable(WebElement table) {
+        return Table.read(getDriver(), table);
+    }
+
+    /**
+     * Reads the whole content of an HTML table with a single script execution, instead of a driver
+     * command per cell
+     *
+     * @param locator locator of the table element
+     * @return {@link Table} holding texts of the table cells by column
+     */
+    public Table readTable(By locator) {
+        return readTable(getDriver().findElement(locator));
+    }
+
     /**
      * Aggregates a set of actions required to navigate to a given page, that can be called from
      * standalone context. For example typing in an url or clicking several buttons in succession
@@ -113,16 +446,53 @@ public class Page<T extends Page<T>> extends PageObject {
         return page.waitToLoad();
     }
 
+    /**
+     * Declares conditions awaited by the base version of {@link #waitToLoad()}, for example
+     * {@code Readiness.when().visible(query).notVisible(spinner)}
+     * Base version declares none
+     *
+     * @return readiness conditions of this page or {@code null} if there are none
+     */
+    protected Readiness readiness() {
+        return null;
+    }
+
     /**
      * Aggregates a set of conditions that are required for the page to be considered loaded.
      * For example - waiting a set amount of time or until some element is visible
-     * Base version returns immediately but this method is expected to be overridden for
-     * each particular subclass
+     * Base version waits for conditions declared by {@link #readiness()}, if any, and returns immediately
+     * otherwise. It can still be overridden for each particular subclass
      *
      * @return calling subtype of {@link Page}
      */
     public T waitToLoad() {
-        logger.debug("Waiting for " + this.getClass().toGenericString());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Waiting for " + this.getClass().toGenericString());
+        }
+        Readiness readiness = readiness();
+        if (readiness != null) {
+            WaitScheduler scheduler = waitScheduler;
+            long start = scheduler.startLoad();
+            boolean loaded = false;
+            try {
+                readiness.await(this);
+                loaded = true;
+            } finally {
+                scheduler.endLoad(this, start, loaded);
+            }
+        }
         return page;
     }
+
+    /**
+     * Polls the condition with the {@link WaitScheduler} in use, until it returns neither {@code null} nor
+     * {@code false} or the page's wait timeout passes. Meant to be called from overridden {@link #waitToLoad()}
+     *
+     * @param condition condition to poll
+     * @param <V>       type of the condition's value
+     * @return value returned by the condition
+     */
+    protected <V> V waitUntil(ExpectedCondition<V> condition) {
+        return waitScheduler.await(this, condition);
+    }
 }
@@ -0,0 +1,27 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+/**
+ * Creates a {@link Page} subclass and wires its elements without reflective lookups. Implementations
+ * are generated at compile time by the {@code fluent-page-processor} annotation processor, one per page class,
+ * and are picked up by {@link Page#get(Class)} automatically. Pages without a generated builder are
+ * created reflectively.
+ * @param <T> subclass of {@link Page} created by this builder
+ */
+public interface PageBuilder<T extends Page> {
+
+    /**
+     * @return new instance of the page, created with its constructor without parameters
+     */
+    T newPage();
+
+    /**
+     * Assigns element proxies created by {@code decorator} to the page's element fields
+     *
+     * @param page      page being constructed
+     * @param decorator Thucydides decorator creating element proxies for the page's
+     *                  {@link org.openqa.selenium.WebDriver}
+     */
+    void initElements(T page, FieldDecorator decorator);
+}
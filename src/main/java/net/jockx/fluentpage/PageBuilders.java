@@ -0,0 +1,100 @@
+package net.jockx.fluentpage;
+
+import net.thucydides.core.annotations.locators.SmartFieldDecorator;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.webdriver.Configuration;
+import net.thucydides.core.webdriver.ElementLocatorFactorySelector;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Field;
+
+/**
+ * Support for {@link PageBuilder} implementations generated by {@code fluent-page-processor}.
+ * Methods of this class are called by the generated code and are not meant to be used directly.
+ */
+public final class PageBuilders {
+
+    /**
+     * Suffix appended to the page class name, with {@code '$'} of nested classes replaced by {@code '_'},
+     * to get the name of its generated {@link PageBuilder}
+     */
+    public static final String SUFFIX = "_PageBuilder";
+
+    private static final ClassValue<PageBuilder<?>> builders = new ClassValue<PageBuilder<?>>() {
+        @Override
+        protected PageBuilder<?> computeValue(Class<?> type) {
+            String name = type.getName();
+            int packageEnd = name.lastIndexOf('.') + 1;
+            String builderName = name.substring(0, packageEnd) + name.substring(packageEnd).replace('$', '_') + SUFFIX;
+            try {
+                Class<?> builder = Class.forName(builderName, true, type.getClassLoader());
+                if (!PageBuilder.class.isAssignableFrom(builder)) {
+                    return null;
+                }
+                return (PageBuilder<?>) builder.newInstance();
+            } catch (ClassNotFoundException | LinkageError e) {
+                return null;
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalStateException("Unable to instantiate " + builderName, e);
+            }
+        }
+    };
+
+    private static volatile ElementLocatorFactorySelector locators;
+
+    private PageBuilders() {
+    }
+
+    /**
+     * @param type class extending {@link Page}
+     * @return generated {@link PageBuilder} for the exact {@code type} or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Page> PageBuilder<T> find(Class<T> type) {
+        return (PageBuilder<T>) builders.get(type);
+    }
+
+    static FieldDecorator decorator(Page page, WebDriver driver, int timeoutInSeconds) {
+        ElementLocatorFactorySelector selector = locators;
+        if (selector == null) {
+            selector = new ElementLocatorFactorySelector(Injectors.getInjector().getInstance(Configuration.class));
+            locators = selector;
+        }
+        return new SmartFieldDecorator(selector.withTimeout(timeoutInSeconds).getLocatorFor(driver), driver, page);
+    }
+
+    /**
+     * Resolves a field once, when a generated builder is loaded. Thucydides builds element locators
+     * from the field's annotations, so generated builders still pass it to the {@link FieldDecorator}.
+     *
+     * @param type declaring class
+     * @param name field name
+     * @return accessible {@link Field}
+     */
+    public static Field field(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Generated PageBuilder is out of date, " + type.getName() +
+                    " has no field " + name, e);
+        }
+    }
+
+    /**
+     * Assigns a field that is not accessible from the generated builder's package
+     *
+     * @param field target field
+     * @param page  page being constructed
+     * @param value element proxy
+     */
+    public static void set(Field field, Object page, Object value) {
+        try {
+            field.set(page, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to initialize " + field, e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of {@link Page} instances created for a single {@link WebDriver} session, keyed by page class.
+ * Instances are reused by {@link Page#get(Class)} until the cache is invalidated, either explicitly
+ * or by {@link Page#initialize(WebDriver)}.
+ */
+@SuppressWarnings("unused")
+public class PageCache {
+
+    private final Map<Class<?>, Page> pages = new HashMap<>();
+    private long hits;
+    private long misses;
+
+    PageCache() {
+    }
+
+    /**
+     * @param type class extending {@link Page} to look up
+     * @return cached instance of {@code type} or {@code null} if none was created yet
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Page> T get(Class<T> type) {
+        T page = (T) pages.get(type);
+        if (page == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return page;
+    }
+
+    <T extends Page> void put(Class<T> type, T page) {
+        pages.put(type, page);
+    }
+
+    /**
+     * Drops cached instance of a given class, so that the next {@link Page#get(Class)} creates a new one
+     *
+     * @param type class extending {@link Page} to drop
+     */
+    public void invalidate(Class<? extends Page> type) {
+        pages.remove(type);
+    }
+
+    /**
+     * Drops all cached instances. Hit and miss counters are left intact.
+     */
+    public void invalidateAll() {
+        pages.clear();
+    }
+
+    /**
+     * @return number of {@link Page#get(Class)} calls served from the cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of {@link Page#get(Class)} calls that had to create a new instance
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return number of currently cached instances
+     */
+    public int size() {
+        return pages.size();
+    }
+
+    /**
+     * Resets hit and miss counters to zero
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "PageCache{size=" + pages.size() + ", hits=" + hits + ", misses=" + misses + "}";
+    }
+}
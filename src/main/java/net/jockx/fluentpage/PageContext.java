@@ -0,0 +1,89 @@
+package net.jockx.fluentpage;
+
+import net.thucydides.core.pages.Pages;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Session state behind the static {@link Page} API: the {@link WebDriver} used by tests
+ * and the {@link PageCache} of pages created for it.
+ * <p>A context is bound to the calling thread by {@link Page#initialize(WebDriver)}, so tests running in parallel
+ * threads each work with their own driver. It can also be handed over to another thread explicitly
+ * with {@link Page#attach(PageContext)}.</p>
+ */
+@SuppressWarnings("unused")
+public class PageContext {
+
+    private final WebDriver driver;
+    private final DriverPool pool;
+    private final PageCache cache = new PageCache();
+    private final Pages pages;
+    private Page root;
+    private long scriptTimeout = -1;
+    private SoftAssertions softAssertions;
+
+    PageContext(WebDriver driver, DriverPool pool) {
+        this.driver = driver;
+        this.pool = pool;
+        this.pages = new Pages(driver);
+    }
+
+    /**
+     * @return {@link WebDriver} instance that all pages created within this context use
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * @return {@link DriverPool} the driver was leased from or {@code null} if it was passed in directly
+     */
+    public DriverPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @return {@link PageCache} holding pages created within this context
+     */
+    public PageCache getCache() {
+        return cache;
+    }
+
+    Pages getPages() {
+        return pages;
+    }
+
+    Page getRoot() {
+        return root;
+    }
+
+    void setRoot(Page root) {
+        this.root = root;
+    }
+
+    /**
+     * @return asynchronous script timeout last set on the driver in milliseconds, or -1 if none was set
+     */
+    long getScriptTimeout() {
+        return scriptTimeout;
+    }
+
+    void setScriptTimeout(long scriptTimeout) {
+        this.scriptTimeout = scriptTimeout;
+    }
+
+    /**
+     * @return failures collected in {@link Assertion#soft()} mode, or {@code null} if assertions throw right away
+     */
+    SoftAssertions getSoftAssertions() {
+        return softAssertions;
+    }
+
+    void setSoftAssertions(SoftAssertions softAssertions) {
+        this.softAssertions = softAssertions;
+    }
+
+    @Override
+    public String toString() {
+        return "PageContext{driver=" + driver + ", " + cache + "}";
+    }
+}
@@ -0,0 +1,70 @@
+package net.jockx.fluentpage;
+
+/**
+ * Receives timings of fluent chain steps, registered with {@link Page#addListener(PageListener)}.
+ * Listeners are called synchronously on the thread running the step, so they should return quickly.
+ * While no listener is registered, steps are not timed at all.
+ * <p>Reported steps are:</p>
+ * <ul>
+ * <li>{@link Kind#PAGE} - creation of a page instance by {@link Page#get(Class)}</li>
+ * <li>{@link Kind#NAVIGATION} - {@link Page#navigateTo()} called by {@link Page#navigateToPage(Class)}</li>
+ * <li>{@link Kind#WAIT} - {@link Page#waitToLoad()} called by {@link Page#waitForPage(Class)}</li>
+ * <li>{@link Kind#ASSERTION} - every {@link Assertion} call and {@link ElementBatch#verify(String)}</li>
+ * <li>{@link Kind#ACTION} - page actions marked with {@link Page#action(String)}</li>
+ * <li>{@link Kind#LOG} - every {@link Logger} call at an enabled level, named after the level</li>
+ * </ul>
+ * <p>Listeners can also be installed by a {@link PageListenerProvider} service.</p>
+ */
+public interface PageListener {
+
+    /**
+     * Kind of a chain step
+     */
+    enum Kind {
+        /**
+         * Creation of a page instance
+         */
+        PAGE,
+        /**
+         * Navigation to a page
+         */
+        NAVIGATION,
+        /**
+         * Wait for a page to load
+         */
+        WAIT,
+        /**
+         * Assertion call
+         */
+        ASSERTION,
+        /**
+         * Page action
+         */
+        ACTION,
+        /**
+         * Logger call
+         */
+        LOG
+    }
+
+    /**
+     * Called when a step starts. Steps of a thread end in reverse order of their start.
+     *
+     * @param kind kind of the step
+     * @param page page class the step belongs to
+     * @param name name of the step, for example the name of the assertion method
+     */
+    void stepStarted(Kind kind, Class<?> page, String name);
+
+    /**
+     * Called when a step ends, successfully or not
+     *
+     * @param kind       kind of the step
+     * @param page       page class the step belongs to
+     * @param name       name of the step, for example the name of the assertion method
+     * @param startNanos {@link System#nanoTime()} when the step started
+     * @param endNanos   {@link System#nanoTime()} when the step ended
+     * @param failure    error the step failed with, or {@code null} if it succeeded
+     */
+    void stepEnded(Kind kind, Class<?> page, String name, long startNanos, long endNanos, Throwable failure);
+}
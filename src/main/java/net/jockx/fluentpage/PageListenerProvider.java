@@ -0,0 +1,15 @@
+package net.jockx.fluentpage;
+
+/**
+ * Service installing {@link PageListener}s without changes to test code. Implementations are listed in
+ * {@code META-INF/services/net.jockx.fluentpage.PageListenerProvider} and found with {@link java.util.ServiceLoader}
+ * the first time a chain step runs. They register listeners with {@link Page#addListener(PageListener)},
+ * either right away or later, for example only while a profiler is recording.
+ */
+public interface PageListenerProvider {
+
+    /**
+     * Called once, on the thread running the first chain step
+     */
+    void install();
+}
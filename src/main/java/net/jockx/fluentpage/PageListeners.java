@@ -0,0 +1,108 @@
+package net.jockx.fluentpage;
+
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Registered {@link PageListener}s, kept in a copy-on-write array so that steps check for listeners
+ * with a single volatile read
+ */
+final class PageListeners {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(PageListeners.class);
+    private static final PageListener[] NONE = new PageListener[0];
+
+    /**
+     * Returned by {@link #start(PageListener.Kind, Class, String)} when no listener is registered. Any other value
+     * is a {@link System#nanoTime()}, which may be zero or negative.
+     */
+    static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private static volatile PageListener[] listeners = NONE;
+
+    static {
+        try {
+            for (PageListenerProvider provider : ServiceLoader.load(PageListenerProvider.class)) {
+                LOGGER.debug("Installing page listeners of {}", provider);
+                provider.install();
+            }
+        } catch (ServiceConfigurationError | RuntimeException e) {
+            LOGGER.warn("Unable to install page listener providers: {}", e.toString());
+        }
+    }
+
+    private PageListeners() {
+    }
+
+    static synchronized void add(PageListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must not be null");
+        }
+        PageListener[] current = listeners;
+        PageListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    static synchronized void remove(PageListener listener) {
+        PageListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                PageListener[] updated = new PageListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated.length == 0 ? NONE : updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reports start of a step to all listeners, if there are any
+     *
+     * @param kind kind of the step
+     * @param page page class the step belongs to
+     * @param name name of the step
+     * @return {@link System#nanoTime()} if any listener is registered, {@link #NOT_STARTED} otherwise
+     */
+    static long start(PageListener.Kind kind, Class<?> page, String name) {
+        PageListener[] current = listeners;
+        if (current.length == 0) {
+            return NOT_STARTED;
+        }
+        for (PageListener listener : current) {
+            try {
+                listener.stepStarted(kind, page, name);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Listener {} failed on {} {}", listener, kind, name, e);
+            }
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Reports a step to all listeners, unless it was started with no listener registered
+     *
+     * @param kind    kind of the step
+     * @param page    page class the step belongs to
+     * @param name    name of the step
+     * @param start   value returned by {@link #start(PageListener.Kind, Class, String)}
+     * @param failure error the step failed with, or {@code null}
+     */
+    static void end(PageListener.Kind kind, Class<?> page, String name, long start, Throwable failure) {
+        if (start == NOT_STARTED) {
+            return;
+        }
+        long end = System.nanoTime();
+        for (PageListener listener : listeners) {
+            try {
+                listener.stepEnded(kind, page, name, start, end, failure);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Listener {} failed on {} {}", listener, kind, name, e);
+            }
+        }
+    }
+}
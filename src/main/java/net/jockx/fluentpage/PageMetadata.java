@@ -0,0 +1,160 @@
+package net.jockx.fluentpage;
+
+import net.thucydides.core.annotations.locators.SmartAnnotations;
+import net.thucydides.core.annotations.locators.SmartFieldDecorator;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Constructor and element fields of a single {@link Page} subclass, resolved once by {@link PageRegistry}
+ * so that creating a page does not repeat the reflective lookups done by Thucydides' PageFactory.
+ * @param <T> described subclass of {@link Page}
+ */
+final class PageMetadata<T extends Page> {
+
+    private static final ClassValue<PageMetadata<?>> cache = new ClassValue<PageMetadata<?>>() {
+        @Override
+        protected PageMetadata<?> computeValue(Class<?> type) {
+            return of(type.asSubclass(Page.class));
+        }
+    };
+
+    private final Class<T> type;
+    private final Constructor<T> constructor;
+    private final List<Field> elementFields;
+    private volatile Map<Field, By> locators;
+
+    private PageMetadata(Class<T> type, Constructor<T> constructor, List<Field> elementFields) {
+        this.type = type;
+        this.constructor = constructor;
+        this.elementFields = elementFields;
+    }
+
+    static <T extends Page> PageMetadata<T> of(Class<T> type) {
+        Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            constructor = null;
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> declaring = type; declaring != Object.class; declaring = declaring.getSuperclass()) {
+            for (Field field : declaring.getDeclaredFields()) {
+                if (isElementField(field)) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return new PageMetadata<>(type, constructor, Collections.unmodifiableList(fields));
+    }
+
+    /**
+     * @param type subclass of {@link Page}
+     * @return metadata of {@code type}, resolved once per class
+     */
+    static PageMetadata<?> forClass(Class<?> type) {
+        return cache.get(type);
+    }
+
+    /**
+     * Mirrors the field selection of {@link SmartFieldDecorator}: single elements are decorated
+     * regardless of annotations, lists only when annotated with one of the FindBy annotations.
+     * Static and final fields are skipped, the same way generated page builders skip them.
+     */
+    private static boolean isElementField(Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            return false;
+        }
+        if (WebElement.class.isAssignableFrom(field.getType())) {
+            return true;
+        }
+        if (!List.class.isAssignableFrom(field.getType())) {
+            return false;
+        }
+        Type generic = field.getGenericType();
+        if (!(generic instanceof ParameterizedType)) {
+            return false;
+        }
+        Type element = ((ParameterizedType) generic).getActualTypeArguments()[0];
+        return element instanceof Class && WebElement.class.isAssignableFrom((Class<?>) element)
+                && (field.isAnnotationPresent(net.thucydides.core.annotations.findby.FindBy.class)
+                || field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class));
+    }
+
+    Class<T> getType() {
+        return type;
+    }
+
+    List<Field> getElementFields() {
+        return elementFields;
+    }
+
+    /**
+     * @return locators of fields holding a single element, as built by Thucydides for its element proxies
+     */
+    Map<Field, By> getLocators() {
+        Map<Field, By> found = locators;
+        if (found == null) {
+            found = new LinkedHashMap<>();
+            for (Field field : elementFields) {
+                if (!List.class.isAssignableFrom(field.getType())) {
+                    try {
+                        found.put(field, new SmartAnnotations(field).buildBy());
+                    } catch (RuntimeException e) {
+                        // locator can't be expressed as a By, elements of this field are checked one by one
+                    }
+                }
+            }
+            found = Collections.unmodifiableMap(found);
+            locators = found;
+        }
+        return found;
+    }
+
+    T newInstance() {
+        if (constructor == null) {
+            throw new IllegalStateException("Page " + type.getName() + " has no constructor without parameters");
+        }
+        try {
+            return constructor.newInstance();
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to instantiate page " + type.getName(), e.getCause());
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Failed to instantiate page " + type.getName(), e);
+        }
+    }
+
+    void initElements(Page page, FieldDecorator decorator) {
+        ClassLoader loader = type.getClassLoader();
+        for (Field field : elementFields) {
+            Object element = decorator.decorate(loader, field);
+            if (element != null) {
+                try {
+                    field.set(page, element);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Failed to initialize " + field, e);
+                }
+            }
+        }
+    }
+}
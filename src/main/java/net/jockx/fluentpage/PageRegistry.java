@@ -0,0 +1,198 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Optional registry of {@link Page} subclasses. When enabled with {@link Page#useRegistry(PageRegistry)}
+ * the configured packages are scanned once on the first {@link Page#initialize(WebDriver)}, and constructors
+ * and element fields of every page found are cached. Pages are then created and wired from that metadata
+ * instead of going through Thucydides' reflective PageFactory.
+ * <p>Page classes outside of the scanned packages are still supported - their metadata is resolved
+ * on first use.</p>
+ */
+@SuppressWarnings("unused")
+public class PageRegistry {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(PageRegistry.class);
+
+    private final List<String> packages;
+    private final boolean background;
+    private final ConcurrentMap<Class<?>, PageMetadata<?>> metadata = new ConcurrentHashMap<>();
+    private volatile boolean started;
+
+    private PageRegistry(List<String> packages, boolean background) {
+        this.packages = packages;
+        this.background = background;
+    }
+
+    /**
+     * @param packages names of packages to scan for {@link Page} subclasses, including their subpackages
+     * @return registry scanning given packages on the thread calling {@link Page#initialize(WebDriver)}
+     */
+    public static PageRegistry forPackages(String... packages) {
+        return new PageRegistry(Arrays.asList(packages), false);
+    }
+
+    /**
+     * @return registry scanning the same packages on a background daemon thread, so that
+     * {@link Page#initialize(WebDriver)} does not wait for it
+     */
+    public PageRegistry inBackground() {
+        return new PageRegistry(packages, true);
+    }
+
+    /**
+     * Scans configured packages, unless already done. Called by {@link Page#initialize(WebDriver)}.
+     */
+    void start() {
+        if (started) {
+            return;
+        }
+        synchronized (this) {
+            if (started) {
+                return;
+            }
+            started = true;
+        }
+        if (!background) {
+            scan();
+            return;
+        }
+        Thread scanner = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                scan();
+            }
+        }, "fluent-page-registry");
+        scanner.setDaemon(true);
+        scanner.start();
+    }
+
+    private void scan() {
+        long start = System.nanoTime();
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = PageRegistry.class.getClassLoader();
+        }
+        for (String name : findClassNames(loader)) {
+            try {
+                Class<?> candidate = Class.forName(name, false, loader);
+                if (Page.class.isAssignableFrom(candidate) && candidate != Page.class
+                        && !Modifier.isAbstract(candidate.getModifiers())) {
+                    lookup(candidate.asSubclass(Page.class));
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.debug("Skipping {}: {}", name, e.toString());
+            }
+        }
+        LOGGER.info("Registered {} pages from {} in {} ms", metadata.size(), packages,
+                (System.nanoTime() - start) / 1000000);
+    }
+
+    private Set<String> findClassNames(ClassLoader loader) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String packageName : packages) {
+            String path = packageName.replace('.', '/');
+            try {
+                Enumeration<URL> roots = loader.getResources(path);
+                while (roots.hasMoreElements()) {
+                    URL root = roots.nextElement();
+                    if ("file".equals(root.getProtocol())) {
+                        collectFromDirectory(new File(root.toURI()), packageName, names);
+                    } else if ("jar".equals(root.getProtocol())) {
+                        collectFromJar(((JarURLConnection) root.openConnection()).getJarFile(), path, names);
+                    }
+                }
+            } catch (IOException | URISyntaxException e) {
+                LOGGER.warn("Unable to scan package " + packageName, e);
+            }
+        }
+        return names;
+    }
+
+    private static void collectFromDirectory(File directory, String packageName, Set<String> names) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String fileName = file.getName();
+            if (file.isDirectory()) {
+                collectFromDirectory(file, packageName + "." + fileName, names);
+            } else if (fileName.endsWith(".class")) {
+                names.add(packageName + "." + fileName.substring(0, fileName.length() - ".class".length()));
+            }
+        }
+    }
+
+    private static void collectFromJar(JarFile jar, String path, Set<String> names) {
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String entry = entries.nextElement().getName();
+            if (entry.startsWith(path + "/") && entry.endsWith(".class")) {
+                names.add(entry.substring(0, entry.length() - ".class".length()).replace('/', '.'));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends Page> PageMetadata<T> lookup(Class<T> type) {
+        PageMetadata<T> found = (PageMetadata<T>) metadata.get(type);
+        if (found == null) {
+            found = PageMetadata.of(type);
+            PageMetadata<T> raced = (PageMetadata<T>) metadata.putIfAbsent(type, found);
+            if (raced != null) {
+                found = raced;
+            }
+        }
+        return found;
+    }
+
+    <T extends Page> T create(Class<T> type) {
+        return lookup(type).newInstance();
+    }
+
+    void initElements(Page page, FieldDecorator decorator) {
+        lookup(page.getClass()).initElements(page, decorator);
+    }
+
+    /**
+     * @return names of packages scanned by this registry
+     */
+    public List<String> getPackages() {
+        return packages;
+    }
+
+    /**
+     * @return classes of all pages registered so far, either scanned or resolved on first use
+     */
+    public List<Class<?>> getRegisteredPages() {
+        return new ArrayList<>(metadata.keySet());
+    }
+
+    /**
+     * @return number of pages registered so far
+     */
+    public int size() {
+        return metadata.size();
+    }
+}
@@ -0,0 +1,30 @@
+package net.jockx.fluentpage;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compiled regular expressions of {@link Assertion#assertMatches(String, String, String)} and
+ * {@link Assertion#assertContainsMatch(String, String, String)}, so a pattern checked against many pages is compiled
+ * once
+ */
+final class Patterns {
+
+    private static final int CACHE_SIZE = 256;
+    private static final LruCache<String, Pattern> cache = new LruCache<>(CACHE_SIZE);
+
+    private Patterns() {
+    }
+
+    /**
+     * @param regex regular expression
+     * @return compiled expression, shared with earlier calls for the same expression
+     */
+    static Pattern compile(String regex) {
+        Pattern pattern = cache.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            cache.put(regex, pattern);
+        }
+        return pattern;
+    }
+}
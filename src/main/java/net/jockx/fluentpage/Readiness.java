@@ -0,0 +1,300 @@
+package net.jockx.fluentpage;
+
+import net.thucydides.core.pages.WebElementFacade;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conditions a {@link Page} is considered loaded by, declared by overriding {@link Page#readiness()}:
+ * <pre>
+ * protected Readiness readiness() {
+ *     return Readiness.when()
+ *         .visible(query, search)
+ *         .notVisible(spinner)
+ *         .condition("window.app &amp;&amp; window.app.ready");
+ * }
+ * </pre>
+ * {@link Page#waitToLoad()} awaits them with a single asynchronous script, which watches the document
+ * with a MutationObserver and {@code readystatechange} events and returns as soon as all conditions hold,
+ * rather than polling the browser. The document is always required to be complete.
+ * <p>Elements are located by the browser, so they have to be held by fields of the page, with locators
+ * other than Thucydides' jQuery or Sizzle ones, or be given as {@link By}.</p>
+ * <p>WebDriver can't report its asynchronous script timeout, so it is not restored: awaiting readiness leaves it
+ * at the page's wait timeout plus two seconds. Set it again after {@link Page#waitToLoad()} if other asynchronous
+ * scripts rely on a different one.</p>
+ */
+@SuppressWarnings("unused")
+public class Readiness {
+
+    /**
+     * Takes a list of {@code [strategy, value, state, expected]} conditions and a timeout in milliseconds.
+     * Calls back with indexes of conditions not met, an empty list once all are met.
+     */
+    static final String SCRIPT = "/* fluent-page readiness */\n"
+            + ElementStates.FUNCTIONS
+            + "var conditions = arguments[0], timeout = arguments[1], callback = arguments[arguments.length - 1];\n"
+            + "var done = false, observer = null, interval = null, timer = null;\n"
+            + "function unmet() {\n"
+            + "  var failed = [];\n"
+            + "  for (var i = 0; i < conditions.length; i++) {\n"
+            + "    var c = conditions[i], met = false;\n"
+            + "    try {\n"
+            + "      if (c[0] === 'readyState') met = document.readyState === c[1];\n"
+            + "      else if (c[0] === 'script') met = !!new Function('return (' + c[1] + ');')();\n"
+            + "      else met = ((state(find(c[0], c[1])) & c[2]) !== 0) === c[3];\n"
+            + "    } catch (e) {}\n"
+            + "    if (!met) failed.push(i);\n"
+            + "  }\n"
+            + "  return failed;\n"
+            + "}\n"
+            + "function finish(failed) {\n"
+            + "  if (done) return;\n"
+            + "  done = true;\n"
+            + "  if (observer) observer.disconnect();\n"
+            + "  clearInterval(interval);\n"
+            + "  clearTimeout(timer);\n"
+            + "  document.removeEventListener('readystatechange', check);\n"
+            + "  window.removeEventListener('load', check);\n"
+            + "  callback(failed);\n"
+            + "}\n"
+            + "function check() {\n"
+            + "  var failed = unmet();\n"
+            + "  if (failed.length === 0) finish(failed);\n"
+            + "}\n"
+            + "check();\n"
+            + "if (!done) {\n"
+            + "  if (window.MutationObserver) {\n"
+            + "    observer = new MutationObserver(check);\n"
+            + "    observer.observe(document,\n"
+            + "        {childList: true, subtree: true, attributes: true, characterData: true});\n"
+            + "  }\n"
+            + "  document.addEventListener('readystatechange', check);\n"
+            + "  window.addEventListener('load', check);\n"
+            // catches changes no mutation reports, like stylesheet transitions or script conditions
+            + "  interval = setInterval(check, 250);\n"
+            + "  timer = setTimeout(function () { finish(unmet()); }, timeout);\n"
+            + "}";
+
+    /**
+     * Time the script timeout exceeds readiness timeout by, so that the script reports unmet conditions
+     * before WebDriver gives up on it
+     */
+    private static final long SCRIPT_TIMEOUT_MARGIN = 2000;
+
+    private final List<Condition> conditions = new ArrayList<>();
+
+    private Readiness() {
+        conditions.add(new Condition("document complete", null, Arrays.asList("readyState", "complete"), 0, true));
+    }
+
+    /**
+     * @return readiness requiring only the document to be complete
+     */
+    public static Readiness when() {
+        return new Readiness();
+    }
+
+    /**
+     * @param elements elements required to be visible
+     * @return this readiness
+     */
+    public Readiness visible(WebElementFacade... elements) {
+        return add(ElementStates.VISIBLE, true, elements);
+    }
+
+    /**
+     * @param elements elements required not to be visible
+     * @return this readiness
+     */
+    public Readiness notVisible(WebElementFacade... elements) {
+        return add(ElementStates.VISIBLE, false, elements);
+    }
+
+    /**
+     * @param elements elements required to be enabled
+     * @return this readiness
+     */
+    public Readiness enabled(WebElementFacade... elements) {
+        return add(ElementStates.ENABLED, true, elements);
+    }
+
+    /**
+     * @param elements elements required not to be enabled
+     * @return this readiness
+     */
+    public Readiness notEnabled(WebElementFacade... elements) {
+        return add(ElementStates.ENABLED, false, elements);
+    }
+
+    /**
+     * @param elements elements required to be present
+     * @return this readiness
+     */
+    public Readiness present(WebElementFacade... elements) {
+        return add(ElementStates.PRESENT, true, elements);
+    }
+
+    /**
+     * @param elements elements required not to be present
+     * @return this readiness
+     */
+    public Readiness notPresent(WebElementFacade... elements) {
+        return add(ElementStates.PRESENT, false, elements);
+    }
+
+    /**
+     * @param locators locators of elements required to be visible
+     * @return this readiness
+     */
+    public Readiness visible(By... locators) {
+        return add(ElementStates.VISIBLE, true, locators);
+    }
+
+    /**
+     * @param locators locators of elements required not to be visible
+     * @return this readiness
+     */
+    public Readiness notVisible(By... locators) {
+        return add(ElementStates.VISIBLE, false, locators);
+    }
+
+    /**
+     * @param locators locators of elements required to be present
+     * @return this readiness
+     */
+    public Readiness present(By... locators) {
+        return add(ElementStates.PRESENT, true, locators);
+    }
+
+    /**
+     * @param locators locators of elements required not to be present
+     * @return this readiness
+     */
+    public Readiness notPresent(By... locators) {
+        return add(ElementStates.PRESENT, false, locators);
+    }
+
+    /**
+     * @param expression JavaScript expression required to be truthy, for example {@code "window.jQuery.active == 0"}
+     * @return this readiness
+     */
+    public Readiness condition(String expression) {
+        conditions.add(new Condition("[" + expression + "]", null, Arrays.asList("script", expression), 0, true));
+        return this;
+    }
+
+    private Readiness add(int state, boolean expected, WebElementFacade... elements) {
+        for (WebElementFacade element : elements) {
+            conditions.add(new Condition(null, element, null, state, expected));
+        }
+        return this;
+    }
+
+    private Readiness add(int state, boolean expected, By... locators) {
+        for (By by : locators) {
+            List<String> locator = ElementStates.toLocator(by);
+            if (locator == null) {
+                throw new IllegalArgumentException("Locator " + by + " can't be awaited, use one of the By"
+                        + " locators built into Selenium");
+            }
+            conditions.add(new Condition("[" + by + "]", null, locator, state, expected));
+        }
+        return this;
+    }
+
+    /**
+     * Waits until all conditions hold. Sets the driver's asynchronous script timeout to the page's wait timeout
+     * plus {@link #SCRIPT_TIMEOUT_MARGIN}, unless the calling thread's {@link PageContext} set it already, and
+     * leaves it there
+     *
+     * @param page page declaring the conditions
+     * @throws TimeoutException if any condition does not hold within the page's wait timeout
+     */
+    void await(Page<?> page) {
+        WebDriver driver = page.getDriver();
+        if (!(driver instanceof JavascriptExecutor)) {
+            throw new IllegalStateException("Readiness of " + page.getClass().getName()
+                    + " can't be awaited with " + driver + ", which does not execute JavaScript");
+        }
+        List<List<Object>> arguments = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            arguments.add(condition.toArgument(page));
+        }
+        long timeout = page.waitForTimeoutInMilliseconds();
+        long scriptTimeout = timeout + SCRIPT_TIMEOUT_MARGIN;
+        PageContext current = Page.getContext();
+        if (current.getDriver() != driver || current.getScriptTimeout() != scriptTimeout) {
+            driver.manage().timeouts().setScriptTimeout(scriptTimeout, TimeUnit.MILLISECONDS);
+            if (current.getDriver() == driver) {
+                current.setScriptTimeout(scriptTimeout);
+            }
+        }
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, arguments, timeout);
+        if (!(result instanceof List)) {
+            throw new IllegalStateException("Unexpected result of readiness script: " + result);
+        }
+        List<?> unmet = (List<?>) result;
+        if (!unmet.isEmpty()) {
+            StringBuilder description = new StringBuilder();
+            for (Object index : unmet) {
+                description.append(description.length() == 0 ? "" : ", ")
+                        .append(conditions.get(((Number) index).intValue()).describe(page));
+            }
+            throw new TimeoutException(page.getClass().getSimpleName() + " not ready after " + timeout
+                    + " ms, waiting for " + description);
+        }
+    }
+
+    private static final class Condition {
+        private final String name;
+        private final WebElementFacade element;
+        private final List<String> locator;
+        private final int state;
+        private final boolean expected;
+
+        private Condition(String name, WebElementFacade element, List<String> locator, int state,
+                          boolean expected) {
+            this.name = name;
+            this.element = element;
+            this.locator = locator;
+            this.state = state;
+            this.expected = expected;
+        }
+
+        private List<Object> toArgument(Page<?> page) {
+            List<String> resolved = locator;
+            if (element != null) {
+                Field field = ElementStates.fieldHolding(page, element);
+                resolved = field == null ? null : ElementStates.locatorOf(page, field);
+                if (resolved == null) {
+                    throw new IllegalArgumentException("Element " + (field == null ? "" : field.getName() + " ")
+                            + "can't be awaited, only elements held by fields of " + page.getClass().getName()
+                            + " with a built in locator are supported");
+                }
+            }
+            return Arrays.<Object>asList(resolved.get(0), resolved.get(1), state, expected);
+        }
+
+        private String describe(Page<?> page) {
+            String description = name;
+            if (element != null) {
+                description = "[" + page.getClass().getSimpleName() + "." + ElementStates.fieldHolding(page, element)
+                        .getName() + "]";
+            }
+            if (state == 0) {
+                return description;
+            }
+            String expectation = state == ElementStates.PRESENT ? "present"
+                    : state == ElementStates.VISIBLE ? "visible" : "enabled";
+            return description + (expected ? " to be " : " not to be ") + expectation;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package net.jockx.fluentpage;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Ordered comparison behind {@link Assertion#assertEquals(Iterator, Iterator)} and its iterable and collection
+ * variants. Elements are compared as they are produced and the comparison stops at the first difference, keeping
+ * only the last few equal elements as context, so memory stays constant however long the sequences are. Nothing
+ * is formatted unless they differ.
+ */
+final class SequenceDiff {
+
+    /**
+     * Number of elements shown before and after the first difference
+     */
+    static final int CONTEXT = 3;
+
+    private SequenceDiff() {
+    }
+
+    /**
+     * @param actual   the actual elements, consumed up to a few elements past the first difference
+     * @param expected the expected elements, consumed up to a few elements past the first difference
+     * @param kind     name of the compared sequences, such as {@code Iterators}
+     * @return description of the first difference with surrounding elements, or {@code null} if both return the same
+     * elements in the same order
+     */
+    static String differences(Iterator<?> actual, Iterator<?> expected, String kind) {
+        if (actual == expected) {
+            return null;
+        }
+        if (actual == null || expected == null) {
+            return kind + " not equal: expected [" + expected + "] but found [" + actual + "]";
+        }
+        Object[] preceding = new Object[CONTEXT];
+        int index = 0;
+        while (actual.hasNext() && expected.hasNext()) {
+            Object actualElement = actual.next();
+            Object expectedElement = expected.next();
+            if (!equal(actualElement, expectedElement)) {
+                return describe(kind, index, preceding, true, actualElement, actual, true, expectedElement,
+                        expected);
+            }
+            preceding[index % CONTEXT] = expectedElement;
+            index++;
+        }
+        if (!actual.hasNext() && !expected.hasNext()) {
+            return null;
+        }
+        boolean hasActual = actual.hasNext();
+        boolean hasExpected = expected.hasNext();
+        return describe(kind, index, preceding, hasActual, hasActual ? actual.next() : null, actual, hasExpected,
+                hasExpected ? expected.next() : null, expected);
+    }
+
+    /**
+     * @return description of the first difference between elements of the iterables, or {@code null} if they return
+     * the same elements in the same order
+     */
+    static String differences(Iterable<?> actual, Iterable<?> expected) {
+        if (actual == expected) {
+            return null;
+        }
+        if (actual == null || expected == null) {
+            return "Iterables not equal: expected [" + expected + "] but found [" + actual + "]";
+        }
+        return differences(actual.iterator(), expected.iterator(), "Iterables");
+    }
+
+    /**
+     * @return description of the first difference between elements of the collections, preceded by their sizes if
+     * they differ, or {@code null} if they hold the same elements in the same order
+     */
+    static String differences(Collection<?> actual, Collection<?> expected) {
+        if (actual == expected) {
+            return null;
+        }
+        if (actual == null || expected == null) {
+            return "Collections not equal: expected [" + expected + "] but found [" + actual + "]";
+        }
+        String differences = differences(actual.iterator(), expected.iterator(), "Collections");
+        if (differences == null || actual.size() == expected.size()) {
+            return differences;
+        }
+        return "Collections differ in size: expected " + expected.size() + " but found " + actual.size() + "; "
+                + differences;
+    }
+
+    /**
+     * Equality the way TestNG compares elements, arrays by their content
+     */
+    private static boolean equal(Object actual, Object expected) {
+        if (actual == expected) {
+            return true;
+        }
+        if (actual == null || expected == null) {
+            return false;
+        }
+        return expected.getClass().isArray() ? Objects.deepEquals(expected, actual) : expected.equals(actual);
+    }
+
+    private static String describe(String kind, int index, Object[] preceding, boolean hasActual, Object actual,
+                                   Iterator<?> actualRest, boolean hasExpected, Object expected,
+                                   Iterator<?> expectedRest) {
+        StringBuilder description = new StringBuilder(kind).append(" differ at element [").append(index)
+                .append("]: expected ");
+        element(description, hasExpected, expected).append(" but found ");
+        element(description, hasActual, actual);
+        description.append("\n  expected: ");
+        context(description, index, preceding, hasExpected, expected, expectedRest);
+        description.append("\n  actual:   ");
+        context(description, index, preceding, hasActual, actual, actualRest);
+        return description.toString();
+    }
+
+    private static StringBuilder element(StringBuilder description, boolean present, Object element) {
+        return present ? description.append('[').append(format(element)).append(']') : description.append("end");
+    }
+
+    /**
+     * Appends equal elements before the difference, the differing element and a few elements after it
+     */
+    private static void context(StringBuilder description, int index, Object[] preceding, boolean present,
+                                Object element, Iterator<?> rest) {
+        int from = Math.max(0, index - CONTEXT);
+        if (from > 0) {
+            description.append("..., ");
+        }
+        for (int i = from; i < index; i++) {
+            description.append(format(preceding[i % CONTEXT])).append(", ");
+        }
+        if (!present) {
+            description.append("end");
+            return;
+        }
+        description.append('[').append(format(element)).append(']');
+        for (int i = 0; i < CONTEXT && rest.hasNext(); i++) {
+            description.append(", ").append(format(rest.next()));
+        }
+        description.append(rest.hasNext() ? ", ..." : ", end");
+    }
+
+    private static String format(Object element) {
+        if (element instanceof Object[]) {
+            return Arrays.deepToString((Object[]) element);
+        }
+        return String.valueOf(element);
+    }
+}
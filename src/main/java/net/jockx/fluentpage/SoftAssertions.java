@@ -0,0 +1,109 @@
+package net.jockx.fluentpage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Failures collected in {@link Assertion#soft()} mode of a {@link PageContext}. Element state checks are deferred
+ * into one {@link ElementBatch} per page and resolved by {@link #verify()}, each keeping the slot of its
+ * assertion so failures are reported in the order assertions were made.
+ */
+final class SoftAssertions {
+
+    /**
+     * Failure or {@link Deferred} element check of each assertion, indexed by slot
+     */
+    private final List<Object> slots = new ArrayList<>();
+    private final List<ElementBatch<?>> batches = new ArrayList<>();
+
+    void add(AssertionError failure) {
+        slots.add(failure);
+    }
+
+    /**
+     * Reserves a slot for element checks resolved later
+     *
+     * @return slot of the checks
+     */
+    int defer(String message, MessageSupplier supplier) {
+        slots.add(new Deferred(message, supplier));
+        return slots.size() - 1;
+    }
+
+    /**
+     * @return batch collecting deferred element checks of given page
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Page<T>> ElementBatch<T> batchOf(T page) {
+        for (ElementBatch<?> batch : batches) {
+            if (batch.getPage() == page) {
+                return (ElementBatch<T>) batch;
+            }
+        }
+        ElementBatch<T> batch = new ElementBatch<>(page);
+        batches.add(batch);
+        return batch;
+    }
+
+    /**
+     * Resolves deferred element checks, one script execution per page, and forgets everything collected.
+     * If resolving throws, the exception is listed as one more failure after the ones already collected.
+     *
+     * @throws AssertionError listing all failures, if there were any
+     */
+    void verify() {
+        List<AssertionError> failures = new ArrayList<>();
+        AssertionError unresolved = null;
+        try {
+            StringBuilder[] unmet = new StringBuilder[slots.size()];
+            try {
+                for (ElementBatch<?> batch : batches) {
+                    batch.resolve(unmet);
+                }
+            } catch (RuntimeException e) {
+                unresolved = new AssertionError("Unable to resolve element checks: " + e.getMessage(), e);
+            }
+            for (int i = 0; i < slots.size(); i++) {
+                Object slot = slots.get(i);
+                if (slot instanceof AssertionError) {
+                    failures.add((AssertionError) slot);
+                } else if (unmet[i] != null) {
+                    failures.add(new AssertionError(((Deferred) slot).message() + ": expected " + unmet[i]));
+                }
+            }
+        } finally {
+            slots.clear();
+            batches.clear();
+        }
+        if (unresolved != null) {
+            failures.add(unresolved);
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+        StringBuilder description = new StringBuilder().append(failures.size())
+                .append(failures.size() == 1 ? " soft assertion failed:" : " soft assertions failed:");
+        for (int i = 0; i < failures.size(); i++) {
+            description.append("\n  ").append(i + 1).append(") ").append(failures.get(i).getMessage());
+        }
+        AssertionError combined = new AssertionError(description.toString());
+        for (AssertionError failure : failures) {
+            combined.addSuppressed(failure);
+        }
+        throw combined;
+    }
+
+    private static final class Deferred {
+        private final String message;
+        private final MessageSupplier supplier;
+
+        private Deferred(String message, MessageSupplier supplier) {
+            this.message = message;
+            this.supplier = supplier;
+        }
+
+        private String message() {
+            return supplier != null ? supplier.get() : message;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Text content of an HTML table, read with a single script execution by {@link Page#readTable(WebElement)}.
+ * Cells are stored by column, so that a whole column is available without copying.
+ * <p>The header is the last row of {@code <thead>} or, without one, the first row if it consists of
+ * {@code <th>} cells only. Rows of {@code <tfoot>} and of nested tables are left out. Cell texts are their
+ * text content with whitespace collapsed, hidden cells included, and missing cells of shorter rows are
+ * empty.</p>
+ */
+@SuppressWarnings("unused")
+public class Table {
+
+    /**
+     * Takes a table element and returns a list of header texts, a list of columns, each a list of cell texts,
+     * and the number of body rows, which columns can't tell when rows have no cells
+     */
+    static final String SCRIPT = "/* fluent-page table */\n"
+            + "var table = arguments[0], rows = table.rows, header = null, body = [], width = 0;\n"
+            + "function text(cell) { return (cell.textContent || '').replace(/\\s+/g, ' ').trim(); }\n"
+            + "function headerOnly(row) {\n"
+            + "  for (var i = 0; i < row.cells.length; i++) if (row.cells[i].tagName !== 'TH') return false;\n"
+            + "  return row.cells.length > 0;\n"
+            + "}\n"
+            + "if (table.tHead && table.tHead.rows.length) {\n"
+            + "  header = table.tHead.rows[table.tHead.rows.length - 1];\n"
+            + "}\n"
+            + "else if (rows.length && headerOnly(rows[0])) header = rows[0];\n"
+            + "for (var r = 0; r < rows.length; r++) {\n"
+            + "  var section = rows[r].parentNode;\n"
+            + "  if (rows[r] === header || section === table.tHead || section === table.tFoot) continue;\n"
+            + "  body.push(rows[r]);\n"
+            + "  width = Math.max(width, rows[r].cells.length);\n"
+            + "}\n"
+            + "var headers = [];\n"
+            + "if (header) {\n"
+            + "  for (var h = 0; h < header.cells.length; h++) headers.push(text(header.cells[h]));\n"
+            + "  width = Math.max(width, headers.length);\n"
+            + "}\n"
+            + "var columns = [];\n"
+            + "for (var c = 0; c < width; c++) columns.push(new Array(body.length));\n"
+            + "for (var b = 0; b < body.length; b++) {\n"
+            + "  var cells = body[b].cells;\n"
+            + "  for (var k = 0; k < width; k++) columns[k][b] = k < cells.length ? text(cells[k]) : '';\n"
+            + "}\n"
+            + "return [headers, columns, body.length];";
+
+    private final String[] headers;
+    private final String[][] columns;
+    private final int rowCount;
+
+    Table(String[] headers, String[][] columns, int rowCount) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * @param driver driver to execute the script with
+     * @param table  table element
+     * @return content of the table
+     */
+    static Table read(WebDriver driver, WebElement table) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            throw new IllegalStateException("Tables can't be read with " + driver
+                    + ", which does not execute JavaScript");
+        }
+        WebElement element = table;
+        while (element instanceof WrapsElement) {
+            element = ((WrapsElement) element).getWrappedElement();
+        }
+        Object result = ((JavascriptExecutor) driver).executeScript(SCRIPT, element);
+        if (!(result instanceof List) || ((List<?>) result).size() != 3) {
+            throw new IllegalStateException("Unexpected result of table script: " + result);
+        }
+        List<?> headerTexts = (List<?>) ((List<?>) result).get(0);
+        List<?> columnTexts = (List<?>) ((List<?>) result).get(1);
+        String[] headers = new String[headerTexts.size()];
+        for (int i = 0; i < headers.length; i++) {
+            headers[i] = String.valueOf(headerTexts.get(i));
+        }
+        String[][] columns = new String[columnTexts.size()][];
+        for (int c = 0; c < columns.length; c++) {
+            List<?> cells = (List<?>) columnTexts.get(c);
+            columns[c] = new String[cells.size()];
+            for (int r = 0; r < columns[c].length; r++) {
+                Object cell = cells.get(r);
+                columns[c][r] = cell == null ? "" : cell.toString();
+            }
+        }
+        return new Table(headers, columns, ((Number) ((List<?>) result).get(2)).intValue());
+    }
+
+    /**
+     * @return texts of header cells, empty if the table has no header
+     */
+    public List<String> getHeaders() {
+        return Collections.unmodifiableList(Arrays.asList(headers));
+    }
+
+    /**
+     * @return number of columns, including those without a header
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * @return number of rows, not counting the header
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @param header text of the column's header cell
+     * @return index of the first column with given header
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public int indexOf(String header) {
+        for (int i = 0; i < headers.length; i++) {
+            if (headers[i].equals(header)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No column [" + header + "] in table with headers "
+                + Arrays.toString(headers));
+    }
+
+    /**
+     * @param index index of the column, starting with 0
+     * @return cell texts of the column, from top to bottom
+     */
+    public List<String> column(int index) {
+        return Collections.unmodifiableList(Arrays.asList(columns[index]));
+    }
+
+    /**
+     * @param header text of the column's header cell
+     * @return cell texts of the column, from top to bottom
+     */
+    public List<String> column(String header) {
+        return column(indexOf(header));
+    }
+
+    /**
+     * @param index index of the row, starting with 0 for the first row after the header
+     * @return cell texts of the row, from left to right
+     */
+    public List<String> row(final int index) {
+        if (index < 0 || index >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + index + " of " + rowCount);
+        }
+        return new AbstractList<String>() {
+            @Override
+            public String get(int column) {
+                return columns[column][index];
+            }
+
+            @Override
+            public int size() {
+                return columns.length;
+            }
+        };
+    }
+
+    /**
+     * @param row    index of the row, starting with 0 for the first row after the header
+     * @param column index of the column, starting with 0
+     * @return text of the cell
+     */
+    public String cell(int row, int column) {
+        return columns[column][row];
+    }
+
+    @Override
+    public String toString() {
+        return "Table" + Arrays.toString(headers) + "[rows=" + rowCount + ", columns=" + columns.length + "]";
+    }
+}
@@ -0,0 +1,35 @@
+package net.jockx.fluentpage;
+
+/**
+ * Differences ignored by {@link Assertion#assertTextEqualsNormalized(String, String, TextNormalization, String)}
+ */
+public enum TextNormalization {
+    /**
+     * Leading and trailing whitespace is ignored and every other run of whitespace matches a single space
+     */
+    WHITESPACE(true, false),
+    /**
+     * Characters match regardless of their case, the way {@link String#equalsIgnoreCase(String)} compares them
+     */
+    CASE(false, true),
+    /**
+     * Both {@link #WHITESPACE} and {@link #CASE}
+     */
+    WHITESPACE_AND_CASE(true, true);
+
+    private final boolean whitespace;
+    private final boolean ignoringCase;
+
+    TextNormalization(boolean whitespace, boolean ignoringCase) {
+        this.whitespace = whitespace;
+        this.ignoringCase = ignoringCase;
+    }
+
+    boolean isWhitespace() {
+        return whitespace;
+    }
+
+    boolean isIgnoringCase() {
+        return ignoringCase;
+    }
+}
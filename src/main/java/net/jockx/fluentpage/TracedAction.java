@@ -0,0 +1,56 @@
+package net.jockx.fluentpage;
+
+/**
+ * Page action reported to {@link PageListener}s, started by {@link Page#action(String)} and ended by
+ * {@link #close()}, usually with try-with-resources. An action that throws is marked with {@link #failed(Throwable)}
+ * so it is not reported as successful:
+ * <pre>
+ * public SearchPage search(String text) {
+ *     try (TracedAction action = action("search")) {
+ *         try {
+ *             query.type(text);
+ *             searchButton.click();
+ *             return this;
+ *         } catch (RuntimeException | Error e) {
+ *             action.failed(e);
+ *             throw e;
+ *         }
+ *     }
+ * }
+ * </pre>
+ * While no listener is registered, a shared instance that does nothing is used.
+ */
+public final class TracedAction implements AutoCloseable {
+
+    static final TracedAction NONE = new TracedAction(null, null, PageListeners.NOT_STARTED);
+
+    private final Class<?> page;
+    private final String name;
+    private final long start;
+    private Throwable failure;
+
+    TracedAction(Class<?> page, String name, long start) {
+        this.page = page;
+        this.name = name;
+        this.start = start;
+    }
+
+    /**
+     * Marks the action as failed, reported by {@link #close()} with the first failure marked
+     *
+     * @param failure error the action failed with
+     */
+    public void failed(Throwable failure) {
+        if (this != NONE && this.failure == null) {
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Ends the action, reporting it as successful unless it was marked with {@link #failed(Throwable)}
+     */
+    @Override
+    public void close() {
+        PageListeners.end(PageListener.Kind.ACTION, page, name, start, failure);
+    }
+}
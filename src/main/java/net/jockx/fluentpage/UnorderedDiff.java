@@ -0,0 +1,160 @@
+package net.jockx.fluentpage;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Multiset comparison behind {@link Assertion#assertEqualsNoOrder(Object[], Object[])}. Elements are counted in a hash
+ * map, expected ones up and actual ones down, so the comparison is linear instead of searching one array for every
+ * element of the other. Large inputs are counted in parallel chunks merged afterwards.
+ */
+final class UnorderedDiff {
+
+    /**
+     * Combined length of both arrays above which they are counted in parallel
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 17;
+    private static final int CHUNK = 1 << 14;
+    private static final int MAX_LISTED = 10;
+
+    private UnorderedDiff() {
+    }
+
+    /**
+     * @param actual   the actual elements
+     * @param expected the expected elements
+     * @return description of missing and unexpected elements with their counts, or {@code null} if both hold the
+     * same elements the same number of times
+     */
+    static String differences(Object[] actual, Object[] expected) {
+        if (actual == expected) {
+            return null;
+        }
+        if (actual == null || expected == null) {
+            return "expected [" + Arrays.toString(expected) + "] but found [" + Arrays.toString(actual) + "]";
+        }
+        Map<Object, Count> counts = actual.length + expected.length > PARALLEL_THRESHOLD
+                ? Pool.INSTANCE.invoke(new CountTask(actual, expected, 0, actual.length + expected.length))
+                : count(actual, expected, 0, actual.length + expected.length);
+        return describe(counts, actual.length, expected.length);
+    }
+
+    /**
+     * Counts elements of a range of the expected array followed by the actual one
+     */
+    private static Map<Object, Count> count(Object[] actual, Object[] expected, int from, int to) {
+        Map<Object, Count> counts = new LinkedHashMap<>(Math.min(to - from, expected.length) * 4 / 3 + 1);
+        for (int i = from; i < to; i++) {
+            boolean isExpected = i < expected.length;
+            Object element = isExpected ? expected[i] : actual[i - expected.length];
+            Count count = counts.get(element);
+            if (count == null) {
+                count = new Count();
+                counts.put(element, count);
+            }
+            count.value += isExpected ? 1 : -1;
+        }
+        return counts;
+    }
+
+    private static String describe(Map<Object, Count> counts, int actualLength, int expectedLength) {
+        StringBuilder missing = new StringBuilder();
+        StringBuilder unexpected = new StringBuilder();
+        int missingCount = 0;
+        int unexpectedCount = 0;
+        int missingListed = 0;
+        int unexpectedListed = 0;
+        for (Map.Entry<Object, Count> entry : counts.entrySet()) {
+            int value = entry.getValue().value;
+            if (value > 0) {
+                missingCount += value;
+                if (missingListed++ < MAX_LISTED) {
+                    append(missing, entry.getKey(), value);
+                }
+            } else if (value < 0) {
+                unexpectedCount -= value;
+                if (unexpectedListed++ < MAX_LISTED) {
+                    append(unexpected, entry.getKey(), -value);
+                }
+            }
+        }
+        if (missingCount == 0 && unexpectedCount == 0) {
+            return null;
+        }
+        StringBuilder description = new StringBuilder("expected ").append(expectedLength)
+                .append(" elements in any order but found ").append(actualLength);
+        if (missingCount > 0) {
+            description.append("; missing ").append(missingCount).append(": ").append(missing);
+            more(description, missingListed);
+        }
+        if (unexpectedCount > 0) {
+            description.append("; unexpected ").append(unexpectedCount).append(": ").append(unexpected);
+            more(description, unexpectedListed);
+        }
+        return description.toString();
+    }
+
+    private static void append(StringBuilder list, Object element, int count) {
+        list.append(list.length() == 0 ? "[" : ", [").append(element).append(']');
+        if (count > 1) {
+            list.append(" x").append(count);
+        }
+    }
+
+    private static void more(StringBuilder description, int listed) {
+        if (listed > MAX_LISTED) {
+            description.append(" and ").append(listed - MAX_LISTED).append(" more");
+        }
+    }
+
+    private static final class Count {
+        private int value;
+    }
+
+    /**
+     * Counts a range of the expected array followed by the actual one, splitting it in halves down to a chunk
+     */
+    private static final class CountTask extends RecursiveTask<Map<Object, Count>> {
+        private final Object[] actual;
+        private final Object[] expected;
+        private final int from;
+        private final int to;
+
+        private CountTask(Object[] actual, Object[] expected, int from, int to) {
+            this.actual = actual;
+            this.expected = expected;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Object, Count> compute() {
+            if (to - from <= CHUNK) {
+                return count(actual, expected, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            CountTask right = new CountTask(actual, expected, middle, to);
+            right.fork();
+            Map<Object, Count> counts = new CountTask(actual, expected, from, middle).compute();
+            for (Map.Entry<Object, Count> entry : right.join().entrySet()) {
+                Count count = counts.get(entry.getKey());
+                if (count == null) {
+                    counts.put(entry.getKey(), entry.getValue());
+                } else {
+                    count.value += entry.getValue().value;
+                }
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Pool of the parallel path, started on first use
+     */
+    private static final class Pool {
+        private static final ForkJoinPool INSTANCE = new ForkJoinPool();
+    }
+}
@@ -0,0 +1,242 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls conditions awaited by {@link Page#waitUntil(ExpectedCondition)}. The condition is checked right away,
+ * then again once most of the time the page usually takes to load has passed, then with an interval growing
+ * from the minimal to the maximal one. Pages loading much slower than they used to are reported with a warning.
+ * <p>Load times are learned per {@link Page} subclass, and kept between runs when a history file is given:</p>
+ * <pre>
+ * Page.useWaitScheduler(WaitScheduler.withHistory(new File("target/load-history.properties")));
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public class WaitScheduler {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(WaitScheduler.class);
+    private static final long DEFAULT_MIN_INTERVAL = 50;
+    private static final long DEFAULT_MAX_INTERVAL = 1000;
+    /**
+     * Number of loads a page has to be recorded for, before a slower one is reported
+     */
+    private static final int MIN_SAMPLES = 5;
+    private static final ConcurrentMap<File, LoadHistory> histories = new ConcurrentHashMap<>();
+
+    private final LoadHistory history;
+    private final long minInterval;
+    private final long maxInterval;
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong slowLoads = new AtomicLong();
+    /**
+     * Marks threads timing a page load, so loads nested in it, such as readiness conditions awaited by
+     * {@link Page#waitToLoad()} called from {@link Page#waitForPage(Class)}, are not recorded on their own
+     */
+    private final ThreadLocal<Boolean> loading = new ThreadLocal<>();
+
+    private WaitScheduler(LoadHistory history, long minInterval, long maxInterval) {
+        this.history = history;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+    }
+
+    /**
+     * @return scheduler learning load times for the current run only
+     */
+    public static WaitScheduler inMemory() {
+        return new WaitScheduler(new LoadHistory(null), DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * @param file properties file to read learned load times from, created if missing. It is saved
+     *             when the JVM shuts down, or on {@link #save()}. Schedulers using the same file share
+     *             the learned load times
+     * @return scheduler learning load times across runs
+     */
+    public static WaitScheduler withHistory(File file) {
+        return new WaitScheduler(historyOf(file), DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * @return history kept in the file, shared by all schedulers using it and saved by a single shutdown hook
+     */
+    private static LoadHistory historyOf(File file) {
+        File key = file.getAbsoluteFile();
+        LoadHistory history = histories.get(key);
+        if (history != null) {
+            return history;
+        }
+        final LoadHistory created = new LoadHistory(key);
+        history = histories.putIfAbsent(key, created);
+        if (history != null) {
+            return history;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                created.save();
+            }
+        }, "fluent-page-load-history"));
+        return created;
+    }
+
+    /**
+     * @param min  interval between the first polls after the learned load time
+     * @param max  interval the polling backs off to, for pages taking long to load
+     * @param unit unit of both intervals
+     * @return scheduler sharing this scheduler's history, polling with given intervals
+     */
+    public WaitScheduler withPollingIntervals(long min, long max, TimeUnit unit) {
+        if (min <= 0 || max < min) {
+            throw new IllegalArgumentException("Polling intervals have to be positive, with min <= max, got "
+                    + min + " and " + max);
+        }
+        return new WaitScheduler(history, unit.toMillis(min), unit.toMillis(max));
+    }
+
+    /**
+     * Polls the condition until it returns neither {@code null} nor {@code false}. Elements not found
+     * and stale elements are treated as the condition not being met yet. Load times are recorded per page load,
+     * see {@link #startLoad()}, not per condition.
+     *
+     * @param page      page waiting to load
+     * @param condition condition to poll
+     * @param <V>       type of the condition's value
+     * @return value returned by the condition
+     * @throws TimeoutException if the condition isn't met within the page's wait timeout
+     */
+    <V> V await(Page<?> page, ExpectedCondition<V> condition) {
+        long start = System.nanoTime();
+        long timeout = page.waitForTimeoutInMilliseconds();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeout);
+        LoadHistory.Entry learned = history.get(page.getClass().getName());
+        long firstPoll = learned == null ? 0 : TimeUnit.MILLISECONDS.toNanos(learned.getMean() * 4 / 5);
+        long interval = minInterval;
+        RuntimeException last = null;
+        for (int attempt = 0; ; attempt++) {
+            polls.incrementAndGet();
+            try {
+                V value = condition.apply(page.getDriver());
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return value;
+                }
+                last = null;
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                last = e;
+            }
+            long now = System.nanoTime();
+            if (now - deadline >= 0) {
+                slowLoads.incrementAndGet();
+                throw new TimeoutException(page.getClass().getSimpleName() + " not loaded after " + timeout
+                        + " ms waiting for " + condition + " (" + (attempt + 1) + " polls)", last);
+            }
+            long sleep;
+            if (attempt == 0 && start + firstPoll - now > TimeUnit.MILLISECONDS.toNanos(minInterval)) {
+                sleep = start + firstPoll - now;
+            } else {
+                sleep = TimeUnit.MILLISECONDS.toNanos(interval);
+                interval = Math.min(interval * 3 / 2, maxInterval);
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.min(sleep, deadline - now));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while waiting for " + page.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * Starts timing a page load on the calling thread
+     *
+     * @return start of the load, or -1 if the thread is already timing one enclosing it
+     */
+    long startLoad() {
+        if (loading.get() != null) {
+            return -1;
+        }
+        loading.set(Boolean.TRUE);
+        return System.nanoTime();
+    }
+
+    /**
+     * Ends timing a page load started with {@link #startLoad()}, recording it as a single sample if it succeeded
+     *
+     * @param page   page that was loading
+     * @param start  value returned by {@link #startLoad()}
+     * @param loaded whether the page loaded, rather than timed out or failed
+     */
+    void endLoad(Page<?> page, long start, boolean loaded) {
+        if (start < 0) {
+            return;
+        }
+        loading.remove();
+        if (loaded) {
+            record(page, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Adds a load time to the page's history, reporting it if much slower than usual
+     *
+     * @param page   loaded page
+     * @param millis time it took to load
+     */
+    void record(Page<?> page, long millis) {
+        LoadHistory.Entry previous = history.record(page.getClass().getName(), millis);
+        if (previous != null && previous.getCount() >= MIN_SAMPLES
+                && millis > previous.getMean() + 3 * previous.getDeviation()
+                && millis > previous.getMean() * 3 / 2) {
+            slowLoads.incrementAndGet();
+            LOGGER.warn("{} took {} ms to load, usually {} ms", page.getClass().getName(), millis,
+                    previous.getMean());
+        }
+    }
+
+    /**
+     * @param type page class
+     * @return learned load time of the page in milliseconds, or -1 if it was not recorded yet
+     */
+    public long getExpectedLoadMillis(Class<? extends Page> type) {
+        LoadHistory.Entry entry = history.get(type.getName());
+        return entry == null ? -1 : entry.getMean();
+    }
+
+    /**
+     * @return number of times conditions were polled
+     */
+    public long getPollCount() {
+        return polls.get();
+    }
+
+    /**
+     * @return number of loads that timed out or took much longer than usual
+     */
+    public long getSlowLoadCount() {
+        return slowLoads.get();
+    }
+
+    /**
+     * Writes learned load times to the history file, if there is one
+     */
+    public void save() {
+        history.save();
+    }
+
+    @Override
+    public String toString() {
+        return "WaitScheduler[polls=" + polls.get() + ", slowLoads=" + slowLoads.get()
+                + (history.getFile() == null ? "" : ", history=" + history.getFile()) + "]";
+    }
+}
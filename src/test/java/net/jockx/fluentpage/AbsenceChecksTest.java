@@ -0,0 +1,108 @@
+package net.jockx.fluentpage;
+
+import net.thucydides.core.pages.WebElementFacade;
+import org.openqa.selenium.NoSuchElementException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class AbsenceChecksTest {
+
+    public static class SearchPage extends Page<SearchPage> {
+    }
+
+    private RecordingDriver recording;
+    private AbsenceChecks checks;
+
+    @BeforeMethod
+    public void setUp() {
+        recording = new RecordingDriver();
+        checks = AbsenceChecks.restoringImplicitWait(5, TimeUnit.SECONDS);
+        Page.initialize(recording.driver());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.useAbsenceChecks(null);
+        Page.detach();
+    }
+
+    @Test
+    public void looksUpAbsentElementsWithoutImplicitWait() {
+        SearchPage page = Page.get(SearchPage.class);
+        long start = System.nanoTime();
+        assertFalse(checks.isPresent(page, element(false)));
+        assertFalse(checks.isVisible(page, element(false)));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(recording.count("implicitlyWait"), 4);
+        assertEquals(checks.getCheckCount(), 2);
+        assertEquals(checks.getAbsentCount(), 2);
+        assertTrue(checks.getSavedMillis() >= 10000 - elapsed - 1 && checks.getSavedMillis() <= 10000,
+                "saved " + checks.getSavedMillis() + " ms");
+    }
+
+    @Test
+    public void savesNothingOnPresentElements() {
+        SearchPage page = Page.get(SearchPage.class);
+        assertTrue(checks.isPresent(page, element(true)));
+        assertTrue(checks.isVisible(page, element(true)));
+        assertEquals(checks.getCheckCount(), 2);
+        assertEquals(checks.getAbsentCount(), 0);
+        assertEquals(checks.getSavedMillis(), 0);
+    }
+
+    @Test
+    public void resetsStatistics() {
+        checks.isPresent(Page.get(SearchPage.class), element(false));
+        checks.resetStatistics();
+        assertEquals(checks.getCheckCount(), 0);
+        assertEquals(checks.getAbsentCount(), 0);
+        assertEquals(checks.getSavedMillis(), 0);
+    }
+
+    @Test
+    public void assertsAbsenceThroughFastPath() {
+        Page.useAbsenceChecks(checks);
+        SearchPage page = Page.get(SearchPage.class);
+        page.assertion.assertNotPresent(element(false), "Error is present")
+                .assertion.assertNotVisible(element(false), "Error is visible");
+        assertEquals(checks.getAbsentCount(), 2);
+    }
+
+    /**
+     * @return element answering lookups without waiting, the way Thucydides' "Currently" methods do
+     */
+    private static WebElementFacade element(final boolean present) {
+        return (WebElementFacade) Proxy.newProxyInstance(AbsenceChecksTest.class.getClassLoader(),
+                new Class<?>[]{WebElementFacade.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        switch (method.getName()) {
+                            case "getWrappedElement":
+                                if (!present) {
+                                    throw new NoSuchElementException("Unable to locate element");
+                                }
+                                return proxy;
+                            case "isCurrentlyVisible":
+                            case "isPresent":
+                            case "isVisible":
+                                return present;
+                            case "toString":
+                                return present ? "present element" : "absent element";
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,169 @@
+package net.jockx.fluentpage;
+
+import net.thucydides.core.pages.WebElementFacade;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class AssertionMessagesTest {
+
+    public static class SearchPage extends Page<SearchPage> {
+    }
+
+    private final List<String> steps = new ArrayList<>();
+    private final PageListener listener = new PageListener() {
+        @Override
+        public void stepStarted(Kind kind, Class<?> page, String name) {
+        }
+
+        @Override
+        public void stepEnded(Kind kind, Class<?> page, String name, long startNanos, long endNanos,
+                              Throwable failure) {
+            steps.add(name + (failure == null ? "" : " " + failure.getClass().getSimpleName()));
+        }
+    };
+    private SearchPage page;
+    private int built;
+
+    @BeforeMethod
+    public void setUp() {
+        Page.initialize(new RecordingDriver().driver());
+        Page.addListener(listener);
+        page = Page.get(SearchPage.class);
+        steps.clear();
+        built = 0;
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.removeListener(listener);
+        Page.detach();
+    }
+
+    @Test
+    public void buildsMessagesOnlyOnFailure() {
+        page.assertion.assertEquals("Search", "Search", message("Wrong title"))
+                .assertion.assertContains(Arrays.asList("a", "b"), "a", message("Missing a"));
+        assertEquals(built, 0);
+
+        try {
+            page.assertion.assertEquals("Results", "Search", message("Wrong title"));
+            fail("Expected a failure");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "Wrong title expected [Search] but found [Results]");
+        }
+        assertEquals(built, 1);
+        assertEquals(steps, Arrays.asList("assertEquals", "assertContains", "assertEquals AssertionError"));
+    }
+
+    @Test
+    public void reportsElementChecksThatCannotComplete() {
+        WebElementFacade stale = stale();
+        for (Runnable check : Arrays.asList(visible(stale), notVisible(stale), enabled(stale), disabled(stale),
+                present(stale), notPresent(stale))) {
+            try {
+                check.run();
+                fail("Expected a stale element");
+            } catch (StaleElementReferenceException expected) {
+                // reported below
+            }
+        }
+        assertEquals(built, 0);
+        assertEquals(steps.size(), 6);
+        for (String step : steps) {
+            assertTrue(step.endsWith(" StaleElementReferenceException"), step);
+        }
+    }
+
+    private MessageSupplier message(final String message) {
+        return new MessageSupplier() {
+            @Override
+            public String get() {
+                built++;
+                return message;
+            }
+        };
+    }
+
+    private Runnable visible(final WebElementFacade element) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                page.assertion.assertVisible(element, message("Not visible"));
+            }
+        };
+    }
+
+    private Runnable notVisible(final WebElementFacade element) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                page.assertion.assertNotVisible(element, message("Visible"));
+            }
+        };
+    }
+
+    private Runnable enabled(final WebElementFacade element) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                page.assertion.assertEnabled(element, message("Not enabled"));
+            }
+        };
+    }
+
+    private Runnable disabled(final WebElementFacade element) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                page.assertion.assertNotEnabled(element, message("Enabled"));
+            }
+        };
+    }
+
+    private Runnable present(final WebElementFacade element) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                page.assertion.assertPresent(element, message("Not present"));
+            }
+        };
+    }
+
+    private Runnable notPresent(final WebElementFacade element) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                page.assertion.assertNotPresent(element, message("Present"));
+            }
+        };
+    }
+
+    /**
+     * @return element whose every state check fails, the way an element removed from the document does
+     */
+    private static WebElementFacade stale() {
+        return (WebElementFacade) Proxy.newProxyInstance(AssertionMessagesTest.class.getClassLoader(),
+                new Class<?>[]{WebElementFacade.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("toString")) {
+                            return "stale element";
+                        }
+                        throw new StaleElementReferenceException("Element is no longer attached to the DOM");
+                    }
+                });
+    }
+}
@@ -0,0 +1,161 @@
+package net.jockx.fluentpage;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class AsyncLoggingTest {
+
+    private final List<String> written = Collections.synchronizedList(new ArrayList<String>());
+    private final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+    private CountDownLatch released;
+    private org.slf4j.Logger logger;
+    private AsyncLogging logging;
+
+    @BeforeMethod
+    public void setUp() {
+        written.clear();
+        threads.clear();
+        released = new CountDownLatch(0);
+        logger = (org.slf4j.Logger) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{org.slf4j.Logger.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws InterruptedException {
+                        if (method.getName().equals("isInfoEnabled")) {
+                            return true;
+                        }
+                        if (method.getName().equals("info")) {
+                            released.await();
+                            written.add((String) args[0]);
+                            threads.add(Thread.currentThread().getName());
+                            return null;
+                        }
+                        return method.getReturnType() == boolean.class ? false : null;
+                    }
+                });
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        released.countDown();
+        if (logging != null) {
+            logging.close();
+        }
+    }
+
+    @Test
+    public void writesEventsInOrderAroundTheRing() {
+        logging = AsyncLogging.start(4, AsyncLogging.OverflowPolicy.BLOCK);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(publish("event " + i));
+            expected.add("event " + i);
+        }
+        assertTrue(logging.flush(10, TimeUnit.SECONDS));
+        assertEquals(written, expected);
+        assertEquals(logging.getWrittenCount(), 100);
+        assertEquals(logging.getQueueDepth(), 0);
+        assertTrue(logging.getMaxQueueDepth() <= 4);
+        assertEquals(new HashSet<>(threads), Collections.singleton("fluent-page-async-logging"));
+    }
+
+    @Test
+    public void roundsCapacityUpToPowerOfTwo() {
+        logging = AsyncLogging.start(5, AsyncLogging.OverflowPolicy.DROP);
+        assertEquals(logging.getCapacity(), 8);
+    }
+
+    @Test
+    public void dropsEventsThatDoNotFit() {
+        released = new CountDownLatch(1);
+        logging = AsyncLogging.start(4, AsyncLogging.OverflowPolicy.DROP);
+        for (int i = 0; i < 6; i++) {
+            assertTrue(publish("event " + i));
+        }
+        assertEquals(logging.getDroppedCount(), 2);
+        released.countDown();
+        assertTrue(logging.flush(10, TimeUnit.SECONDS));
+        assertEquals(written.size(), 4);
+        assertEquals(written.get(3), "event 3");
+    }
+
+    @Test
+    public void leavesEventsThatDoNotFitToCaller() {
+        released = new CountDownLatch(1);
+        logging = AsyncLogging.start(4, AsyncLogging.OverflowPolicy.LOG_ON_CALLER);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(publish("event " + i));
+        }
+        assertFalse(publish("event 4"));
+        assertEquals(logging.getCallerLoggedCount(), 1);
+        assertEquals(logging.getDroppedCount(), 0);
+    }
+
+    @Test
+    public void blocksCallersUntilSlotIsFree() throws InterruptedException {
+        released = new CountDownLatch(1);
+        logging = AsyncLogging.start(4, AsyncLogging.OverflowPolicy.BLOCK);
+        Thread caller = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 6; i++) {
+                    publish("event " + i);
+                }
+            }
+        });
+        caller.start();
+        caller.join(200);
+        assertTrue(caller.isAlive());
+        assertEquals(logging.getQueueDepth(), 4);
+
+        released.countDown();
+        caller.join(10000);
+        assertFalse(caller.isAlive());
+        assertTrue(logging.flush(10, TimeUnit.SECONDS));
+        assertEquals(written.size(), 6);
+        assertEquals(logging.getDroppedCount(), 0);
+    }
+
+    @Test
+    public void drainsQueuedEventsOnClose() {
+        released = new CountDownLatch(1);
+        logging = AsyncLogging.start(8, AsyncLogging.OverflowPolicy.DROP);
+        for (int i = 0; i < 5; i++) {
+            publish("event " + i);
+        }
+        released.countDown();
+        logging.close();
+        assertEquals(written.size(), 5);
+        assertEquals(logging.getWrittenCount(), 5);
+        assertFalse(publish("after close"));
+    }
+
+    @Test
+    public void removesShutdownHookOnClose() throws ReflectiveOperationException {
+        logging = AsyncLogging.start();
+        Field field = AsyncLogging.class.getDeclaredField("shutdownHook");
+        field.setAccessible(true);
+        Thread hook = (Thread) field.get(logging);
+        logging.close();
+        assertFalse(Runtime.getRuntime().removeShutdownHook(hook));
+    }
+
+    private boolean publish(String message) {
+        return logging.publish(logger, LogEvent.INFO, LogEvent.MESSAGE, null, message, null, null, null, null);
+    }
+}
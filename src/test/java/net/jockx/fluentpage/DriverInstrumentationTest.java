@@ -0,0 +1,109 @@
+package net.jockx.fluentpage;
+
+import net.jockx.fluentpage.instrumented.CheckoutPage;
+import net.jockx.fluentpage.instrumented.CheckoutSteps;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.internal.WrapsElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class DriverInstrumentationTest {
+
+    private RecordingDriver recording;
+    private DriverInstrumentation instrumentation;
+
+    @BeforeMethod
+    public void setUp() {
+        recording = new RecordingDriver();
+        instrumentation = DriverInstrumentation.create();
+        Page.useInstrumentation(instrumentation);
+        Page.initialize(recording.driver());
+        instrumentation.reset();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.useInstrumentation(null);
+        Page.detach();
+    }
+
+    @Test
+    public void wrapsDriversOfPages() {
+        WebDriver driver = Page.getContext().getDriver();
+        assertNotSame(driver, recording.driver());
+        assertTrue(driver instanceof JavascriptExecutor);
+        assertSame(((WrapsDriver) driver).getWrappedDriver(), recording.driver());
+        assertSame(DriverInstrumentation.unwrap(driver), recording.driver());
+        assertSame(DriverInstrumentation.unwrap(recording.driver()), recording.driver());
+        assertTrue(driver.equals(recording.driver()));
+    }
+
+    @Test
+    public void wrapsElementsAndDriverApiParts() {
+        WebDriver driver = Page.getContext().getDriver();
+        WebElement element = driver.findElement(By.id("query"));
+        assertTrue(element instanceof WrapsElement);
+        assertTrue(((WrapsElement) element).getWrappedElement() != element);
+        driver.manage().timeouts().implicitlyWait(1, TimeUnit.SECONDS);
+
+        assertEquals(commands(instrumentation.getStatistics()), "[WebDriver.findElement, Timeouts.implicitlyWait]");
+        assertEquals(recording.count("implicitlyWait"), 1);
+    }
+
+    @Test
+    public void attributesCommandsToPageMethods() {
+        Page.get(CheckoutPage.class).confirm();
+        List<DriverInstrumentation.Statistics> statistics = instrumentation.getStatistics();
+        assertEquals(statistics.size(), 1);
+        DriverInstrumentation.Statistics confirm = statistics.get(0);
+        assertEquals(confirm.getPage(), "CheckoutPage");
+        assertEquals(confirm.getMethod(), "confirm");
+        assertEquals(confirm.getCommand(), "WebDriver.getTitle");
+        assertEquals(confirm.getCount(), 2);
+        assertTrue(confirm.getMedian(TimeUnit.NANOSECONDS) <= confirm.getMax(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void attributesOtherCommandsToFirstCallerOutsideLibraries() {
+        new CheckoutSteps().pay(Page.getContext().getDriver());
+        DriverInstrumentation.Statistics pay = instrumentation.getStatistics().get(0);
+        assertEquals(pay.toString().substring(0, pay.toString().indexOf('[')),
+                "CheckoutSteps.pay WebDriver.getCurrentUrl");
+    }
+
+    @Test
+    public void reportsAndResetsStatistics() {
+        Page.get(CheckoutPage.class).confirm();
+        String[] lines = instrumentation.report().split("\n");
+        assertEquals(lines.length, 2);
+        assertTrue(lines[0].startsWith("page.method"));
+        assertTrue(lines[1].startsWith("CheckoutPage.confirm"));
+        assertTrue(lines[1].contains("WebDriver.getTitle"));
+        assertEquals(instrumentation.toString(), "DriverInstrumentation[commands=2]");
+
+        instrumentation.reset();
+        assertTrue(instrumentation.getStatistics().isEmpty());
+        assertEquals(instrumentation.toString(), "DriverInstrumentation[commands=0]");
+    }
+
+    private static String commands(List<DriverInstrumentation.Statistics> statistics) {
+        StringBuilder commands = new StringBuilder();
+        for (DriverInstrumentation.Statistics command : statistics) {
+            commands.append(commands.length() == 0 ? "[" : ", ").append(command.getCommand());
+        }
+        return commands.append(']').toString();
+    }
+}
@@ -0,0 +1,246 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class DriverPoolTest {
+
+    private final List<WebDriver> created = new ArrayList<>();
+    private DriverPool pool;
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setUp() {
+        created.clear();
+        pool = new DriverPool(new DriverFactory() {
+            @Override
+            public WebDriver create() {
+                WebDriver driver = new RecordingDriver().driver();
+                synchronized (created) {
+                    created.add(driver);
+                }
+                return driver;
+            }
+        }, 2);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executor.shutdownNow();
+        Page.detach();
+        pool.close();
+    }
+
+    @Test
+    public void reusesReleasedSessions() {
+        WebDriver first = pool.lease();
+        pool.release(first);
+        assertSame(pool.lease(), first);
+        assertEquals(created.size(), 1);
+        assertEquals(pool.getLeaseCount(), 2);
+        assertEquals(pool.getReuseCount(), 1);
+        assertEquals(pool.getSessionCount(), 1);
+    }
+
+    @Test
+    public void resetsReleasedSessions() {
+        WebDriver driver = pool.lease();
+        driver.get("http://shop/cart");
+        pool.release(driver);
+        RecordingDriver recording = RecordingDriver.of(driver);
+        assertEquals(driver.getCurrentUrl(), "about:blank");
+        assertEquals(recording.count("executeScript"), 1);
+        assertEquals(recording.count("deleteAllCookies"), 1);
+        assertEquals(recording.count("get"), 2);
+    }
+
+    @Test
+    public void prewarmsUpToSessionCap() {
+        pool.prewarm(5);
+        assertEquals(created.size(), 2);
+        assertEquals(pool.getIdleCount(), 2);
+        pool.lease();
+        pool.lease();
+        assertEquals(created.size(), 2);
+    }
+
+    @Test
+    public void failsToLeaseBeyondSessionCap() {
+        pool.lease();
+        pool.lease();
+        try {
+            pool.lease(20, TimeUnit.MILLISECONDS);
+            fail("Leased more sessions than the cap");
+        } catch (IllegalStateException expected) {
+            assertEquals(created.size(), 2);
+        }
+    }
+
+    @Test(timeOut = 5000)
+    public void waitsForReleasedSession() throws Exception {
+        WebDriver first = pool.lease();
+        pool.lease();
+        Future<WebDriver> waiting = leaseInBackground();
+        pool.release(first);
+        assertSame(waiting.get(), first);
+    }
+
+    @Test(timeOut = 5000)
+    public void replacesSessionDiscardedWhileWaiting() throws Exception {
+        WebDriver first = pool.lease();
+        pool.lease();
+        Future<WebDriver> waiting = leaseInBackground();
+        first.quit();
+        pool.release(first);
+        WebDriver replacement = waiting.get();
+        assertNotSame(replacement, first);
+        assertEquals(created.size(), 3);
+        assertEquals(pool.getSessionCount(), 2);
+    }
+
+    @Test(timeOut = 5000)
+    public void failsWaitingLeaseOnClose() throws Exception {
+        WebDriver first = pool.lease();
+        pool.lease();
+        Future<WebDriver> waiting = leaseInBackground();
+        pool.close();
+        try {
+            waiting.get();
+            fail("Leased a session from a closed pool");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException, String.valueOf(e.getCause()));
+        }
+        pool.release(first);
+        assertEquals(pool.getSessionCount(), 1);
+        assertEquals(pool.getIdleCount(), 0);
+    }
+
+    @Test
+    public void quitsIdleSessionsOnClose() {
+        WebDriver driver = pool.lease();
+        pool.release(driver);
+        pool.close();
+        assertEquals(pool.getSessionCount(), 0);
+        assertTrue(RecordingDriver.of(driver).isQuit());
+    }
+
+    @Test(timeOut = 5000)
+    public void quitsSessionReleasedWhileClosing() throws Exception {
+        final CountDownLatch resetting = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        final DriverPool slowPool = new DriverPool(new DriverFactory() {
+            @Override
+            public WebDriver create() {
+                return new RecordingDriver().driver();
+            }
+        }, 1) {
+            @Override
+            protected void reset(WebDriver driver) {
+                resetting.countDown();
+                try {
+                    closed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        final WebDriver driver = slowPool.lease();
+        Future<?> releasing = executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                slowPool.release(driver);
+            }
+        });
+        resetting.await();
+        slowPool.close();
+        closed.countDown();
+        releasing.get();
+        assertTrue(RecordingDriver.of(driver).isQuit());
+        assertEquals(slowPool.getSessionCount(), 0);
+        assertEquals(slowPool.getIdleCount(), 0);
+    }
+
+    @Test
+    public void discardsSessionFailingToReset() {
+        DriverPool failingPool = new DriverPool(new DriverFactory() {
+            @Override
+            public WebDriver create() {
+                return new RecordingDriver().driver();
+            }
+        }, 1) {
+            @Override
+            protected void reset(WebDriver driver) {
+                throw new IllegalStateException("Unable to reset");
+            }
+        };
+        WebDriver driver = failingPool.lease();
+        failingPool.release(driver);
+        assertTrue(RecordingDriver.of(driver).isQuit());
+        assertEquals(failingPool.getSessionCount(), 0);
+        assertNotSame(failingPool.lease(50, TimeUnit.MILLISECONDS), driver);
+    }
+
+    @Test
+    public void leasesSessionForPage() {
+        Page.initialize(pool);
+        try {
+            assertSame(Page.getContext().getPool(), pool);
+            assertEquals(pool.getIdleCount(), 0);
+        } finally {
+            Page.release();
+        }
+        assertEquals(pool.getIdleCount(), 1);
+        assertEquals(pool.getLeaseCount(), 1);
+    }
+
+    @Test(timeOut = 5000)
+    public void releasesSessionOfPageInitializedAgain() {
+        DriverPool single = new DriverPool(new DriverFactory() {
+            @Override
+            public WebDriver create() {
+                return new RecordingDriver().driver();
+            }
+        }, 1);
+        Page.initialize(single);
+        WebDriver first = DriverInstrumentation.unwrap(Page.getContext().getDriver());
+        Page.initialize(single);
+        assertSame(DriverInstrumentation.unwrap(Page.getContext().getDriver()), first);
+        assertEquals(single.getLeaseCount(), 2);
+        Page.initialize(new RecordingDriver().driver());
+        assertEquals(single.getIdleCount(), 1);
+        Page.release();
+        single.close();
+    }
+
+    private Future<WebDriver> leaseInBackground() throws InterruptedException {
+        Future<WebDriver> waiting = executor.submit(new Callable<WebDriver>() {
+            @Override
+            public WebDriver call() {
+                return pool.lease();
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(waiting.isDone());
+        return waiting;
+    }
+}
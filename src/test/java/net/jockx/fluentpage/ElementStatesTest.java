@@ -0,0 +1,38 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ByIdOrName;
+import org.openqa.selenium.support.pagefactory.ByChained;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class ElementStatesTest {
+
+    @Test
+    public void convertsLocatorsToStrategyAndValue() {
+        assertEquals(ElementStates.toLocator(By.id("query")), Arrays.asList("id", "query"));
+        assertEquals(ElementStates.toLocator(By.name("q")), Arrays.asList("name", "q"));
+        assertEquals(ElementStates.toLocator(By.className("error")), Arrays.asList("class", "error"));
+        assertEquals(ElementStates.toLocator(By.tagName("form")), Arrays.asList("tag", "form"));
+        assertEquals(ElementStates.toLocator(By.cssSelector("button.search")), Arrays.asList("css", "button.search"));
+        assertEquals(ElementStates.toLocator(By.xpath("//div[@id='x']")), Arrays.asList("xpath", "//div[@id='x']"));
+        assertEquals(ElementStates.toLocator(By.linkText("Next")), Arrays.asList("link", "Next"));
+        assertEquals(ElementStates.toLocator(By.partialLinkText("Ne")), Arrays.asList("partialLink", "Ne"));
+        assertEquals(ElementStates.toLocator(new ByIdOrName("query")), Arrays.asList("idOrName", "query"));
+    }
+
+    @Test
+    public void keepsValuesContainingSeparators() {
+        assertEquals(ElementStates.toLocator(By.cssSelector("a[title='By.id: x']")),
+                Arrays.asList("css", "a[title='By.id: x']"));
+    }
+
+    @Test
+    public void leavesComposedLocatorsToElements() {
+        assertNull(ElementStates.toLocator(new ByChained(By.id("form"), By.tagName("input"))));
+    }
+}
@@ -0,0 +1,105 @@
+package net.jockx.fluentpage;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class FragmentMatcherTest {
+
+    @Test
+    public void findsFirstOccurrences() {
+        FragmentMatcher matcher = FragmentMatcher.of("he", "she", "his", "hers", "");
+        int[] found = matcher.find("ushers");
+        assertEquals(Arrays.toString(found), "[2, 1, -1, 2, 0]");
+        assertEquals(matcher.describe(found, false), "[his]");
+        assertEquals(matcher.describe(found, true), "[he] at 2, [she] at 1, [hers] at 2, [] at 0");
+        assertNull(FragmentMatcher.of("a").describe(new int[]{0}, false));
+    }
+
+    @Test
+    public void findsNonAsciiFragments() {
+        int[] found = FragmentMatcher.of("żółw", "ół", "łw", "ły").find("mały żółw");
+        assertEquals(Arrays.toString(found), "[5, 6, 7, 2]");
+    }
+
+    @Test
+    public void sharesAutomataOfSameFragments() {
+        assertSame(FragmentMatcher.of("cached", "fragments"), FragmentMatcher.of("cached", "fragments"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsNullFragment() {
+        FragmentMatcher.of("a", null);
+    }
+
+    @Test
+    public void evictsAutomataBeyondCachedBytes() {
+        Random random = new Random(24);
+        String[] first = manyFragments(random);
+        FragmentMatcher matcher = FragmentMatcher.of(first);
+        assertTrue(matcher.footprint() > 1 << 21, "Footprint of " + matcher.footprint());
+        for (int i = 0; i < 10; i++) {
+            FragmentMatcher.of(manyFragments(random));
+        }
+        assertNotSame(FragmentMatcher.of(first), matcher);
+    }
+
+    @Test
+    public void agreesWithIndexOf() {
+        Random random = new Random(24);
+        for (int i = 0; i < 20000; i++) {
+            String text = randomText(random, random.nextInt(40), 'a', 3);
+            String[] fragments = new String[1 + random.nextInt(6)];
+            for (int f = 0; f < fragments.length; f++) {
+                fragments[f] = randomText(random, random.nextInt(4), random.nextBoolean() ? 'a' : 'ą', 3);
+            }
+            int[] found = FragmentMatcher.of(fragments).find(text);
+            for (int f = 0; f < fragments.length; f++) {
+                assertEquals(found[f], text.indexOf(fragments[f]), "[" + fragments[f] + "] in [" + text + "]");
+            }
+        }
+    }
+
+    @Test
+    public void agreesWithIndexOfForLargeAutomata() {
+        Random random = new Random(24);
+        String[] fragments = new String[2000];
+        for (int f = 0; f < fragments.length; f++) {
+            fragments[f] = randomText(random, 1 + random.nextInt(8), 'a', 4);
+        }
+        FragmentMatcher matcher = FragmentMatcher.of(fragments);
+        for (int i = 0; i < 100; i++) {
+            String text = randomText(random, 200, 'a', 4);
+            int[] found = matcher.find(text);
+            for (int f = 0; f < fragments.length; f++) {
+                assertEquals(found[f], text.indexOf(fragments[f]), "[" + fragments[f] + "] in [" + text + "]");
+            }
+        }
+    }
+
+    /**
+     * @return fragments sharing few prefixes, making an automaton of about 6000 states with a dense table
+     */
+    private static String[] manyFragments(Random random) {
+        String[] fragments = new String[100];
+        for (int f = 0; f < fragments.length; f++) {
+            fragments[f] = randomText(random, 60, 'a', 26);
+        }
+        return fragments;
+    }
+
+    private static String randomText(Random random, int length, char first, int letters) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) (first + random.nextInt(letters)));
+        }
+        return text.toString();
+    }
+}
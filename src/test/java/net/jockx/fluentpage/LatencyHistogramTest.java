@@ -0,0 +1,78 @@
+package net.jockx.fluentpage;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void keepsSmallLatenciesExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 5; nanos++) {
+            histogram.record(nanos);
+        }
+        assertEquals(histogram.getPercentileNanos(50), 3);
+        assertEquals(histogram.getPercentileNanos(100), 5);
+        assertEquals(histogram.getCount(), 5);
+        assertEquals(histogram.getTotalNanos(), 15);
+    }
+
+    @Test
+    public void boundsPercentilesWithinEighth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1000; micros >= 1; micros--) {
+            histogram.record(micros * 1000);
+        }
+        assertWithinEighth(histogram.getPercentileNanos(50), 500000);
+        assertWithinEighth(histogram.getPercentileNanos(90), 900000);
+        assertWithinEighth(histogram.getPercentileNanos(99), 990000);
+        assertEquals(histogram.getPercentileNanos(100), 1000000);
+        assertEquals(histogram.getMaxNanos(), 1000000);
+        assertEquals(histogram.getTotalNanos(), 500500L * 1000);
+    }
+
+    @Test
+    public void reportsNothingWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.getPercentileNanos(50), 0);
+        histogram.record(1000);
+        histogram.reset();
+        assertEquals(histogram.getPercentileNanos(99), 0);
+        assertEquals(histogram.getCount(), 0);
+        assertEquals(histogram.getMaxNanos(), 0);
+    }
+
+    @Test
+    public void recordsFromManyThreads() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final long nanos = (t + 1) * 100;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        histogram.record(nanos);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(histogram.getCount(), 40000);
+        assertEquals(histogram.getTotalNanos(), 10000L * (100 + 200 + 300 + 400));
+        assertEquals(histogram.getMaxNanos(), 400);
+    }
+
+    private static void assertWithinEighth(long percentile, long actual) {
+        assertTrue(percentile >= actual && percentile <= actual + actual / 8, percentile + " for " + actual);
+    }
+}
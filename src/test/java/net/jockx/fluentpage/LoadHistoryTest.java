@@ -0,0 +1,70 @@
+package net.jockx.fluentpage;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+
+public class LoadHistoryTest {
+
+    private File directory;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("fluent-page").toFile();
+    }
+
+    @Test
+    public void keepsMovingAverages() {
+        LoadHistory history = new LoadHistory(null);
+        assertNull(history.record("SearchPage", 100));
+        LoadHistory.Entry previous = history.record("SearchPage", 200);
+        assertEquals(previous.getCount(), 1);
+        assertEquals(previous.getMean(), 100);
+        LoadHistory.Entry entry = history.get("SearchPage");
+        assertEquals(entry.getCount(), 2);
+        assertEquals(entry.getMean(), 120);
+        assertEquals(entry.getDeviation(), 20);
+    }
+
+    @Test
+    public void savesAndReadsBack() {
+        File file = new File(directory, "nested/load-history.properties");
+        LoadHistory history = new LoadHistory(file);
+        history.record("SearchPage", 100);
+        history.record("SearchPage", 200);
+        history.record("ResultsPage", 50);
+        history.save();
+
+        LoadHistory read = new LoadHistory(file);
+        assertEquals(read.get("SearchPage").toString(), "2 120 20");
+        assertEquals(read.get("ResultsPage").toString(), "1 50 0");
+        assertEquals(directory.listFiles().length, 1);
+        assertEquals(file.getParentFile().listFiles().length, 1);
+    }
+
+    @Test
+    public void ignoresMalformedEntries() throws IOException {
+        File file = new File(directory, "load-history.properties");
+        Files.write(file.toPath(), ("SearchPage=3 100 10\nResultsPage=3 100\nLoginPage=three 100 10\n")
+                .getBytes(StandardCharsets.ISO_8859_1));
+        LoadHistory history = new LoadHistory(file);
+        assertEquals(history.get("SearchPage").toString(), "3 100 10");
+        assertNull(history.get("ResultsPage"));
+        assertNull(history.get("LoginPage"));
+    }
+
+    @Test
+    public void startsEmptyWithoutFile() {
+        LoadHistory history = new LoadHistory(new File(directory, "missing.properties"));
+        assertNull(history.get("SearchPage"));
+        assertFalse(history.getFile().exists());
+    }
+}
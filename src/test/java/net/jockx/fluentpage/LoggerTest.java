@@ -0,0 +1,168 @@
+package net.jockx.fluentpage;
+
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class LoggerTest {
+
+    public static class SearchPage extends Page<SearchPage> {
+    }
+
+    private final List<String> steps = new ArrayList<>();
+    private final List<String> logged = new ArrayList<>();
+    private final PageListener listener = new PageListener() {
+        @Override
+        public void stepStarted(Kind kind, Class<?> page, String name) {
+        }
+
+        @Override
+        public void stepEnded(Kind kind, Class<?> page, String name, long startNanos, long endNanos,
+                              Throwable failure) {
+            steps.add(kind + " " + name);
+        }
+    };
+    private SearchPage page;
+
+    @BeforeMethod
+    public void setUp() throws ReflectiveOperationException {
+        Page.initialize(new RecordingDriver().driver());
+        page = Page.get(SearchPage.class);
+        enableFrom(page.logger, "debug");
+        steps.clear();
+        logged.clear();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.removeListener(listener);
+        Page.detach();
+    }
+
+    @Test
+    public void reportsCallsAtEnabledLevelsOnly() {
+        Page.addListener(listener);
+        page.logger.trace("Searching")
+                .logger.debug("Searching {}", "pages")
+                .logger.info("Found {} results", 3L)
+                .logger.trace("Found {} results", 3L);
+        assertEquals(steps, Arrays.asList("LOG debug", "LOG info"));
+        assertEquals(logged, Arrays.asList("debug Searching {}", "info Found {} results"));
+    }
+
+    @Test
+    public void leavesLoggerCallsOutOfChainTrace() throws Exception {
+        ChainTracer tracer = ChainTracer.create();
+        Page.addListener(tracer);
+        try {
+            page.logger.debug("Searching")
+                    .action("search").close();
+            assertEquals(tracer.getStepCount(), 1);
+            StringWriter trace = new StringWriter();
+            tracer.writeTo(trace);
+            assertFalse(trace.toString().contains("\"log\""), trace.toString());
+        } finally {
+            Page.removeListener(tracer);
+        }
+    }
+
+    @Test
+    public void callsSuppliersAtEnabledLevelsOnly() {
+        final List<String> supplied = new ArrayList<>();
+        MessageSupplier message = new MessageSupplier() {
+            @Override
+            public String get() {
+                supplied.add("called");
+                return "Found 3 results";
+            }
+        };
+        page.logger.trace(message)
+                .logger.trace(message, new IllegalStateException())
+                .logger.debug(message);
+        assertEquals(supplied.size(), 1);
+        assertEquals(logged, Arrays.asList("debug Found 3 results"));
+    }
+
+    @Test
+    public void boxesPrimitivesAtEnabledLevelsOnly() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            throw new SkipException("Allocated memory of threads is not measured by this JVM");
+        }
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        long thread = Thread.currentThread().getId();
+        for (int round = 0; round < 3; round++) {
+            traceAll(10000);
+        }
+        long before = allocation.getThreadAllocatedBytes(thread);
+        traceAll(100000);
+        long allocated = allocation.getThreadAllocatedBytes(thread) - before;
+        assertTrue(allocated < 100000, "allocated " + allocated + " bytes");
+        assertTrue(logged.isEmpty());
+
+        page.logger.debug("Rating {}", 4.5f)
+                .logger.debug("Grade {}", 'A')
+                .logger.debug("Total {}", 12345L);
+        assertEquals(logged, Arrays.asList("debug Rating {}", "debug Grade {}", "debug Total {}"));
+    }
+
+    private void traceAll(int calls) {
+        for (int i = 0; i < calls; i++) {
+            page.logger.trace("Row {}", 1000 + i)
+                    .logger.trace("Total {}", 100000L + i)
+                    .logger.trace("Ratio {}", 0.5 + i)
+                    .logger.trace("Rating {}", 0.5f + i)
+                    .logger.trace("Grade {}", (char) ('A' + i % 26));
+        }
+    }
+
+    /**
+     * Replaces the SLF4J logger of a page logger with one enabled from the given level up, recording every message
+     */
+    private void enableFrom(Logger<?> pageLogger, String lowest) throws ReflectiveOperationException {
+        final List<String> levels = Arrays.asList("trace", "debug", "info", "warn", "error");
+        final int threshold = levels.indexOf(lowest);
+        final Map<String, Boolean> enabled = new HashMap<>();
+        for (String level : levels) {
+            enabled.put("is" + Character.toUpperCase(level.charAt(0)) + level.substring(1) + "Enabled",
+                    levels.indexOf(level) >= threshold);
+        }
+        Object slf4j = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{org.slf4j.Logger.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        String name = method.getName();
+                        if (enabled.containsKey(name)) {
+                            return enabled.get(name);
+                        }
+                        if (levels.indexOf(name) >= threshold) {
+                            logged.add(name + " " + args[0]);
+                            return null;
+                        }
+                        return method.getName().equals("getName") ? "SearchPage" : null;
+                    }
+                });
+        Field field = Logger.class.getDeclaredField("logger");
+        field.setAccessible(true);
+        field.set(pageLogger, slf4j);
+    }
+}
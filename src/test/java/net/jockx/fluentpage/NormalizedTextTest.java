@@ -0,0 +1,63 @@
+package net.jockx.fluentpage;
+
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class NormalizedTextTest {
+
+    private static final char[] CHARACTERS = {'a', 'A', 'b', ' ', '\t', '\n', 'ß', 'İ', 'ı', 'i'};
+
+    @Test
+    public void ignoresWhitespaceAndCase() {
+        assertNull(NormalizedText.differences("  Hello \n\t World ", "hello world",
+                TextNormalization.WHITESPACE_AND_CASE));
+        assertNull(NormalizedText.differences("Hello World", "hello world", TextNormalization.CASE));
+        assertNull(NormalizedText.differences(" a  b ", "a b", TextNormalization.WHITESPACE));
+        assertNull(NormalizedText.differences(null, null, TextNormalization.WHITESPACE_AND_CASE));
+    }
+
+    @Test
+    public void describesFirstDifference() {
+        assertEquals(NormalizedText.differences("Hello  Wirld", "Hello World", TextNormalization.WHITESPACE),
+                "texts differ with WHITESPACE normalization: expected \"Hello W[o]rld\" at 7 but found "
+                        + "\"Hello  W[i]rld\" at 8");
+        assertEquals(NormalizedText.differences("abc", "abcd", TextNormalization.WHITESPACE_AND_CASE),
+                "texts differ with WHITESPACE_AND_CASE normalization: expected \"abc[d]\" at 3 but found "
+                        + "\"abc[end]\" at 3");
+        assertEquals(NormalizedText.differences(null, "a", TextNormalization.WHITESPACE_AND_CASE),
+                "expected [a] but found [null]");
+    }
+
+    @Test
+    public void agreesWithNormalizedCopies() {
+        Random random = new Random(20);
+        for (int i = 0; i < 100000; i++) {
+            String actual = randomText(random);
+            String expected = random.nextInt(4) == 0 ? actual : randomText(random);
+            for (TextNormalization normalization : TextNormalization.values()) {
+                String actualCopy = normalize(actual, normalization);
+                String expectedCopy = normalize(expected, normalization);
+                boolean equal = normalization.isIgnoringCase() ? actualCopy.equalsIgnoreCase(expectedCopy)
+                        : actualCopy.equals(expectedCopy);
+                assertEquals(NormalizedText.differences(actual, expected, normalization) == null, equal,
+                        "[" + actual + "] and [" + expected + "] with " + normalization);
+            }
+        }
+    }
+
+    private static String normalize(String text, TextNormalization normalization) {
+        return normalization.isWhitespace() ? text.trim().replaceAll("\\s+", " ") : text;
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        for (int length = random.nextInt(6); text.length() < length; ) {
+            text.append(CHARACTERS[random.nextInt(CHARACTERS.length)]);
+        }
+        return text.toString();
+    }
+}
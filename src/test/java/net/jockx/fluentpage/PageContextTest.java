@@ -0,0 +1,107 @@
+package net.jockx.fluentpage;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class PageContextTest {
+
+    public static class SearchPage extends Page<SearchPage> {
+    }
+
+    public static class ResultsPage extends Page<ResultsPage> {
+    }
+
+    private RecordingDriver recording;
+
+    @BeforeMethod
+    public void setUp() {
+        recording = new RecordingDriver();
+        Page.initialize(recording.driver());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Test
+    public void reusesCachedPages() {
+        SearchPage page = Page.get(SearchPage.class);
+        assertSame(Page.get(SearchPage.class), page);
+        Page.get(ResultsPage.class);
+        PageCache cache = Page.getCache();
+        assertEquals(cache.getMisses(), 2);
+        assertEquals(cache.getHits(), 1);
+        assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void createsPagesWithoutDriverCommands() {
+        int commands = recording.count();
+        Page.get(SearchPage.class);
+        Page.get(SearchPage.class);
+        assertEquals(recording.count(), commands);
+    }
+
+    @Test
+    public void createsNewPagesOnceInvalidated() {
+        SearchPage page = Page.get(SearchPage.class);
+        Page.getCache().invalidate(SearchPage.class);
+        assertNotSame(Page.get(SearchPage.class), page);
+        Page.getCache().invalidateAll();
+        assertEquals(Page.getCache().size(), 0);
+        Page.getCache().resetStatistics();
+        assertEquals(Page.getCache().getMisses(), 0);
+    }
+
+    @Test
+    public void startsWithEmptyCacheForNewDriver() {
+        SearchPage page = Page.get(SearchPage.class);
+        Page.initialize(new RecordingDriver().driver());
+        assertEquals(Page.getCache().size(), 0);
+        assertNotSame(Page.get(SearchPage.class), page);
+    }
+
+    @Test
+    public void bindsContextToThread() throws Exception {
+        final PageContext context = Page.getContext();
+        assertSame(Page.getContext().getDriver(), recording.driver());
+        assertNull(context.getPool());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PageContext other = executor.submit(new Callable<PageContext>() {
+                @Override
+                public PageContext call() {
+                    Page.initialize(new RecordingDriver().driver());
+                    return Page.detach();
+                }
+            }).get();
+            assertNotSame(other, context);
+            SearchPage page = executor.submit(new Callable<SearchPage>() {
+                @Override
+                public SearchPage call() {
+                    Page.attach(context);
+                    try {
+                        return Page.get(SearchPage.class);
+                    } finally {
+                        Page.detach();
+                    }
+                }
+            }).get();
+            assertSame(Page.get(SearchPage.class), page);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertSame(Page.getContext(), context);
+    }
+}
@@ -0,0 +1,101 @@
+package net.jockx.fluentpage;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+public class PageListenersTest {
+
+    public static class ResultsPage extends Page<ResultsPage> {
+    }
+
+    private final List<String> steps = new ArrayList<>();
+    private final PageListener listener = new PageListener() {
+        @Override
+        public void stepStarted(Kind kind, Class<?> page, String name) {
+        }
+
+        @Override
+        public void stepEnded(Kind kind, Class<?> page, String name, long startNanos, long endNanos,
+                              Throwable failure) {
+            steps.add(kind + " " + page.getSimpleName() + "." + name
+                    + (failure == null ? "" : " " + failure.getClass().getSimpleName()));
+        }
+    };
+
+    @BeforeMethod
+    public void setUp() {
+        Page.initialize(new RecordingDriver().driver());
+        steps.clear();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.removeListener(listener);
+        Page.detach();
+    }
+
+    @Test
+    public void startsNothingWithoutListeners() {
+        assertEquals(PageListeners.start(PageListener.Kind.ACTION, ResultsPage.class, "search"),
+                PageListeners.NOT_STARTED);
+        assertSame(Page.get(ResultsPage.class).action("search"), TracedAction.NONE);
+        TracedAction.NONE.close();
+        Page.addListener(listener);
+        PageListeners.end(PageListener.Kind.ACTION, ResultsPage.class, "search", 0, null);
+        assertEquals(steps, Arrays.asList("ACTION ResultsPage.search"));
+    }
+
+    @Test
+    public void reportsPassedFailedAndBrokenAssertions() {
+        ResultsPage page = Page.get(ResultsPage.class);
+        Page.addListener(listener);
+        page.assertion.assertTrue(true, "Not true");
+        try {
+            page.assertion.assertEquals(2, 3, "Wrong count");
+            fail("Expected a failure");
+        } catch (AssertionError expected) {
+            // reported below
+        }
+        try {
+            page.assertion.assertContains((Collection<String>) null, "result", "No result");
+            fail("Expected a null collection to break the assertion");
+        } catch (NullPointerException expected) {
+            // reported below
+        }
+        assertEquals(steps, Arrays.asList("ASSERTION ResultsPage.assertTrue",
+                "ASSERTION ResultsPage.assertEquals AssertionError",
+                "ASSERTION ResultsPage.assertContains NullPointerException"));
+    }
+
+    @Test
+    public void reportsSnapshotAssertions() {
+        DomSnapshot<ResultsPage> snapshot = Page.get(ResultsPage.class).assertion.onSnapshot();
+        Page.addListener(listener);
+        snapshot.assertNotPresent("li.result", "Results shown");
+        try {
+            snapshot.assertPresent("h1", "No heading");
+            fail("Expected a failure");
+        } catch (AssertionError expected) {
+            // reported below
+        }
+        try {
+            snapshot.assertCount("li[", 0, "Results shown");
+            fail("Expected an invalid selector");
+        } catch (IllegalArgumentException expected) {
+            // reported below
+        }
+        assertEquals(steps, Arrays.asList("ASSERTION ResultsPage.assertNotPresent",
+                "ASSERTION ResultsPage.assertPresent AssertionError",
+                "ASSERTION ResultsPage.assertCount IllegalArgumentException"));
+    }
+}
@@ -0,0 +1,139 @@
+package net.jockx.fluentpage;
+
+import net.jockx.fluentpage.scanned.SearchPage;
+import net.jockx.fluentpage.scanned.results.ResultsPage;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class PageRegistryTest {
+
+    @AfterMethod
+    public void tearDown() {
+        Page.useRegistry(null);
+        Page.detach();
+    }
+
+    @Test
+    public void scansPackageDirectories() {
+        PageRegistry registry = PageRegistry.forPackages("net.jockx.fluentpage.scanned");
+        registry.start();
+        assertEquals(new HashSet<>(registry.getRegisteredPages()),
+                new HashSet<Class<?>>(Arrays.<Class<?>>asList(SearchPage.class, ResultsPage.class)));
+    }
+
+    @Test
+    public void scansPackagesInJars() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new SkipException("No Java compiler available");
+        }
+        File directory = Files.createTempDirectory("fluent-page").toFile();
+        File source = new File(directory, "PackagedPage.java");
+        Files.write(source.toPath(), ("package net.jockx.fluentpage.packaged;\n"
+                + "public class PackagedPage extends net.jockx.fluentpage.Page<PackagedPage> {\n}\n")
+                .getBytes(StandardCharsets.UTF_8));
+        String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        assertEquals(compiler.run(null, null, null, "-d", directory.getPath(), "-cp", classPath,
+                source.getPath()), 0);
+
+        File jar = new File(directory, "pages.jar");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            for (String folder : new String[]{"net/", "net/jockx/", "net/jockx/fluentpage/",
+                    "net/jockx/fluentpage/packaged/"}) {
+                out.putNextEntry(new JarEntry(folder));
+                out.closeEntry();
+            }
+            out.putNextEntry(new JarEntry("net/jockx/fluentpage/packaged/PackagedPage.class"));
+            out.write(Files.readAllBytes(new File(directory, "net/jockx/fluentpage/packaged/PackagedPage.class")
+                    .toPath()));
+            out.closeEntry();
+        }
+
+        PageRegistry registry = PageRegistry.forPackages("net.jockx.fluentpage.packaged");
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        URL[] urls = {jar.toURI().toURL()};
+        try (URLClassLoader loader = new URLClassLoader(urls, getClass().getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            registry.start();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+        assertEquals(registry.size(), 1);
+        assertEquals(registry.getRegisteredPages().get(0).getName(), "net.jockx.fluentpage.packaged.PackagedPage");
+    }
+
+    @Test
+    public void resolvesMetadataOnce() {
+        PageRegistry registry = PageRegistry.forPackages("net.jockx.fluentpage.scanned");
+        PageMetadata<SearchPage> metadata = registry.lookup(SearchPage.class);
+        assertSame(registry.lookup(SearchPage.class), metadata);
+        assertEquals(registry.size(), 1);
+    }
+
+    @Test
+    public void registersPagesOutsideScannedPackagesOnFirstUse() {
+        PageRegistry registry = PageRegistry.forPackages("net.jockx.fluentpage.scanned.results");
+        Page.useRegistry(registry);
+        Page.initialize(new RecordingDriver().driver());
+        assertTrue(registry.getRegisteredPages().contains(ResultsPage.class));
+        assertFalse(registry.getRegisteredPages().contains(SearchPage.class));
+        assertNotNull(Page.get(SearchPage.class));
+        assertTrue(registry.getRegisteredPages().contains(SearchPage.class));
+    }
+
+    @Test
+    public void selectsElementFieldsLikeThucydides() throws Exception {
+        Page.initialize(new RecordingDriver().driver());
+        Map<String, Boolean> expected = wiredFields(Page.get(SearchPage.class));
+
+        Page.useRegistry(PageRegistry.forPackages("net.jockx.fluentpage.scanned"));
+        Page.initialize(new RecordingDriver().driver());
+        Map<String, Boolean> actual = wiredFields(Page.get(SearchPage.class));
+
+        assertEquals(actual, expected);
+        assertTrue(actual.get("header"));
+        assertTrue(actual.get("go"));
+        assertTrue(actual.get("suggestions"));
+        assertFalse(actual.get("unannotated"));
+        assertFalse(actual.get("title"));
+    }
+
+    private static Map<String, Boolean> wiredFields(Page page) throws IllegalAccessException {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> type = page.getClass(); type != Page.class; type = type.getSuperclass()) {
+            fields.addAll(Arrays.asList(type.getDeclaredFields()));
+        }
+        Map<String, Boolean> wired = new LinkedHashMap<>();
+        for (Field field : fields) {
+            field.setAccessible(true);
+            wired.put(field.getName(), field.get(page) != null);
+        }
+        return wired;
+    }
+}
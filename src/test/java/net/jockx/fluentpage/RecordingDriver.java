@@ -0,0 +1,117 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.SessionNotFoundException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link WebDriver} answering every command with an empty value and counting calls by method name, for tests that
+ * don't look up elements. Once quit, every further command fails as it would with a remote driver.
+ */
+final class RecordingDriver implements InvocationHandler {
+
+    private static final ClassLoader LOADER = RecordingDriver.class.getClassLoader();
+
+    private final ConcurrentMap<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final WebDriver driver;
+    private volatile String url = "about:blank";
+    private volatile boolean quit;
+
+    RecordingDriver() {
+        driver = (WebDriver) Proxy.newProxyInstance(LOADER, new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                this);
+    }
+
+    /**
+     * @param driver driver created by a {@link RecordingDriver}
+     * @return recorder of the driver
+     */
+    static RecordingDriver of(WebDriver driver) {
+        return (RecordingDriver) Proxy.getInvocationHandler(driver);
+    }
+
+    WebDriver driver() {
+        return driver;
+    }
+
+    /**
+     * @param method name of a method of {@link WebDriver} or of an interface it returns
+     * @return number of calls of the method
+     */
+    int count(String method) {
+        AtomicInteger count = calls.get(method);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @return total number of calls
+     */
+    int count() {
+        int total = 0;
+        for (AtomicInteger count : calls.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    boolean isQuit() {
+        return quit;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "toString":
+                return "RecordingDriver@" + Integer.toHexString(System.identityHashCode(this));
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            default:
+                break;
+        }
+        if (quit) {
+            throw new SessionNotFoundException("Session was quit before " + method.getName());
+        }
+        AtomicInteger count = calls.putIfAbsent(method.getName(), new AtomicInteger(1));
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        switch (method.getName()) {
+            case "get":
+                url = (String) args[0];
+                return null;
+            case "getCurrentUrl":
+                return url;
+            case "quit":
+                quit = true;
+                return null;
+            case "findElements":
+                return Collections.emptyList();
+            default:
+                break;
+        }
+        Class<?> returnType = method.getReturnType();
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        if (returnType == String.class) {
+            return "";
+        }
+        if (returnType.isInterface() && returnType.getName().startsWith("org.openqa.selenium")) {
+            return Proxy.newProxyInstance(LOADER, new Class<?>[]{returnType}, this);
+        }
+        return null;
+    }
+}
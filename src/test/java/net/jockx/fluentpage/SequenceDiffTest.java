@@ -0,0 +1,116 @@
+package net.jockx.fluentpage;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class SequenceDiffTest {
+
+    @Test
+    public void findsNoDifferenceInEqualSequences() {
+        assertNull(SequenceDiff.differences(Arrays.asList(1, 2, 3), Arrays.asList(1, 2, 3)));
+        assertNull(SequenceDiff.differences(new ArrayList<>(), new ArrayList<>()));
+        assertNull(SequenceDiff.differences(Arrays.asList(new Object[]{new int[]{1}}),
+                Arrays.asList(new Object[]{new int[]{1}})));
+        assertNull(SequenceDiff.differences((Collection<?>) null, null));
+    }
+
+    @Test
+    public void describesFirstDifferenceWithContext() {
+        List<Integer> expected = range(0, 20);
+        List<Integer> actual = range(0, 20);
+        actual.set(10, -1);
+        assertEquals(SequenceDiff.differences(actual, expected), "Collections differ at element [10]: expected [10] "
+                + "but found [-1]\n  expected: ..., 7, 8, 9, [10], 11, 12, 13, ..."
+                + "\n  actual:   ..., 7, 8, 9, [-1], 11, 12, 13, ...");
+    }
+
+    @Test
+    public void describesShorterSequence() {
+        assertEquals(SequenceDiff.differences(Arrays.asList(1, 2).iterator(), Arrays.asList(1, 2, 3).iterator(),
+                "Iterators"), "Iterators differ at element [2]: expected [3] but found end"
+                + "\n  expected: 1, 2, [3], end\n  actual:   1, 2, end");
+        assertEquals(SequenceDiff.differences(Arrays.asList(1, 2, 3), Arrays.asList(1, 2)),
+                "Collections differ in size: expected 2 but found 3; Collections differ at element [2]: expected end"
+                        + " but found [3]\n  expected: 1, 2, end\n  actual:   1, 2, [3], end");
+    }
+
+    @Test
+    public void describesNullSequence() {
+        assertEquals(SequenceDiff.differences(null, (Iterable<?>) Arrays.asList(1)),
+                "Iterables not equal: expected [[1]] but found [null]");
+    }
+
+    @Test
+    public void stopsAtFirstDifference() {
+        CountingIterator actual = new CountingIterator(1000);
+        CountingIterator expected = new CountingIterator(1000);
+        expected.differAt = 5;
+        assertTrue(SequenceDiff.differences(actual, expected, "Iterators").startsWith(
+                "Iterators differ at element [5]"));
+        assertEquals(actual.produced, 6 + SequenceDiff.CONTEXT);
+    }
+
+    @Test
+    public void agreesWithListEquality() {
+        Random random = new Random(8);
+        for (int i = 0; i < 10000; i++) {
+            List<Integer> actual = randomList(random);
+            List<Integer> expected = randomList(random);
+            String differences = SequenceDiff.differences(actual, expected);
+            assertEquals(differences == null, actual.equals(expected), actual + " and " + expected);
+            differences = SequenceDiff.differences(actual.iterator(), actual.iterator(), "Iterators");
+            assertNull(differences);
+        }
+    }
+
+    private static List<Integer> randomList(Random random) {
+        List<Integer> list = new ArrayList<>();
+        for (int length = random.nextInt(5); list.size() < length; ) {
+            list.add(random.nextInt(3));
+        }
+        return list;
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> range = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            range.add(i);
+        }
+        return range;
+    }
+
+    private static final class CountingIterator implements Iterator<Integer> {
+        private final int length;
+        private int produced;
+        private int differAt = -1;
+
+        private CountingIterator(int length) {
+            this.length = length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return produced < length;
+        }
+
+        @Override
+        public Integer next() {
+            return produced == differAt ? -produced++ - 1 : produced++;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
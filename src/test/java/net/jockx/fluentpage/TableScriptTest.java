@@ -0,0 +1,82 @@
+package net.jockx.fluentpage;
+
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Runs {@link Table#SCRIPT} against tables modelled with plain objects, where the JVM provides a JavaScript engine
+ */
+public class TableScriptTest {
+
+    private static final String DOM = "function cell(tag, text) {\n"
+            + "  return {tagName: tag.toUpperCase(), textContent: text};\n"
+            + "}\n"
+            + "function row(tag, texts) {\n"
+            + "  var r = {cells: []};\n"
+            + "  for (var i = 0; i < texts.length; i++) r.cells.push(cell(tag, texts[i]));\n"
+            + "  return r;\n"
+            + "}\n"
+            + "function section(rows) {\n"
+            + "  var s = {rows: rows};\n"
+            + "  for (var i = 0; i < rows.length; i++) rows[i].parentNode = s;\n"
+            + "  return s;\n"
+            + "}\n"
+            + "function table(head, body, foot) {\n"
+            + "  var t = {tHead: head, tFoot: foot, rows: []};\n"
+            + "  var sections = [head, body, foot];\n"
+            + "  for (var i = 0; i < sections.length; i++) if (sections[i]) t.rows = t.rows.concat(sections[i].rows);\n"
+            + "  return t;\n"
+            + "}\n"
+            + "function read() {\n" + Table.SCRIPT + "\n}\n";
+
+    private ScriptEngine engine;
+
+    @BeforeClass
+    public void setUp() throws ScriptException {
+        engine = new ScriptEngineManager().getEngineByName("javascript");
+        if (engine == null) {
+            throw new SkipException("No JavaScript engine available");
+        }
+        engine.eval(DOM);
+    }
+
+    @Test
+    public void takesHeaderFromLastRowOfHead() throws ScriptException {
+        assertEquals(read("table(section([row('th', ['Results', '']), row('th', ['Name', 'Price'])]),"
+                        + " section([row('td', ['Apple', ' 1.50\\n']), row('td', ['Banana', '0.99'])]),"
+                        + " section([row('td', ['Total', '2.49'])]))"),
+                "[[\"Name\",\"Price\"],[[\"Apple\",\"Banana\"],[\"1.50\",\"0.99\"]],2]");
+    }
+
+    @Test
+    public void takesHeaderFromFirstRowOfHeaderCells() throws ScriptException {
+        assertEquals(read("table(null, section([row('th', ['Name']), row('td', ['Apple'])]), null)"),
+                "[[\"Name\"],[[\"Apple\"]],1]");
+        assertEquals(read("table(null, section([row('td', ['Apple']), row('th', ['Banana'])]), null)"),
+                "[[],[[\"Apple\",\"Banana\"]],2]");
+    }
+
+    @Test
+    public void padsShorterRows() throws ScriptException {
+        assertEquals(read("table(null, section([row('th', ['Name', 'Price', 'Stock']),"
+                        + " row('td', ['Apple']), row('td', ['Banana', '0.99', '3', 'extra'])]), null)"),
+                "[[\"Name\",\"Price\",\"Stock\"],"
+                        + "[[\"Apple\",\"Banana\"],[\"\",\"0.99\"],[\"\",\"3\"],[\"\",\"extra\"]],2]");
+    }
+
+    @Test
+    public void countsRowsWithoutCells() throws ScriptException {
+        assertEquals(read("table(null, section([row('td', []), row('td', [])]), null)"), "[[],[],2]");
+    }
+
+    private String read(String table) throws ScriptException {
+        return String.valueOf(engine.eval("JSON.stringify(read.call(null, " + table + "))"));
+    }
+}
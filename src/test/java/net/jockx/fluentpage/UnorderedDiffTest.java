@@ -0,0 +1,75 @@
+package net.jockx.fluentpage;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class UnorderedDiffTest {
+
+    @Test
+    public void findsNoDifferenceInReorderedElements() {
+        assertNull(UnorderedDiff.differences(new Object[]{1, 2, 2, null}, new Object[]{2, null, 1, 2}));
+        assertNull(UnorderedDiff.differences(new Object[0], new Object[0]));
+    }
+
+    @Test
+    public void describesMissingAndUnexpectedElements() {
+        assertEquals(UnorderedDiff.differences(new Object[]{"a", "b", "b", "d"}, new Object[]{"a", "b", "c", "c"}),
+                "expected 4 elements in any order but found 4; missing 2: [c] x2; unexpected 2: [b], [d]");
+    }
+
+    @Test
+    public void listsFirstElementsOnly() {
+        Object[] expected = new Object[15];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i;
+        }
+        assertEquals(UnorderedDiff.differences(new Object[0], expected), "expected 15 elements in any order but "
+                + "found 0; missing 15: [0], [1], [2], [3], [4], [5], [6], [7], [8], [9] and 5 more");
+    }
+
+    @Test
+    public void countsLargeArraysInParallel() {
+        Object[] expected = new Object[UnorderedDiff.PARALLEL_THRESHOLD];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i % 1000;
+        }
+        List<Object> shuffled = new ArrayList<>(Arrays.asList(expected));
+        Collections.shuffle(shuffled, new Random(22));
+        Object[] actual = shuffled.toArray();
+        assertNull(UnorderedDiff.differences(actual, expected));
+        actual[0] = -1;
+        assertEquals(UnorderedDiff.differences(actual, expected), "expected " + expected.length + " elements in any "
+                + "order but found " + actual.length + "; missing 1: [" + shuffled.get(0) + "]; unexpected 1: [-1]");
+    }
+
+    @Test
+    public void agreesWithSortedComparison() {
+        Random random = new Random(22);
+        for (int i = 0; i < 10000; i++) {
+            Integer[] actual = randomArray(random);
+            Integer[] expected = randomArray(random);
+            Integer[] sortedActual = actual.clone();
+            Integer[] sortedExpected = expected.clone();
+            Arrays.sort(sortedActual);
+            Arrays.sort(sortedExpected);
+            assertEquals(UnorderedDiff.differences(actual, expected) == null,
+                    Arrays.equals(sortedActual, sortedExpected), Arrays.toString(actual) + Arrays.toString(expected));
+        }
+    }
+
+    private static Integer[] randomArray(Random random) {
+        Integer[] array = new Integer[random.nextInt(5)];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(3);
+        }
+        return array;
+    }
+}
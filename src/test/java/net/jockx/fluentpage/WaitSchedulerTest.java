@@ -0,0 +1,167 @@
+package net.jockx.fluentpage;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class WaitSchedulerTest {
+
+    public static class SearchPage extends Page<SearchPage> {
+    }
+
+    /**
+     * Met on given poll, recording the time of each poll
+     */
+    private static class Condition implements ExpectedCondition<Boolean> {
+        private final int metOn;
+        private final List<Long> polls = new ArrayList<>();
+
+        private Condition(int metOn) {
+            this.metOn = metOn;
+        }
+
+        @Override
+        public Boolean apply(WebDriver driver) {
+            polls.add(System.nanoTime());
+            return polls.size() >= metOn;
+        }
+
+        private long millisBetween(int first, int second) {
+            return TimeUnit.NANOSECONDS.toMillis(polls.get(second) - polls.get(first));
+        }
+    }
+
+    private WaitScheduler scheduler;
+    private SearchPage page;
+
+    @BeforeMethod
+    public void setUp() {
+        scheduler = WaitScheduler.inMemory();
+        Page.initialize(new RecordingDriver().driver());
+        page = Page.get(SearchPage.class);
+        page.setWaitForTimeout(2000);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        Page.detach();
+    }
+
+    @Test
+    public void pollsRightAwayWithoutHistory() {
+        Condition condition = new Condition(2);
+        assertTrue(scheduler.await(page, condition));
+        assertEquals(scheduler.getPollCount(), 2);
+        assertTrue(condition.millisBetween(0, 1) < 400, condition.millisBetween(0, 1) + " ms");
+    }
+
+    @Test
+    public void pollsAgainOnceMostOfLearnedLoadTimePassed() {
+        scheduler.record(page, 1000);
+        Condition condition = new Condition(2);
+        scheduler.await(page, condition);
+        long waited = condition.millisBetween(0, 1);
+        assertTrue(waited >= 790 && waited < 1000, waited + " ms");
+    }
+
+    @Test
+    public void backsOffToMaximalInterval() {
+        WaitScheduler backingOff = scheduler.withPollingIntervals(20, 60, TimeUnit.MILLISECONDS);
+        Condition condition = new Condition(8);
+        backingOff.await(page, condition);
+        assertTrue(condition.millisBetween(0, 1) >= 19, condition.millisBetween(0, 1) + " ms");
+        assertTrue(condition.millisBetween(6, 7) >= 59, condition.millisBetween(6, 7) + " ms");
+        assertTrue(condition.millisBetween(0, 7) >= 20 + 30 + 45 + 4 * 60 - 1, condition.millisBetween(0, 7) + " ms");
+    }
+
+    @Test
+    public void treatsMissingElementsAsUnmet() {
+        final int[] polls = new int[1];
+        String value = scheduler.await(page, new ExpectedCondition<String>() {
+            @Override
+            public String apply(WebDriver driver) {
+                if (++polls[0] == 1) {
+                    throw new NoSuchElementException("Not yet");
+                }
+                return polls[0] == 2 ? null : "found";
+            }
+        });
+        assertEquals(value, "found");
+        assertEquals(polls[0], 3);
+    }
+
+    @Test
+    public void reportsTimeoutWithPollCount() {
+        page.setWaitForTimeout(200);
+        try {
+            scheduler.await(page, new Condition(Integer.MAX_VALUE));
+            fail("Condition was met");
+        } catch (TimeoutException e) {
+            assertTrue(e.getMessage().startsWith("SearchPage not loaded after 200 ms waiting for "), e.getMessage());
+            assertTrue(e.getMessage().contains(" polls)"), e.getMessage());
+        }
+        assertEquals(scheduler.getSlowLoadCount(), 1);
+    }
+
+    @Test
+    public void warnsAboutLoadsMuchSlowerThanUsual() {
+        for (int i = 0; i < 5; i++) {
+            scheduler.record(page, 100);
+        }
+        scheduler.record(page, 120);
+        assertEquals(scheduler.getSlowLoadCount(), 0);
+        scheduler.record(page, 1000);
+        assertEquals(scheduler.getSlowLoadCount(), 1);
+    }
+
+    @Test
+    public void needsEnoughSamplesBeforeWarning() {
+        scheduler.record(page, 100);
+        scheduler.record(page, 1000);
+        assertEquals(scheduler.getSlowLoadCount(), 0);
+    }
+
+    @Test
+    public void recordsOutermostSuccessfulLoadsOnly() {
+        long start = scheduler.startLoad();
+        assertEquals(scheduler.startLoad(), -1);
+        scheduler.endLoad(page, -1, true);
+        assertEquals(scheduler.getExpectedLoadMillis(SearchPage.class), -1);
+        scheduler.endLoad(page, start, true);
+        assertTrue(scheduler.getExpectedLoadMillis(SearchPage.class) >= 0);
+
+        WaitScheduler failing = WaitScheduler.inMemory();
+        failing.endLoad(page, failing.startLoad(), false);
+        assertEquals(failing.getExpectedLoadMillis(SearchPage.class), -1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsDecreasingIntervals() {
+        scheduler.withPollingIntervals(100, 50, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void sharesHistoryOfSameFile() throws Exception {
+        File file = new File(Files.createTempDirectory("fluent-page").toFile(), "load-history.properties");
+        WaitScheduler first = WaitScheduler.withHistory(file);
+        WaitScheduler second = WaitScheduler.withHistory(new File(file.getPath()));
+        first.record(page, 300);
+        assertEquals(second.getExpectedLoadMillis(SearchPage.class), 300);
+        second.save();
+        assertTrue(file.isFile());
+    }
+}
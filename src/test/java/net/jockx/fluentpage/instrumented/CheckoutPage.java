@@ -0,0 +1,12 @@
+package net.jockx.fluentpage.instrumented;
+
+import net.jockx.fluentpage.Page;
+
+public class CheckoutPage extends Page<CheckoutPage> {
+
+    public CheckoutPage confirm() {
+        getDriver().getTitle();
+        getDriver().getTitle();
+        return this;
+    }
+}
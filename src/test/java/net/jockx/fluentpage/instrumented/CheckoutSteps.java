@@ -0,0 +1,10 @@
+package net.jockx.fluentpage.instrumented;
+
+import org.openqa.selenium.WebDriver;
+
+public class CheckoutSteps {
+
+    public void pay(WebDriver driver) {
+        driver.getCurrentUrl();
+    }
+}
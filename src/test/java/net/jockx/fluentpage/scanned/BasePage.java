@@ -0,0 +1,11 @@
+package net.jockx.fluentpage.scanned;
+
+import net.jockx.fluentpage.Page;
+import net.thucydides.core.annotations.findby.FindBy;
+import net.thucydides.core.pages.WebElementFacade;
+
+public abstract class BasePage<T extends BasePage<T>> extends Page<T> {
+
+    @FindBy(css = "header")
+    WebElementFacade header;
+}
@@ -0,0 +1,4 @@
+package net.jockx.fluentpage.scanned;
+
+public class Navigation {
+}
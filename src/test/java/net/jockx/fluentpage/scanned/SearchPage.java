@@ -0,0 +1,25 @@
+package net.jockx.fluentpage.scanned;
+
+import net.thucydides.core.annotations.findby.FindBy;
+import net.thucydides.core.pages.WebElementFacade;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+public class SearchPage extends BasePage<SearchPage> {
+
+    @FindBy(css = "#query")
+    WebElementFacade query;
+
+    @org.openqa.selenium.support.FindBy(id = "submit")
+    WebElement submit;
+
+    WebElement go;
+
+    @FindBy(css = ".suggestion")
+    List<WebElement> suggestions;
+
+    List<WebElement> unannotated;
+
+    String title;
+}
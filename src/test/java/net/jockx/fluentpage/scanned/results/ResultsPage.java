@@ -0,0 +1,11 @@
+package net.jockx.fluentpage.scanned.results;
+
+import net.jockx.fluentpage.Page;
+import net.thucydides.core.annotations.findby.FindBy;
+import net.thucydides.core.pages.WebElementFacade;
+
+public class ResultsPage extends Page<ResultsPage> {
+
+    @FindBy(css = ".result")
+    WebElementFacade first;
+}